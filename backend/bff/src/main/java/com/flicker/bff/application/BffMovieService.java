@@ -1,30 +1,44 @@
 package com.flicker.bff.application;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flicker.bff.common.module.exception.RestApiException;
 import com.flicker.bff.common.module.response.ResponseDto;
 import com.flicker.bff.common.module.status.StatusCode;
 import com.flicker.bff.dto.movie.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
+import java.util.Optional;
 
 
 @Service
 @RequiredArgsConstructor
 public class BffMovieService {
 
+    // 하위 서비스 응답 타입 (응답을 data 타입까지 한 번에 역직렬화)
+    private static final ParameterizedTypeReference<ResponseDto<List<MovieListResponse>>> MOVIE_LIST_TYPE = new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ResponseDto<List<Integer>>> MOVIE_SEQ_LIST_TYPE = new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ResponseDto<MovieDetailResponse>> MOVIE_DETAIL_TYPE = new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ResponseDto<UserMovieDetailResponse>> USER_MOVIE_DETAIL_TYPE = new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ResponseDto<List<UserActionResponse>>> USER_ACTION_LIST_TYPE = new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ResponseDto<FavoriteMovieListResponse>> FAVORITE_MOVIE_LIST_TYPE = new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ResponseDto<RecommendActorResponse>> RECOMMEND_ACTOR_TYPE = new ParameterizedTypeReference<>() {};
+
     private final Util util; // Util 클래스 의존성 주입
 
-    private final ObjectMapper objectMapper; // ObjectMapper 클래스 의존성 주입
+    private final SharedResponseCache sharedResponseCache; // 모든 사용자에게 같은 응답을 주는 엔드포인트의 응답 캐시
+
+    private final DownstreamComposer downstreamComposer; // 하위 서비스 호출 조합 (동시 실행, 브랜치별 제한 시간)
+
+    private final RecommendationPipeline recommendationPipeline; // 추천 서버 호출 -> 비선호 영화 제외 -> 영화 정보 조회 공통 경로
 
     @Value("${movie.baseurl}")
     private String movieBaseUrl; // 영화 서버 API의 기본 URL
@@ -32,8 +46,25 @@ public class BffMovieService {
     @Value("${user-review.baseurl}")
     private String userBaseUrl; // 사용자-리뷰 서버 API의 기본 URL
 
-    @Value("${recommend.baseurl}")
-    private String recommendBaseUrl; // 추천서버 API의 기본 URL
+    // application.properties에서 설정된 영화 상세 조회 브랜치별 제한 시간 (밀리초)
+    @Value("${bff.movie-detail.movie-timeout-millis:3000}")
+    private long movieDetailTimeoutMillis;
+
+    @Value("${bff.movie-detail.user-timeout-millis:3000}")
+    private long userMovieDetailTimeoutMillis;
+
+    @Value("${bff.movie-detail.similar-movies-timeout-millis:1500}")
+    private long similarMoviesTimeoutMillis;
+
+    // application.properties에서 설정된 응답 캐시 TTL (초)
+    @Value("${bff.response-cache.home-list-ttl-seconds:300}")
+    private long homeListCacheTtlSeconds;
+
+    @Value("${bff.response-cache.top-rating-ttl-seconds:3600}")
+    private long topRatingCacheTtlSeconds;
+
+    @Value("${bff.response-cache.movie-ttl-seconds:60}")
+    private long movieCacheTtlSeconds;
 
 
     public Mono<ResponseEntity<ResponseDto>> createMovie(MovieCreateRequest request) {
@@ -79,264 +110,189 @@ public class BffMovieService {
         return util.sendPutRequestAsync(movieBaseUrl, path, request);
     }
 
-    public Mono<ResponseEntity<ResponseDto>> getMovieList(int page, int size) {
+    public Mono<ResponseEntity<byte[]>> getMovieList(int page, int size) {
         // 1. 외부 API의 경로를 설정합니다.
         String path = util.getUri("/list/" + page + "/" + size);
-        // 2. 비동기 방식으로 GET 요청을 외부 API에 보냅니다.
-        return util.sendGetRequestAsync(movieBaseUrl, path);
+        // 2. 비동기 방식으로 GET 요청을 외부 API에 보내고, 응답은 변환하지 않고 그대로 전달합니다.
+        return util.sendGetRequestRaw(movieBaseUrl, path);
     }
 
-    public Mono<ResponseEntity<ResponseDto>> getMovieListByGenre(String genre, int page, int size) {
+    public Mono<ResponseEntity<byte[]>> getMovieListByGenre(String genre, int page, int size) {
         // 1. 외부 API의 경로를 설정합니다.
         String path = util.getUri("/list/genre/" + genre + "/" + page + "/" + size);
-        // 2. 비동기 방식으로 GET 요청을 외부 API에 보냅니다.
-        return util.sendGetRequestAsync(movieBaseUrl, path);
+        // 2. 비동기 방식으로 GET 요청을 외부 API에 보내고, 응답은 변환하지 않고 그대로 전달합니다.
+        return util.sendGetRequestRaw(movieBaseUrl, path);
     }
 
-    public Mono<ResponseEntity<ResponseDto>> getMovieListByActor(String actorName, int page, int size) {
+    public Mono<ResponseEntity<byte[]>> getMovieListByActor(String actorName, int page, int size) {
         // 1. 외부 API의 경로를 설정합니다.
         String path = util.getUri("/list/actor/" + actorName + "/" + page + "/" + size);
-        // 2. 비동기 방식으로 GET 요청을 외부 API에 보냅니다.
-        return util.sendGetRequestAsync(movieBaseUrl, path);
+        // 2. 비동기 방식으로 GET 요청을 외부 API에 보내고, 응답은 변환하지 않고 그대로 전달합니다.
+        return util.sendGetRequestRaw(movieBaseUrl, path);
     }
 
-    public Mono<ResponseEntity<ResponseDto>> getMovieListByCountry(String country, int page, int size) {
+    public Mono<ResponseEntity<byte[]>> getMovieListByCountry(String country, int page, int size) {
         // 1. 외부 API의 경로를 설정합니다.
         String path = util.getUri("/list/country/" + country + "/" + page + "/" + size);
-        // 2. 비동기 방식으로 GET 요청을 외부 API에 보냅니다.
-        return util.sendGetRequestAsync(movieBaseUrl, path);
+        // 2. 비동기 방식으로 GET 요청을 외부 API에 보내고, 응답은 변환하지 않고 그대로 전달합니다.
+        return util.sendGetRequestRaw(movieBaseUrl, path);
     }
 
-    public Mono<ResponseEntity<ResponseDto>> getMovieListByYear(int year, int page, int size) {
+    public Mono<ResponseEntity<byte[]>> getMovieListByYear(int year, int page, int size) {
         // 1. 외부 API의 경로를 설정합니다.
         String path = util.getUri("/list/year/" + year + "/" + page + "/" + size);
-        // 2. 비동기 방식으로 GET 요청을 외부 API에 보냅니다.
-        return util.sendGetRequestAsync(movieBaseUrl, path);
+        // 2. 비동기 방식으로 GET 요청을 외부 API에 보내고, 응답은 변환하지 않고 그대로 전달합니다.
+        return util.sendGetRequestRaw(movieBaseUrl, path);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getMovieListByCursor(String cursor, int size) {
+        // 1. 외부 API의 경로를 설정합니다.
+        String path = util.getUri(cursorPath("/list/cursor/" + size, cursor));
+        // 2. 비동기 방식으로 GET 요청을 외부 API에 보내고, 응답은 변환하지 않고 그대로 전달합니다.
+        return util.sendGetRequestRaw(movieBaseUrl, path);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getMovieListByGenreByCursor(String genre, String cursor, int size) {
+        // 1. 외부 API의 경로를 설정합니다.
+        String path = util.getUri(cursorPath("/list/genre/" + genre + "/cursor/" + size, cursor));
+        // 2. 비동기 방식으로 GET 요청을 외부 API에 보내고, 응답은 변환하지 않고 그대로 전달합니다.
+        return util.sendGetRequestRaw(movieBaseUrl, path);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getMovieListByActorByCursor(String actorName, String cursor, int size) {
+        // 1. 외부 API의 경로를 설정합니다.
+        String path = util.getUri(cursorPath("/list/actor/" + actorName + "/cursor/" + size, cursor));
+        // 2. 비동기 방식으로 GET 요청을 외부 API에 보내고, 응답은 변환하지 않고 그대로 전달합니다.
+        return util.sendGetRequestRaw(movieBaseUrl, path);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getMovieListByCountryByCursor(String country, String cursor, int size) {
+        // 1. 외부 API의 경로를 설정합니다.
+        String path = util.getUri(cursorPath("/list/country/" + country + "/cursor/" + size, cursor));
+        // 2. 비동기 방식으로 GET 요청을 외부 API에 보내고, 응답은 변환하지 않고 그대로 전달합니다.
+        return util.sendGetRequestRaw(movieBaseUrl, path);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getMovieListByYearByCursor(int year, String cursor, int size) {
+        // 1. 외부 API의 경로를 설정합니다.
+        String path = util.getUri(cursorPath("/list/year/" + year + "/cursor/" + size, cursor));
+        // 2. 비동기 방식으로 GET 요청을 외부 API에 보내고, 응답은 변환하지 않고 그대로 전달합니다.
+        return util.sendGetRequestRaw(movieBaseUrl, path);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getMovieListByFilter(String genre, String country, Integer year, int page, int size) {
+        // 1. 외부 API의 경로를 설정합니다. (값이 있는 필터만 쿼리 파라미터로 추가)
+        String path = util.getUri(UriComponentsBuilder.fromPath("/list/filter/" + page + "/" + size)
+                .queryParamIfPresent("genre", Optional.ofNullable(genre))
+                .queryParamIfPresent("country", Optional.ofNullable(country))
+                .queryParamIfPresent("year", Optional.ofNullable(year))
+                .build()
+                .toUriString());
+        // 2. 비동기 방식으로 GET 요청을 외부 API에 보내고, 응답은 변환하지 않고 그대로 전달합니다.
+        return util.sendGetRequestRaw(movieBaseUrl, path);
+    }
+
+    // 커서가 있으면 쿼리 파라미터로 추가합니다. (커서는 URL-safe Base64 문자열)
+    private String cursorPath(String path, String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return path;
+        }
+        return path + "?cursor=" + cursor;
     }
 
     public Mono<ResponseEntity<ResponseDto>> getMovieListBySearch(String keyword, int userSeq, int page, int size) {
-        // 1. 검색 결과 가져오기
+        // 1. 검색 결과와 사용자의 비선호 영화 목록을 동시에 가져오기
         String path = util.getUri("/list/search/" + keyword + "/" + userSeq + "/" + page + "/" + size);
-        return util.sendGetRequestAsync(movieBaseUrl, path)
-                .flatMap(getResponse -> {
-                    ResponseDto searchResponseDto;
-                    try {
-                        searchResponseDto = Objects.requireNonNull(getResponse.getBody());
-                    } catch (Exception e) {
-                        return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "검색 영화 목록 Body를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                    }
-                    // 상태 코드가 성공이 아닌 경우 처리
-                    if (searchResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                        return Mono.error(new RestApiException(
-                                StatusCode.of(searchResponseDto.getHttpStatus(), searchResponseDto.getServiceStatus(), searchResponseDto.getMessage()),
-                                searchResponseDto.getData()
-                        ));
-                    }
-                    List<MovieListResponse> searchMovieListResponses;
-                    try {
-                        // searchResponseDto의 데이터 필드를 List<MovieListResponse>로 변환
-                        searchMovieListResponses = objectMapper.convertValue(searchResponseDto.getData(), new TypeReference<List<MovieListResponse>>() {
-                        });
-                    } catch (Exception e) {
-                        return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "검색 영화 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                    }
+        Mono<List<MovieListResponse>> searchMovieList = util.sendGetRequestForData(movieBaseUrl, path, MOVIE_LIST_TYPE)
+                .defaultIfEmpty(Collections.emptyList());
+        return Mono.zip(searchMovieList, recommendationPipeline.unlikeMovieSeqs(userSeq))
+                .flatMap(tuple -> {
+                    List<MovieListResponse> searchMovieListResponses = tuple.getT1();
                     // 검색 결과가 없을 경우 처리
-                    if (searchMovieListResponses == null || searchMovieListResponses.isEmpty()) {
+                    if (searchMovieListResponses.isEmpty()) {
                         return Mono.just(ResponseDto.response(StatusCode.NO_SUCH_ELEMENT, "검색 결과가 없습니다."));
                     }
-                    // 2. 검색 한 영화와 추천서버에서 연관 영화 가져오기
+                    // 2. 검색 한 영화와 연관된 영화를 추천 서버에서 가져와서, 비선호 영화를 제외한 영화 목록을 영화 서버에 요청
                     List<RecommendByContentRequest> recommendByContentRequests = searchMovieListResponses.stream()
                             .map(movie -> new RecommendByContentRequest(movie.getMovieTitle(), movie.getMovieYear(), null))
                             .toList();
-                    String recommendationPath = util.getUri("/content");
-                    return util.sendPostRequestToRecommendServer(recommendBaseUrl, recommendationPath, recommendByContentRequests)
-                            .flatMap(recommendResponse -> {
-                                // 3. 사용자의 비선호 영화 목록을 가져옴
-                                String unlikeMoviePath = util.getUri("/" + userSeq + "/unlike-movie");
-                                return util.sendGetRequestAsync(userBaseUrl, unlikeMoviePath)
-                                        .flatMap(unlikeResponse -> {
-                                            ResponseDto unlikeResponseDto;
-                                            try {
-                                                // JSON 데이터를 ResponseDto로 역직렬화
-                                                unlikeResponseDto = Objects.requireNonNull(unlikeResponse.getBody());
-                                            } catch (Exception e) {
-                                                return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "비선호 영화 번호 목록 Body을 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                            }
-                                            // 상태 코드가 성공이 아닌 경우 처리
-                                            if (unlikeResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                                                return Mono.error(new RestApiException(
-                                                        StatusCode.of(unlikeResponseDto.getHttpStatus(), unlikeResponseDto.getServiceStatus(), unlikeResponseDto.getMessage()),
-                                                        unlikeResponseDto.getData()
-                                                ));
-                                            }
-                                            List<Integer> unlikeMovieSeqs;
-                                            try {
-                                                // unlikeResponseDto의 데이터 필드를 List<Integer>로 변환
-                                                unlikeMovieSeqs = objectMapper.convertValue(unlikeResponseDto.getData(), new TypeReference<List<Integer>>() {
-                                                });
-                                            } catch (Exception e) {
-                                                return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "비선호 영화 번호 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                            }
-                                            // 4. 추천 영화 목록을 가져와서 영화 서버에 요청
-                                            MovieListRequest movieListRequest = new MovieListRequest(recommendResponse, unlikeMovieSeqs);
-                                            String movieListPath = util.getUri("/list/recommendation");
-                                            return util.sendGetWithRequestBodyRequestAsync(movieBaseUrl, movieListPath, movieListRequest)
-                                                    .flatMap(movieListResponse -> {
-                                                        ResponseDto movieListResponseDto;
-                                                        try {
-                                                            // JSON 데이터를 ResponseDto로 역직렬화
-                                                            movieListResponseDto = Objects.requireNonNull(movieListResponse.getBody());
-                                                        } catch (Exception e) {
-                                                            return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "검색 영화 추천 목록 Body를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                                        }
-                                                        // 상태 코드가 성공이 아닌 경우 처리
-                                                        if (movieListResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                                                            return Mono.error(new RestApiException(
-                                                                    StatusCode.of(movieListResponseDto.getHttpStatus(), movieListResponseDto.getServiceStatus(), movieListResponseDto.getMessage()),
-                                                                    movieListResponseDto.getData()
-                                                            ));
-                                                        }
-                                                        List<MovieListResponse> RecommendMovieListResponses;
-                                                        try {
-                                                            // movieListResponseDto의 데이터 필드를 List<MovieListResponse>로 변환
-                                                            RecommendMovieListResponses = objectMapper.convertValue(movieListResponseDto.getData(), new TypeReference<List<MovieListResponse>>() {
-                                                            });
-                                                        } catch (Exception e) {
-                                                            return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "검색 영화 추천 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                                        }
-                                                        // 5. 검색 영화와 추천된 영화 합치기
-                                                        List<MovieListResponse> searchAndRecommendMovieListResponses = new ArrayList<>();
-                                                        searchAndRecommendMovieListResponses.addAll(searchMovieListResponses);
-                                                        searchAndRecommendMovieListResponses.addAll(RecommendMovieListResponses);
-                                                        // 리스트의 크기를 20개로 제한
-                                                        if (searchAndRecommendMovieListResponses.size() > 20) {
-                                                            searchAndRecommendMovieListResponses = searchAndRecommendMovieListResponses.subList(0, 20);
-                                                        }
-                                                        return Mono.just(ResponseDto.response(StatusCode.SUCCESS, searchAndRecommendMovieListResponses));
-                                                    });
-                                        });
+                    return recommendationPipeline.recommendByContent(recommendByContentRequests, tuple.getT2())
+                            .map(recommendMovieListResponses -> {
+                                // 3. 검색 영화와 추천된 영화 합치기
+                                List<MovieListResponse> searchAndRecommendMovieListResponses = new ArrayList<>();
+                                searchAndRecommendMovieListResponses.addAll(searchMovieListResponses);
+                                searchAndRecommendMovieListResponses.addAll(recommendMovieListResponses);
+                                // 리스트의 크기를 20개로 제한
+                                if (searchAndRecommendMovieListResponses.size() > 20) {
+                                    searchAndRecommendMovieListResponses = searchAndRecommendMovieListResponses.subList(0, 20);
+                                }
+                                return ResponseDto.response(StatusCode.SUCCESS, searchAndRecommendMovieListResponses);
                             });
                 });
     }
 
-    public Mono<ResponseEntity<ResponseDto>> getTopMovieList() {
+    public Mono<ResponseEntity<byte[]>> getTopMovieList(String ifNoneMatch) {
         // 1. 외부 API 경로 설정
         String path = util.getUri("/list/top10");
-        // 2. GET 요청 메서드를 사용하여 외부 API에 요청을 보냅니다.
-        return util.sendGetRequestAsync(movieBaseUrl, path);
+        // 2. 캐시된 응답이 없으면 GET 요청 메서드를 사용하여 외부 API에 요청을 보냅니다.
+        return sharedResponseCache.get("top10", "", Duration.ofSeconds(homeListCacheTtlSeconds), ifNoneMatch,
+                () -> util.sendGetRequestRaw(movieBaseUrl, path));
+    }
+
+    public Mono<ResponseEntity<byte[]>> getTrendingMovieList(String window, int size) {
+        // 1. 외부 API의 경로를 설정합니다.
+        String path = util.getUri(UriComponentsBuilder.fromPath("/list/trending")
+                .queryParam("window", window)
+                .queryParam("size", size)
+                .build()
+                .toUriString());
+        // 2. 비동기 방식으로 GET 요청을 외부 API에 보내고, 응답은 변환하지 않고 그대로 전달합니다.
+        return util.sendGetRequestRaw(movieBaseUrl, path);
     }
 
-    public Mono<ResponseEntity<ResponseDto>> getMovieWordCloud(int movieSeq) {
+    public Mono<ResponseEntity<byte[]>> getMovieWordCloud(int movieSeq, String ifNoneMatch) {
         // 1. 외부 API의 경로를 설정합니다.
         String path = util.getUri("/wordCloud/" + movieSeq);
-        // 2. 비동기 방식으로 POST 요청을 외부 API에 보냅니다.
-        return util.sendGetRequestAsync(movieBaseUrl, path);
+        // 2. 캐시된 응답이 없으면 비동기 방식으로 GET 요청을 외부 API에 보냅니다.
+        return sharedResponseCache.get("wordCloud", String.valueOf(movieSeq), Duration.ofSeconds(movieCacheTtlSeconds), ifNoneMatch,
+                () -> util.sendGetRequestRaw(movieBaseUrl, path));
     }
 
     // 영화 상세조회
     public Mono<ResponseEntity<ResponseDto>> getMovieDetail(int movieSeq, int userSeq) {
         try {
-            // 0. 응답 객체 생성
-            MovieDetailAndReviewAndRecommendResponse movieDetailAndReviewAndRecommendResponse = new MovieDetailAndReviewAndRecommendResponse();
-            // 1. 영화 서버에서 영화 상세 조회 결과 가져오기
+            // 1. 영화 서버에서 영화 상세 조회 (필수)
             String movieDetailPath = util.getUri("/detail/" + movieSeq + "/" + userSeq);
-            return util.sendGetRequestAsync(movieBaseUrl, movieDetailPath)
-                    .flatMap(getResponse -> {
-                        ResponseDto movieDetailResponseDto;
-                        try {
-                            movieDetailResponseDto = Objects.requireNonNull(getResponse.getBody());
-                        } catch (Exception e) {
-                            return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "영화 상세정보 Body를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                        }
-                        // ResponseDto의 상태 코드가 성공이 아닌 경우 처리
-                        if (movieDetailResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                            return Mono.error(new RestApiException(
-                                    StatusCode.of(movieDetailResponseDto.getHttpStatus(), movieDetailResponseDto.getServiceStatus(), movieDetailResponseDto.getMessage()),
-                                    movieDetailResponseDto.getData()
-                            ));
+            Mono<MovieDetailResponse> movieDetail = downstreamComposer.required("영화 상세정보",
+                    util.sendGetRequestForData(movieBaseUrl, movieDetailPath, MOVIE_DETAIL_TYPE),
+                    Duration.ofMillis(movieDetailTimeoutMillis));
+            // 2. 사용자의 찜/비선호 여부, 비선호 영화 목록, 탑 리뷰 목록 조회 (필수, 영화 상세 조회와 동시에 실행)
+            String userMovieDetailPath = util.getUri("/movie-detail?userSeq=" + userSeq + "&movieSeq=" + movieSeq);
+            Mono<UserMovieDetailResponse> userMovieDetail = downstreamComposer.required("사용자 영화 상세 정보",
+                    util.sendGetRequestForData(userBaseUrl, userMovieDetailPath, USER_MOVIE_DETAIL_TYPE),
+                    Duration.ofMillis(userMovieDetailTimeoutMillis));
+            // 3. 추천 서버에서 연관 영화 추천 (영화 상세 조회 결과 필요, 사용자 영화 상세 정보 조회와 동시에 실행)
+            Mono<List<MovieSeqListRequest>> recommendation = movieDetail.flatMap(movieDetailResponse ->
+                    recommendationPipeline.requestContent(Collections.singletonList(new RecommendByContentRequest(movieDetailResponse.getMovieTitle(), movieDetailResponse.getMovieYear(), null))));
+            // 4. 영화 서버에서 연관 영화 목록 조회 (선택, 비선호 영화 목록은 사용자 영화 상세 정보의 것을 사용)
+            Mono<Optional<List<MovieListResponse>>> similarMovies = Mono.zip(recommendation, userMovieDetail)
+                    .flatMap(tuple -> downstreamComposer.optional("연관 영화 목록",
+                            recommendationPipeline.hydrate(tuple.getT1(), tuple.getT2().getUnlikedMovies()),
+                            Duration.ofMillis(similarMoviesTimeoutMillis)));
+            // 5. 모든 브랜치 결과를 모아 응답 생성 (연관 영화가 없으면 빈 목록으로 응답)
+            return Mono.zip(movieDetail, userMovieDetail, similarMovies)
+                    .map(tuple -> {
+                        MovieDetailAndReviewAndRecommendResponse movieDetailAndReviewAndRecommendResponse = new MovieDetailAndReviewAndRecommendResponse();
+                        movieDetailAndReviewAndRecommendResponse.setMovieDetailResponse(tuple.getT1());
+                        UserMovieDetailResponse userMovieDetailResponse = tuple.getT2();
+                        movieDetailAndReviewAndRecommendResponse.setBookMarkedMovie(userMovieDetailResponse.isBookMarkedMovie());
+                        movieDetailAndReviewAndRecommendResponse.setUnlikedMovie(userMovieDetailResponse.isUnlikedMovie());
+                        for (ReviewResponse review : userMovieDetailResponse.getReviews()) {
+                            review.setTop(true);
                         }
-                        // ObjectMapper를 이용하여 JSON 데이터를 MovieDetailResponse로 역직렬화
-                        MovieDetailResponse movieDetailResponse;
-                        try {
-                            movieDetailResponse = objectMapper.convertValue(movieDetailResponseDto.getData(), MovieDetailResponse.class);
-                        } catch (Exception e) {
-                            return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "영화 상세정보 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                        }
-                        movieDetailAndReviewAndRecommendResponse.setMovieDetailResponse(movieDetailResponse);
-                        // 2. 추천 서버에서 연관 영화 추천 가져오기
-                        List<RecommendByContentRequest> recommendByContentRequests = Collections.singletonList(new RecommendByContentRequest(movieDetailResponse.getMovieTitle(), movieDetailResponse.getMovieYear(), null));
-                        String recommendationPath = util.getUri("/content");
-                        return util.sendPostRequestToRecommendServer(recommendBaseUrl, recommendationPath, recommendByContentRequests)
-                                .flatMap(recommendResponse -> {
-                                    // 3. 사용자의 찜/비선호 여부, 비선호 영화 목록, 탑 리뷰 목록을 가져옴
-                                    String userMovieDetailPath = util.getUri("/movie-detail?userSeq=" + userSeq + "&movieSeq=" + movieSeq);
-                                    return util.sendGetRequestAsync(userBaseUrl, userMovieDetailPath)
-                                            .flatMap(userMovieDetailResponse -> {
-                                                ResponseDto userMovieDetailDto;
-                                                try {
-                                                    // JSON 데이터를 ResponseDto로 역직렬화
-                                                    userMovieDetailDto = Objects.requireNonNull(userMovieDetailResponse.getBody());
-                                                } catch (Exception e) {
-                                                    return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "비선호 영화 번호 목록 Body을 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                                }
-                                                // 상태 코드가 성공이 아닌 경우 처리
-                                                if (userMovieDetailDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                                                    return Mono.error(new RestApiException(
-                                                            StatusCode.of(userMovieDetailDto.getHttpStatus(), userMovieDetailDto.getServiceStatus(), userMovieDetailDto.getMessage()),
-                                                            userMovieDetailDto.getData()
-                                                    ));
-                                                }
-                                                UserMovieDetailResponse userMovieDetail;
-                                                try {
-                                                    // unlikeResponseDto의 데이터 필드를 List<Integer>로 변환
-                                                    userMovieDetail = objectMapper.convertValue(userMovieDetailDto.getData(), UserMovieDetailResponse.class);
-                                                } catch (Exception e) {
-                                                    return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "사용자 영화 상세 정보 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                                }
-                                                // 가져온 목록을 movieDetailReviewRecommendResponse에 설정
-                                                movieDetailAndReviewAndRecommendResponse.setBookMarkedMovie(userMovieDetail.isBookMarkedMovie());
-                                                movieDetailAndReviewAndRecommendResponse.setUnlikedMovie(userMovieDetail.isUnlikedMovie());
-                                                for (ReviewResponse review : userMovieDetail.getReviews()) {
-                                                    review.setTop(true);
-                                                }
-                                                movieDetailAndReviewAndRecommendResponse.setReviews(userMovieDetail.getReviews());
-                                                // 4. 추천 영화 목록을 가져와서 영화 서버에 요청
-                                                MovieListRequest movieListRequest = new MovieListRequest(recommendResponse, userMovieDetail.getUnlikedMovies());
-                                                String movieListPath = util.getUri("/list/recommendation");
-
-                                                return util.sendGetWithRequestBodyRequestAsync(movieBaseUrl, movieListPath, movieListRequest)
-                                                        .flatMap(movieListResponse -> {
-                                                            ResponseDto movieListResponseDto;
-                                                            try {
-                                                                // JSON 데이터를 ResponseDto로 역직렬화
-                                                                movieListResponseDto = Objects.requireNonNull(movieListResponse.getBody());
-                                                            } catch (Exception e) {
-                                                                return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "사용자 상세 조회 연관 추천 영화 목록 Body을 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                                            }
-
-                                                            
-                                                            // 상태 코드가 성공이 아닌 경우 처리
-                                                            if (movieListResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                                                                return Mono.error(new RestApiException(
-                                                                        StatusCode.of(movieListResponseDto.getHttpStatus(), movieListResponseDto.getServiceStatus(), movieListResponseDto.getMessage()),
-                                                                        movieListResponseDto.getData()
-                                                                ));
-                                                            }
-                                                            List<MovieListResponse> movieListResponses;
-                                                            try {
-                                                                // movieListResponseDto의 데이터 필드를 List<MovieListResponse>로 변환
-                                                                movieListResponses = objectMapper.convertValue(movieListResponseDto.getData(), new TypeReference<List<MovieListResponse>>() {
-                                                                });
-                                                            } catch (Exception e) {
-                                                                return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "사용자 상세 조회 연관 추천 영화 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                                            }
-
-                                                            // 변환된 목록을 movieDetailReviewRecommendResponse에 설정
-                                                            movieDetailAndReviewAndRecommendResponse.setSimilarMovies(movieListResponses);
-                                                            return Mono.just(ResponseDto.response(StatusCode.SUCCESS, movieDetailAndReviewAndRecommendResponse));
-                                                        });
-                                            });
-                                });
+                        movieDetailAndReviewAndRecommendResponse.setReviews(userMovieDetailResponse.getReviews());
+                        movieDetailAndReviewAndRecommendResponse.setSimilarMovies(tuple.getT3().orElse(Collections.emptyList()));
+                        return ResponseDto.response(StatusCode.SUCCESS, movieDetailAndReviewAndRecommendResponse);
                     })
                     .onErrorResume(e -> {
                         if (e instanceof RestApiException ex) {
@@ -353,101 +309,23 @@ public class BffMovieService {
 
     // 행동 기반 영화 추천
     public Mono<ResponseEntity<ResponseDto>> getActionRecommendationListAsync(int userSeq) {
-        // 1. 영화 서버에서 사용자의 최근 행동을 가져옴 (10개)
+        // 1. 영화 서버에서 사용자의 최근 행동(10개)과 사용자 서버에서 비선호 영화 목록을 동시에 가져옴
         String path = util.getUri("/actions/" + userSeq);
-        return util.sendGetRequestAsync(movieBaseUrl, path)
-                .flatMap(getResponse -> {
-                    ResponseDto userActionResponseDto;
-                    try {
-                        userActionResponseDto = Objects.requireNonNull(getResponse.getBody());
-                    } catch (Exception e) {
-                        return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "사용자 행동 데이터 Body를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                    }
-                    // 상태 코드가 성공이 아닌 경우 처리
-                    if (userActionResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                        return Mono.error(new RestApiException(
-                                StatusCode.of(userActionResponseDto.getHttpStatus(), userActionResponseDto.getServiceStatus(), userActionResponseDto.getMessage()),
-                                userActionResponseDto.getData()
-                        ));
-                    }
-                    // 데이터가 List<UserActionResponse> 타입인지 확인 후 변환
-                    List<UserActionResponse> userActions;
-                    try {
-                        userActions = objectMapper.convertValue(userActionResponseDto.getData(), new TypeReference<List<UserActionResponse>>() {
-                        });
-                    } catch (Exception e) {
-                        return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "사용자 행동 데이터 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                    }
+        Mono<List<UserActionResponse>> userActionList = util.sendGetRequestForData(movieBaseUrl, path, USER_ACTION_LIST_TYPE)
+                .defaultIfEmpty(Collections.emptyList());
+        return Mono.zip(userActionList, recommendationPipeline.unlikeMovieSeqs(userSeq))
+                .flatMap(tuple -> {
+                    List<UserActionResponse> userActions = tuple.getT1();
                     // 사용자의 최근 행동이 없을 경우 처리
-                    if (userActions == null || userActions.isEmpty()) {
+                    if (userActions.isEmpty()) {
                         return Mono.just(ResponseDto.response(StatusCode.NO_SUCH_ELEMENT, "사용자의 최근 행동이 없습니다."));
                     }
-                    // 2. 추천 서버로 사용자의 최근 행동 목록을 전송하고, 추천 영화 목록을 가져옴
-                    String recommendationPath = util.getUri("/content");
-                    // 추천 서버에 요청할 때 사용자의 최근 행동 키워드만 추출하여 전송
+                    // 2. 추천 서버로 사용자의 최근 행동 키워드만 추출하여 전송하고, 비선호 영화를 제외한 추천 영화 목록을 영화 서버에 요청
                     List<RecommendByContentRequest> recommendByContentRequests = userActions.stream()
                             .map(userAction -> new RecommendByContentRequest(userAction.getKeyword(), userAction.getMovieYear(), null))
                             .toList();
-                    return util.sendPostRequestToRecommendServer(recommendBaseUrl, recommendationPath, recommendByContentRequests)
-                            .flatMap(recommendResponse -> {
-                                // 3. 사용자의 비선호 영화 목록을 가져옴
-                                String unlikeMoviePath = util.getUri("/" + userSeq + "/unlike-movie");
-                                return util.sendGetRequestAsync(userBaseUrl, unlikeMoviePath)
-                                        .flatMap(unlikeResponse -> {
-                                            ResponseDto unlikeResponseDto;
-                                            try {
-                                                // JSON 데이터를 ResponseDto로 역직렬화
-                                                unlikeResponseDto = Objects.requireNonNull(unlikeResponse.getBody());
-                                            } catch (Exception e) {
-                                                return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "비선호 영화 번호 목록 Body을 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                            }
-                                            // 상태 코드가 성공이 아닌 경우 처리
-                                            if (unlikeResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                                                return Mono.error(new RestApiException(
-                                                        StatusCode.of(unlikeResponseDto.getHttpStatus(), unlikeResponseDto.getServiceStatus(), unlikeResponseDto.getMessage()),
-                                                        unlikeResponseDto.getData()
-                                                ));
-                                            }
-                                            List<Integer> unlikeMovieSeqs;
-                                            try {
-                                                // unlikeResponseDto의 데이터 필드를 List<Integer>로 변환
-                                                unlikeMovieSeqs = objectMapper.convertValue(unlikeResponseDto.getData(), new TypeReference<List<Integer>>() {
-                                                });
-                                            } catch (Exception e) {
-                                                return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "비선호 영화 번호 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                            }
-                                            // 4. 추천 영화 목록을 가져와서 영화 서버에 요청
-                                            MovieListRequest movieListRequest = new MovieListRequest(recommendResponse, unlikeMovieSeqs);
-                                            String movieListpath = util.getUri("/list/recommendation");
-                                            return util.sendGetWithRequestBodyRequestAsync(movieBaseUrl, movieListpath, movieListRequest)
-                                                    .flatMap(movieListResponse -> {
-                                                        ResponseDto movieListResponseDto;
-                                                        try {
-                                                            // JSON 데이터를 ResponseDto로 역직렬화
-                                                            movieListResponseDto = Objects.requireNonNull(movieListResponse.getBody());
-                                                        } catch (Exception e) {
-                                                            return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "행동 기반 추천 영화 목록 Body를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                                        }
-                                                        // 상태 코드가 성공이 아닌 경우 처리
-                                                        if (movieListResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                                                            return Mono.error(new RestApiException(
-                                                                    StatusCode.of(movieListResponseDto.getHttpStatus(), movieListResponseDto.getServiceStatus(), movieListResponseDto.getMessage()),
-                                                                    movieListResponseDto.getData()
-                                                            ));
-                                                        }
-                                                        List<MovieListResponse> movieListResponses;
-                                                        try {
-                                                            // movieListResponseDto의 데이터 필드를 List<MovieListResponse>로 변환
-                                                            movieListResponses = objectMapper.convertValue(movieListResponseDto.getData(), new TypeReference<List<MovieListResponse>>() {
-                                                            });
-                                                        } catch (Exception e) {
-                                                            return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "행동 기반 추천 영화 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                                        }
-                                                        // 변환된 목록을 반환
-                                                        return Mono.just(ResponseDto.response(StatusCode.SUCCESS, movieListResponses));
-                                                    });
-                                        });
-                            });
+                    return recommendationPipeline.recommendByContent(recommendByContentRequests, tuple.getT2())
+                            .map(movieListResponses -> ResponseDto.response(StatusCode.SUCCESS, movieListResponses));
                 }).onErrorResume(e -> {
                     if (e instanceof RestApiException ex) {
                         return Mono.just(ResponseDto.response(ex.getStatusCode(), ex.getData()));
@@ -460,70 +338,16 @@ public class BffMovieService {
 
     // 사용자 평점-리뷰 기반 영화 추천
     public Mono<ResponseEntity<ResponseDto>> getReviewRecommendationList(int userSeq) {
-        // 1. 추천서버에서 추천 영화 목록을 가져옴
-        String path = util.getUri("/collabo");
-        return util.sendPostRequestToRecommendServer(recommendBaseUrl, path, userSeq)
-                .flatMap(recommendResponse -> {
-                    if (recommendResponse == null || recommendResponse.isEmpty()) {
+        // 1. 추천서버에서 추천 영화 목록과 사용자 서버에서 비선호 영화 목록을 동시에 가져옴
+        return Mono.zip(recommendationPipeline.requestCollaborative(userSeq), recommendationPipeline.unlikeMovieSeqs(userSeq))
+                .flatMap(tuple -> {
+                    if (tuple.getT1().isEmpty()) {
                         // 선호도 영화 기반 추천
                         return getRecommendationMovieListByLike(userSeq);
                     }
-                    // 2. 사용자 서버에서 비선호 영화 목로 가져옴
-                    String unlikeMoviePath = util.getUri("/" + userSeq + "/unlike-movie");
-                    return util.sendGetRequestAsync(userBaseUrl, unlikeMoviePath)
-                            .flatMap(unlikeResponse -> {
-                                ResponseDto unlikeResponseDto;
-                                try {
-                                    // JSON 데이터를 ResponseDto로 역직렬화
-                                    unlikeResponseDto = Objects.requireNonNull(unlikeResponse.getBody());
-                                } catch (Exception e) {
-                                    return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "비선호 영화 번호 목록 Body을 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                }
-                                // 상태 코드가 성공이 아닌 경우 처리
-                                if (unlikeResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                                    return Mono.error(new RestApiException(
-                                            StatusCode.of(unlikeResponseDto.getHttpStatus(), unlikeResponseDto.getServiceStatus(), unlikeResponseDto.getMessage()),
-                                            unlikeResponseDto.getData()
-                                    ));
-                                }
-                                List<Integer> unlikeMovieSeqs;
-                                try {
-                                    // unlikeResponseDto의 데이터 필드를 List<Integer>로 변환
-                                    unlikeMovieSeqs = objectMapper.convertValue(unlikeResponseDto.getData(), new TypeReference<List<Integer>>() {
-                                    });
-                                } catch (Exception e) {
-                                    return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "비선호 영화 번호 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                }
-                                // 3. 추천 영화 목록을 가져와서 영화 서버에 요청
-                                MovieListRequest movieListRequest = new MovieListRequest(recommendResponse, unlikeMovieSeqs);
-                                String movieListPath = util.getUri("/list/recommendation");
-                                return util.sendGetWithRequestBodyRequestAsync(movieBaseUrl, movieListPath, movieListRequest)
-                                        .flatMap(movieListResponse -> {
-                                            ResponseDto movieListResponseDto;
-                                            try {
-                                                // JSON 데이터를 ResponseDto로 역직렬화
-                                                movieListResponseDto = Objects.requireNonNull(movieListResponse.getBody());
-                                            } catch (Exception e) {
-                                                return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "리뷰 기반 추천 영화 목록 Body를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                            }
-                                            // 상태 코드가 성공이 아닌 경우 처리
-                                            if (movieListResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                                                return Mono.error(new RestApiException(
-                                                        StatusCode.of(movieListResponseDto.getHttpStatus(), movieListResponseDto.getServiceStatus(), movieListResponseDto.getMessage()),
-                                                        movieListResponseDto.getData()
-                                                ));
-                                            }
-                                            List<MovieListResponse> movieListResponses;
-                                            try {
-                                                // movieListResponseDto의 데이터 필드를 List<MovieListResponse>로 변환
-                                                movieListResponses = objectMapper.convertValue(movieListResponseDto.getData(), new TypeReference<List<MovieListResponse>>() {
-                                                });
-                                            } catch (Exception e) {
-                                                return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "리뷰 기반 추천 영화 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                            }
-                                            return Mono.just(ResponseDto.response(StatusCode.SUCCESS, movieListResponses));
-                                        });
-                            });
+                    // 2. 비선호 영화를 제외한 추천 영화 목록을 영화 서버에 요청
+                    return recommendationPipeline.hydrate(tuple.getT1(), tuple.getT2())
+                            .map(movieListResponses -> ResponseDto.response(StatusCode.SUCCESS, movieListResponses));
                 }).onErrorResume(e -> {
                     if (e instanceof RestApiException ex) {
                         return Mono.just(ResponseDto.response(ex.getStatusCode(), ex.getData()));
@@ -537,122 +361,24 @@ public class BffMovieService {
     private Mono<ResponseEntity<ResponseDto>> getRecommendationMovieListByLike(int userSeq) {
         // 1. 사용자 서버에서 선호도 영화 조회
         String likeMoviePath = util.getUri("/" + userSeq + "/favorite-movie");
-        return util.sendGetRequestAsync(userBaseUrl, likeMoviePath)
-                .flatMap(likeResponse -> {
-                    ResponseDto likeResponseDto;
-                    try {
-                        // JSON 데이터를 ResponseDto로 역직렬화
-                        likeResponseDto = Objects.requireNonNull(likeResponse.getBody());
-                    } catch (Exception e) {
-                        return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "선호 영화 번호 목록 Body을 역직렬화하는데 오류 발생: " + e.getMessage()));
-                    }
-                    // 상태 코드가 성공이 아닌 경우 처리
-                    if (likeResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                        return Mono.error(new RestApiException(
-                                StatusCode.of(likeResponseDto.getHttpStatus(), likeResponseDto.getServiceStatus(), likeResponseDto.getMessage()),
-                                likeResponseDto.getData()
-                        ));
-                    }
-                    FavoriteMovieListResponse favoriteMovieListResponse;
-                    try {
-                        // likeResponseDto의 데이터 필드를 List<Integer>로 변환
-                        favoriteMovieListResponse = objectMapper.convertValue(likeResponseDto.getData(), FavoriteMovieListResponse.class);
-                    } catch (Exception e) {
-                        return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "선호 영화 번호 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                    }
+        Mono<List<MovieListResponse>> favoriteMovieList = util.sendGetRequestForData(userBaseUrl, likeMoviePath, FAVORITE_MOVIE_LIST_TYPE)
+                .switchIfEmpty(Mono.error(() -> new RestApiException(StatusCode.NO_SUCH_ELEMENT, "선호 영화 번호 목록이 없습니다.")))
+                .flatMap(favoriteMovieListResponse -> {
                     // 2. 영화서버에서 해당 영화의 정보를 가져옴
                     String listMoviePath = util.getUri("/list/movieId");
-                    return util.sendGetWithRequestBodyRequestAsync(movieBaseUrl, listMoviePath, favoriteMovieListResponse.getMovieSeqList())
-                            .flatMap(listMovieResponse -> {
-                                ResponseDto listMovieResponseDto;
-                                try {
-                                    // JSON 데이터를 ResponseDto로 역직렬화
-                                    listMovieResponseDto = Objects.requireNonNull(listMovieResponse.getBody());
-                                } catch (Exception e) {
-                                    return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "선호 영화 목록 Body를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                }
-                                // 상태 코드가 성공이 아닌 경우 처리
-                                if (listMovieResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                                    return Mono.error(new RestApiException(
-                                            StatusCode.of(listMovieResponseDto.getHttpStatus(), listMovieResponseDto.getServiceStatus(), listMovieResponseDto.getMessage()),
-                                            listMovieResponseDto.getData()
-                                    ));
-                                }
-                                List<MovieListResponse> movieListResponses;
-                                try {
-                                    // listMovieResponseDto의 데이터 필드를 List<MovieListResponse>로 변환
-                                    movieListResponses = objectMapper.convertValue(listMovieResponseDto.getData(), new TypeReference<List<MovieListResponse>>() {
-                                    });
-                                } catch (Exception e) {
-                                    return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "선호 영화 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                }
-                                // 3. 추천 서버에서 연관 영화 목록을 가져옴
-                                List<RecommendByContentRequest> recommendByContentRequests = movieListResponses.stream()
-                                        .map(movie -> new RecommendByContentRequest(movie.getMovieTitle(), movie.getMovieYear(), null))
-                                        .toList();
-                                String recommendationPath = util.getUri("/content");
-                                return util.sendPostRequestToRecommendServer(recommendBaseUrl, recommendationPath, recommendByContentRequests)
-                                        .flatMap(recommendResponse -> {
-                                            // 4. 사용자의 비선호 영화 목록을 가져옴
-                                            String unlikeMoviePath = util.getUri("/" + userSeq + "/unlike-movie");
-                                            return util.sendGetRequestAsync(userBaseUrl, unlikeMoviePath)
-                                                    .flatMap(unlikeResponse -> {
-                                                        ResponseDto unlikeResponseDto;
-                                                        try {
-                                                            // JSON 데이터를 ResponseDto로 역직렬화
-                                                            unlikeResponseDto = Objects.requireNonNull(unlikeResponse.getBody());
-                                                        } catch (Exception e) {
-                                                            return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "비선호 영화 번호 목록 Body을 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                                        }
-                                                        // 상태 코드가 성공이 아닌 경우 처리
-                                                        if (unlikeResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                                                            return Mono.error(new RestApiException(
-                                                                    StatusCode.of(unlikeResponseDto.getHttpStatus(), unlikeResponseDto.getServiceStatus(), unlikeResponseDto.getMessage()),
-                                                                    unlikeResponseDto.getData()
-                                                            ));
-                                                        }
-                                                        List<Integer> unlikeMovieSeqs;
-                                                        try {
-                                                            // unlikeResponseDto의 데이터 필드를 List<Integer>로 변환
-                                                            unlikeMovieSeqs = objectMapper.convertValue(unlikeResponseDto.getData(), new TypeReference<List<Integer>>() {
-                                                            });
-                                                        } catch (Exception e) {
-                                                            return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "비선호 영화 번호 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                                        }
-                                                        // 5. 추천 영화 목록을 가져와서 영화 서버에 요청
-                                                        MovieListRequest movieListRequest = new MovieListRequest(recommendResponse, unlikeMovieSeqs);
-                                                        String movieListPath = util.getUri("/list/recommendation");
-                                                        return util.sendGetWithRequestBodyRequestAsync(movieBaseUrl, movieListPath, movieListRequest)
-                                                                .flatMap(movieListResponse -> {
-                                                                    ResponseDto movieListResponseDto;
-                                                                    try {
-                                                                        // JSON 데이터를 ResponseDto로 역직렬화
-                                                                        movieListResponseDto = Objects.requireNonNull(movieListResponse.getBody());
-                                                                    } catch (Exception e) {
-                                                                        return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "선호도 기반 추천 영화 목록 Body를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                                                    }
-                                                                    // 상태 코드가 성공이 아닌 경우 처리
-                                                                    if (movieListResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                                                                        return Mono.error(new RestApiException(
-                                                                                StatusCode.of(movieListResponseDto.getHttpStatus(), movieListResponseDto.getServiceStatus(), movieListResponseDto.getMessage()),
-                                                                                movieListResponseDto.getData()
-                                                                        ));
-                                                                    }
-                                                                    List<MovieListResponse> RecommendMovieListResponses;
-                                                                    try {
-                                                                        // movieListResponseDto의 데이터 필드를 List<MovieListResponse>로 변환
-                                                                        RecommendMovieListResponses = objectMapper.convertValue(movieListResponseDto.getData(), new TypeReference<List<MovieListResponse>>() {
-                                                                        });
-                                                                    } catch (Exception e) {
-                                                                        return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "선호도 기반 추천 영화 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                                                    }
-                                                                    return Mono.just(ResponseDto.response(StatusCode.SUCCESS, RecommendMovieListResponses));
-                                                                });
-                                                    });
-                                        });
-                            });
-
-                }).onErrorResume(e -> {
+                    return util.sendGetWithRequestBodyRequestForData(movieBaseUrl, listMoviePath, favoriteMovieListResponse.getMovieSeqList(), MOVIE_LIST_TYPE)
+                            .defaultIfEmpty(Collections.emptyList());
+                });
+        // 3. 선호 영화와 연관된 영화를 추천 서버에서 가져와서, 비선호 영화를 제외한 영화 목록을 영화 서버에 요청
+        return Mono.zip(favoriteMovieList, recommendationPipeline.unlikeMovieSeqs(userSeq))
+                .flatMap(tuple -> {
+                    List<RecommendByContentRequest> recommendByContentRequests = tuple.getT1().stream()
+                            .map(movie -> new RecommendByContentRequest(movie.getMovieTitle(), movie.getMovieYear(), null))
+                            .toList();
+                    return recommendationPipeline.recommendByContent(recommendByContentRequests, tuple.getT2());
+                })
+                .map(recommendMovieListResponses -> ResponseDto.response(StatusCode.SUCCESS, recommendMovieListResponses))
+                .onErrorResume(e -> {
                     if (e instanceof RestApiException ex) {
                         return Mono.just(ResponseDto.response(ex.getStatusCode(), ex.getData()));
                     } else {
@@ -661,156 +387,44 @@ public class BffMovieService {
                 });
     }
 
-    public Mono<ResponseEntity<ResponseDto>> getTopRatingMovieList() {
+    public Mono<ResponseEntity<byte[]>> getTopRatingMovieList(String ifNoneMatch) {
+        // 캐시된 응답이 없을 때만 리뷰 테이블 전체 집계가 필요한 사용자 서버에 요청
+        return sharedResponseCache.get("topRating", "", Duration.ofSeconds(topRatingCacheTtlSeconds), ifNoneMatch,
+                this::loadTopRatingMovieList);
+    }
+
+    private Mono<ResponseEntity<byte[]>> loadTopRatingMovieList() {
         // 1. 사용자 서버에서 리뷰개수가 2000개 이상인 영화 목록 조회
         String topRatingMoviePath = util.getUri("/review/most-reviews");
-        return util.sendGetRequestAsync(userBaseUrl, topRatingMoviePath)
-                .flatMap(topRatingMovieResponse -> {
-                    ResponseDto topRatingMovieResponseDto;
-                    try {
-                        // JSON 데이터를 ResponseDto로 역직렬화
-                        topRatingMovieResponseDto = Objects.requireNonNull(topRatingMovieResponse.getBody());
-                    } catch (Exception e) {
-                        return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "리뷰 개수가 2000개 이상인 영화 목록 Body를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                    }
-                    // 상태 코드가 성공이 아닌 경우 처리
-                    if (topRatingMovieResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                        return Mono.error(new RestApiException(
-                                StatusCode.of(topRatingMovieResponseDto.getHttpStatus(), topRatingMovieResponseDto.getServiceStatus(), topRatingMovieResponseDto.getMessage()),
-                                topRatingMovieResponseDto.getData()
-                        ));
-                    }
-                    List<Integer> topRatingMovieSeqs;
-                    try {
-                        // topRatingMovieResponseDto의 데이터 필드를 List<Integer>로 변환
-                        topRatingMovieSeqs = objectMapper.convertValue(topRatingMovieResponseDto.getData(), new TypeReference<List<Integer>>() {
-                        });
-                    } catch (Exception e) {
-                        return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "리뷰 개수가 2000개 이상인 영화 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                    }
+        return util.sendGetRequestForData(userBaseUrl, topRatingMoviePath, MOVIE_SEQ_LIST_TYPE)
+                .defaultIfEmpty(Collections.emptyList())
+                .flatMap(topRatingMovieSeqs -> {
+                    // 2. 영화 서버에서 평점이 높은 영화 목록 조회
                     String topMovieListPath = util.getUri("/list/topRating");
-                    return util.sendGetWithRequestBodyRequestAsync(movieBaseUrl, topMovieListPath, topRatingMovieSeqs)
-                            .flatMap(topMovieListResponse -> {
-                                ResponseDto topMovieListResponseDto;
-                                try {
-                                    // JSON 데이터를 ResponseDto로 역직렬화
-                                    topMovieListResponseDto = Objects.requireNonNull(topMovieListResponse.getBody());
-                                } catch (Exception e) {
-                                    return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "리뷰 개수가 2000개 이상이면서 평점이 높은 영화 목록 Body를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                }
-                                // 상태 코드가 성공이 아닌 경우 처리
-                                if (topMovieListResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                                    return Mono.error(new RestApiException(
-                                            StatusCode.of(topMovieListResponseDto.getHttpStatus(), topMovieListResponseDto.getServiceStatus(), topMovieListResponseDto.getMessage()),
-                                            topMovieListResponseDto.getData()
-                                    ));
-                                }
-                                List<MovieListResponse> topMovieListResponses;
-                                try {
-                                    // topMovieListResponseDto의 데이터 필드를 List<MovieListResponse>로 변환
-                                    topMovieListResponses = objectMapper.convertValue(topMovieListResponseDto.getData(), new TypeReference<List<MovieListResponse>>() {
-                                    });
-                                } catch (Exception e) {
-                                    return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "리뷰 개수가 2000개 이상이면서 평점이 높은 영화 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                }
-                                return Mono.just(ResponseDto.response(StatusCode.SUCCESS, topMovieListResponses));
-                            });
-                });
+                    return util.sendGetWithRequestBodyRequestForData(movieBaseUrl, topMovieListPath, topRatingMovieSeqs, MOVIE_LIST_TYPE)
+                            .defaultIfEmpty(Collections.emptyList());
+                })
+                .map(topMovieListResponses -> util.rawResponse(StatusCode.SUCCESS, topMovieListResponses));
     }
 
     public Mono<ResponseEntity<ResponseDto>> getRecommendationMovieListByActor(int userSeq) {
-        // 1. 영화 서버에서 사용자의 추천 영화 배우 가져오기
+        // 1. 영화 서버에서 사용자의 추천 영화 배우를 가져오고, 사용자의 비선호 영화 목록 조회를 함께 시작
         String path = util.getUri("/recommendActor/" + userSeq);
-        return util.sendGetRequestAsync(movieBaseUrl, path)
-                .flatMap(getResponse -> {
-                    ResponseDto actorResponseDto;
-                    try {
-                        actorResponseDto = Objects.requireNonNull(getResponse.getBody());
-                    } catch (Exception e) {
-                        return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "추천 배우 목록 Body를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                    }
-                    // 상태 코드가 성공이 아닌 경우 처리
-                    if (actorResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                        return Mono.error(new RestApiException(
-                                StatusCode.of(actorResponseDto.getHttpStatus(), actorResponseDto.getServiceStatus(), actorResponseDto.getMessage()),
-                                actorResponseDto.getData()
-                        ));
-                    }
-                    RecommendActorResponse recommendActorResponse;
-                    try {
-                        // actorListResponseDto의 데이터 필드를 String로 변환
-                        recommendActorResponse = objectMapper.convertValue(actorResponseDto.getData(), new TypeReference<RecommendActorResponse>() {
-                        });
-                    } catch (Exception e) {
-                        return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "추천 배우 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                    }
-                    if (recommendActorResponse == null) {
-                        return Mono.just(ResponseDto.response(StatusCode.NO_SUCH_ELEMENT, "최근에 리뷰를 달지 않았습니다."));
-                    }
-                    // 2. 추천 서버에서 연관 영화 목록을 가져옴
+        return util.sendGetRequestForData(movieBaseUrl, path, RECOMMEND_ACTOR_TYPE)
+                .zipWith(recommendationPipeline.unlikeMovieSeqs(userSeq))
+                .flatMap(tuple -> {
+                    RecommendActorResponse recommendActorResponse = tuple.getT1();
+                    // 2. 추천 서버에서 배우 연관 영화를 가져와서, 비선호 영화를 제외한 영화 목록을 영화 서버에 요청
                     List<RecommendByContentRequest> recommendByContentRequests = Collections.singletonList(new RecommendByContentRequest(null, null, recommendActorResponse.getActorName()));
-                    String recommendationPath = util.getUri("/content");
-                    return util.sendPostRequestToRecommendServer(recommendBaseUrl, recommendationPath, recommendByContentRequests)
-                            .flatMap(recommendResponse -> {
-                                // 3. 사용자의 비선호 영화 목록을 가져옴
-                                String unlikeMoviePath = util.getUri("/" + userSeq + "/unlike-movie");
-                                return util.sendGetRequestAsync(userBaseUrl, unlikeMoviePath)
-                                        .flatMap(unlikeResponse -> {
-                                            ResponseDto unlikeResponseDto;
-                                            try {
-                                                // JSON 데이터를 ResponseDto로 역직렬화
-                                                unlikeResponseDto = Objects.requireNonNull(unlikeResponse.getBody());
-                                            } catch (Exception e) {
-                                                return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "비선호 영화 번호 목록 Body을 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                            }
-                                            // 상태 코드가 성공이 아닌 경우 처리
-                                            if (unlikeResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                                                return Mono.error(new RestApiException(
-                                                        StatusCode.of(unlikeResponseDto.getHttpStatus(), unlikeResponseDto.getServiceStatus(), unlikeResponseDto.getMessage()),
-                                                        unlikeResponseDto.getData()
-                                                ));
-                                            }
-                                            List<Integer> unlikeMovieSeqs;
-                                            try {
-                                                // unlikeResponseDto의 데이터 필드를 List<Integer>로 변환
-                                                unlikeMovieSeqs = objectMapper.convertValue(unlikeResponseDto.getData(), new TypeReference<List<Integer>>() {
-                                                });
-                                            } catch (Exception e) {
-                                                return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "비선호 영화 번호 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                            }
-                                            // 4. 추천 영화 목록을 가져와서 영화 서버에 요청
-                                            MovieListRequest movieListRequest = new MovieListRequest(recommendResponse, unlikeMovieSeqs);
-                                            String movieListPath = util.getUri("/list/recommendation");
-                                            return util.sendGetWithRequestBodyRequestAsync(movieBaseUrl, movieListPath, movieListRequest)
-                                                    .flatMap(movieListResponse -> {
-                                                        ResponseDto movieListResponseDto;
-                                                        try {
-                                                            // JSON 데이터를 ResponseDto로 역직렬화
-                                                            movieListResponseDto = Objects.requireNonNull(movieListResponse.getBody());
-                                                        } catch (Exception e) {
-                                                            return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "추천 배우 기반 영화 목록 Body를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                                        }
-                                                        // 상태 코드가 성공이 아닌 경우 처리
-                                                        if (movieListResponseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
-                                                            return Mono.error(new RestApiException(
-                                                                    StatusCode.of(movieListResponseDto.getHttpStatus(), movieListResponseDto.getServiceStatus(), movieListResponseDto.getMessage()),
-                                                                    movieListResponseDto.getData()
-                                                            ));
-                                                        }
-                                                        List<MovieListResponse> movieListResponses;
-                                                        try {
-                                                            // movieListResponseDto의 데이터 필드를 List<MovieListResponse>로 변환
-                                                            movieListResponses = objectMapper.convertValue(movieListResponseDto.getData(), new TypeReference<List<MovieListResponse>>() {
-                                                            });
-                                                        } catch (Exception e) {
-                                                            return Mono.error(new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "추천 배우 기반 영화 목록 데이터를 역직렬화하는데 오류 발생: " + e.getMessage()));
-                                                        }
-                                                        RecommendMovieByActorResponse recommendMovieByActorResponse = new RecommendMovieByActorResponse(recommendActorResponse.getActorName(), recommendActorResponse.getMovieTitle(), movieListResponses);
-                                                        return Mono.just(ResponseDto.response(StatusCode.SUCCESS, recommendMovieByActorResponse));
-                                                    });
-                                        });
+                    return recommendationPipeline.recommendByContent(recommendByContentRequests, tuple.getT2())
+                            .map(movieListResponses -> {
+                                RecommendMovieByActorResponse recommendMovieByActorResponse = new RecommendMovieByActorResponse(recommendActorResponse.getActorName(), recommendActorResponse.getMovieTitle(), movieListResponses);
+                                return ResponseDto.response(StatusCode.SUCCESS, recommendMovieByActorResponse);
                             });
-                }).onErrorResume(e -> {
+                })
+                // 추천 배우가 없을 경우 처리
+                .switchIfEmpty(Mono.fromSupplier(() -> ResponseDto.response(StatusCode.NO_SUCH_ELEMENT, "최근에 리뷰를 달지 않았습니다.")))
+                .onErrorResume(e -> {
                     if (e instanceof RestApiException ex) {
                         return Mono.just(ResponseDto.response(ex.getStatusCode(), ex.getData()));
                     } else {
@@ -819,11 +433,12 @@ public class BffMovieService {
                 });
     }
 
-    public Mono<ResponseEntity<ResponseDto>> getNewMovieList() {
+    public Mono<ResponseEntity<byte[]>> getNewMovieList(String ifNoneMatch) {
         // 1. 외부 API의 경로를 설정합니다.
         String path = util.getUri("/list/newMovie");
-        // 2. 비동기 방식으로 GET 요청을 외부 API에 보냅니다.
-        return util.sendGetRequestAsync(movieBaseUrl, path);
+        // 2. 캐시된 응답이 없으면 비동기 방식으로 GET 요청을 외부 API에 보내고, 응답은 변환하지 않고 그대로 전달합니다.
+        return sharedResponseCache.get("newMovie", "", Duration.ofSeconds(homeListCacheTtlSeconds), ifNoneMatch,
+                () -> util.sendGetRequestRaw(movieBaseUrl, path));
     }
 
     public Mono<ResponseEntity<ResponseDto>> getMoviePoster(int movieSeq) {
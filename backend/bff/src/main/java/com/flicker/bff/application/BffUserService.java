@@ -17,6 +17,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.beans.factory.annotation.Value;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -30,12 +31,20 @@ public class BffUserService {
 
     private final ObjectMapper objectMapper;
 
+    private final SharedResponseCache sharedResponseCache; // 모든 사용자에게 같은 응답을 주는 엔드포인트의 응답 캐시
+
+    private final RecommendationPipeline recommendationPipeline; // 추천 경로의 사용자별 비선호 영화 목록 캐시
+
     @Value("${user-review.baseurl}")
     private String userReviewBaseUrl; // 사용자-리뷰 서버 API의 기본 URL
 
     @Value("${movie.baseurl}")
     private String movieBaseUrl; // 영화 서버 API의 기본 URL
 
+    // application.properties에서 설정된 영화별 응답 캐시 TTL (초)
+    @Value("${bff.response-cache.movie-ttl-seconds:60}")
+    private long movieCacheTtlSeconds;
+
 
     // 1. 회원가입
     public Mono<ResponseEntity<ResponseDto>> registerUser(UserRegisterReqDto request) {
@@ -134,12 +143,14 @@ public class BffUserService {
     // 10. 비선호 영화 등록
     public Mono<ResponseEntity<ResponseDto>> registerUnlikeMovie(Integer userSeq, Integer movieSeq){
         String path = util.getUri("/"+userSeq+"/unlike-movie/"+movieSeq);
-        return util.sendPostRequestAsync(userReviewBaseUrl,path,null);
+        return util.sendPostRequestAsync(userReviewBaseUrl,path,null)
+                .doOnSuccess(response -> recommendationPipeline.evictUnlikeMovieSeqs(userSeq));
     }
     // 11. 비선호 영화 삭제
     public Mono<ResponseEntity<ResponseDto>> deleteUnlikeMovie(Integer userSeq, Integer movieSeq) {
         String path = util.getUri("/"+userSeq+"/unlike-movie/"+movieSeq);
-        return util.sendDeleteRequestAsync(userReviewBaseUrl,path);
+        return util.sendDeleteRequestAsync(userReviewBaseUrl,path)
+                .doOnSuccess(response -> recommendationPipeline.evictUnlikeMovieSeqs(userSeq));
     }
     // 12. 비선호 영화 조회
     public Mono<ResponseEntity<ResponseDto>> getUnlikeMovie(Integer userSeq) {
@@ -439,9 +450,11 @@ public class BffUserService {
 
     }
 
-    public Mono<ResponseEntity<ResponseDto>> getMovieReviewRatingDistribute(Integer movieSeq) {
+    public Mono<ResponseEntity<byte[]>> getMovieReviewRatingDistribute(Integer movieSeq, String ifNoneMatch) {
         String path = util.getUri("/review/movies/"+movieSeq+"/distribute");
-        return util.sendGetRequestAsync(userReviewBaseUrl, path);
+        // 모든 사용자에게 같은 응답이므로 캐시된 응답이 없을 때만 사용자 서버에 요청
+        return sharedResponseCache.get("ratingDistribute", String.valueOf(movieSeq), Duration.ofSeconds(movieCacheTtlSeconds), ifNoneMatch,
+                () -> util.sendGetRequestRaw(userReviewBaseUrl, path));
     }
 
     public Mono<ResponseEntity<ResponseDto>> getMyPage(Integer userSeq) {
@@ -0,0 +1,59 @@
+package com.flicker.bff.application;
+
+import com.flicker.bff.common.module.exception.RestApiException;
+import com.flicker.bff.common.module.status.StatusCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * DownstreamComposer는 여러 하위 서비스 호출을 조합하여 하나의 응답을 만들 때 사용하는 도우미입니다.
+ * <p>
+ * 각 호출(브랜치)은 필수(required) 또는 선택(optional)으로 감싸며, 브랜치마다 제한 시간을 둡니다.
+ * 필수 브랜치가 실패하거나 제한 시간을 넘기면 전체 응답이 실패하고,
+ * 선택 브랜치는 실패해도 Optional.empty()로 대체되어 나머지 결과만으로 응답을 만들 수 있습니다.
+ * 서로 의존하지 않는 브랜치는 Mono.zip으로 묶어 동시에 실행합니다.
+ */
+@Slf4j
+@Component
+public class DownstreamComposer {
+
+    /**
+     * 실패하면 전체 응답이 실패하는 필수 브랜치를 만드는 메서드입니다.
+     * 여러 브랜치에서 결과를 함께 사용할 수 있도록 결과를 캐시하여 하위 서비스는 한 번만 호출됩니다.
+     *
+     * @param name    브랜치 이름 (로그, 오류 메시지에 사용)
+     * @param call    하위 서비스 호출
+     * @param timeout 브랜치 제한 시간
+     * @return 제한 시간이 적용된 브랜치
+     */
+    public <T> Mono<T> required(String name, Mono<T> call, Duration timeout) {
+        return call.timeout(timeout)
+                .switchIfEmpty(Mono.error(() -> new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, name + " 응답이 비어 있습니다.")))
+                .onErrorMap(TimeoutException.class, e -> new RestApiException(StatusCode.SERVICE_STOP, name + " 응답 시간이 초과되었습니다."))
+                .cache();
+    }
+
+    /**
+     * 실패하거나 제한 시간을 넘기면 Optional.empty()로 대체되는 선택 브랜치를 만드는 메서드입니다.
+     *
+     * @param name    브랜치 이름 (로그에 사용)
+     * @param call    하위 서비스 호출
+     * @param timeout 브랜치 제한 시간
+     * @return 결과가 있으면 Optional.of(결과), 실패하면 Optional.empty()
+     */
+    public <T> Mono<Optional<T>> optional(String name, Mono<T> call, Duration timeout) {
+        return call.timeout(timeout)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    log.warn("선택 브랜치 실패로 제외하고 응답 - 브랜치: {}, 에러: {}", name, e.getMessage());
+                    return Mono.just(Optional.empty());
+                })
+                .cache();
+    }
+}
@@ -0,0 +1,210 @@
+package com.flicker.bff.application;
+
+import com.flicker.bff.common.module.exception.RestApiException;
+import com.flicker.bff.common.module.response.ResponseDto;
+import com.flicker.bff.common.module.status.StatusCode;
+import com.flicker.bff.dto.movie.MovieListRequest;
+import com.flicker.bff.dto.movie.MovieListResponse;
+import com.flicker.bff.dto.movie.MovieSeqListRequest;
+import com.flicker.bff.dto.movie.RecommendByContentRequest;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * RecommendationPipeline은 BFF의 추천 영화 조회(검색, 상세 조회, 행동/리뷰/선호/배우 기반 추천)가 함께 사용하는
+ * "추천 서버 호출 -> 비선호 영화 제외 -> 영화 정보 조회" 공통 경로입니다.
+ * <p>
+ * 추천 서버 호출과 비선호 영화 목록 조회는 서로 의존하지 않으므로 호출하는 쪽에서 Mono.zip으로 동시에 실행하고,
+ * 비선호 영화 목록은 사용자별로 짧은 시간 동안 캐시하며 같은 사용자의 동시 조회는 한 번으로 합칩니다.
+ * 비선호 영화가 등록, 삭제되면 사용자별 버전을 올려, 그 전에 시작된 조회 결과가 캐시에 다시 저장되지 않도록 합니다.
+ * 추천 결과는 중복을 제거한 뒤 영화 서버에 한 번에 조회하며, 추천 결과가 없으면 영화 서버를 호출하지 않습니다.
+ * <p>
+ * 단계별 제한 시간과 실패 시 처리는 모든 경로에서 같습니다.
+ * 추천 서버, 비선호 영화 목록 조회가 실패하면 빈 목록으로 대체하고, 영화 정보 조회가 실패하면 오류를 그대로 전달합니다(제한 시간 초과는 SERVICE_STOP).
+ */
+@Slf4j
+@Component
+public class RecommendationPipeline {
+
+    private static final ParameterizedTypeReference<ResponseDto<List<MovieListResponse>>> MOVIE_LIST_TYPE = new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ResponseDto<List<Integer>>> MOVIE_SEQ_LIST_TYPE = new ParameterizedTypeReference<>() {};
+    private static final int VERSION_STRIPES = 256; // 사용자별 버전 슬롯 수
+
+    private final Util util;
+    private final Duration recommendTimeout;
+    private final Duration unlikeTimeout;
+    private final Duration hydrateTimeout;
+    private final long unlikeCacheTtlMillis;
+    private final int unlikeCacheMaxSize;
+    // 사용자 번호 -> 비선호 영화 번호 목록 (접근 순서 기준 LRU)
+    private final Map<Integer, CachedUnlikeMovieSeqs> unlikeCache;
+    // 사용자 번호 -> 진행 중인 비선호 영화 목록 조회 (동시 조회를 한 번으로 합침)
+    private final Map<Integer, Mono<List<Integer>>> unlikeInFlight = new ConcurrentHashMap<>();
+    // 사용자 번호 슬롯 -> 비선호 영화 목록 버전 (무효화할 때마다 증가, 조회 도중 바뀌면 캐시에 저장하지 않음)
+    private final AtomicLongArray unlikeVersions = new AtomicLongArray(VERSION_STRIPES);
+
+    @Value("${movie.baseurl}")
+    private String movieBaseUrl; // 영화 서버 API의 기본 URL
+
+    @Value("${user-review.baseurl}")
+    private String userBaseUrl; // 사용자-리뷰 서버 API의 기본 URL
+
+    @Value("${recommend.baseurl}")
+    private String recommendBaseUrl; // 추천서버 API의 기본 URL
+
+    public RecommendationPipeline(Util util,
+                                  @Value("${bff.recommendation.recommend-timeout-millis:1500}") long recommendTimeoutMillis,
+                                  @Value("${bff.recommendation.unlike-timeout-millis:1000}") long unlikeTimeoutMillis,
+                                  @Value("${bff.recommendation.hydrate-timeout-millis:2000}") long hydrateTimeoutMillis,
+                                  @Value("${bff.recommendation.unlike-cache-ttl-seconds:30}") long unlikeCacheTtlSeconds,
+                                  @Value("${bff.recommendation.unlike-cache-max-size:10000}") int unlikeCacheMaxSize) {
+        this.util = util;
+        this.recommendTimeout = Duration.ofMillis(recommendTimeoutMillis);
+        this.unlikeTimeout = Duration.ofMillis(unlikeTimeoutMillis);
+        this.hydrateTimeout = Duration.ofMillis(hydrateTimeoutMillis);
+        this.unlikeCacheTtlMillis = Duration.ofSeconds(unlikeCacheTtlSeconds).toMillis();
+        this.unlikeCacheMaxSize = unlikeCacheMaxSize;
+        this.unlikeCache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CachedUnlikeMovieSeqs> eldest) {
+                return size() > RecommendationPipeline.this.unlikeCacheMaxSize;
+            }
+        });
+    }
+
+    /**
+     * 콘텐츠(영화 제목, 개봉 연도, 배우) 기반으로 추천 영화 목록을 조회하는 메서드입니다.
+     *
+     * @param seeds           추천 기준 콘텐츠 목록
+     * @param unlikeMovieSeqs 제외할 비선호 영화 번호 목록
+     * @return 비선호 영화를 제외한 추천 영화 목록
+     */
+    public Mono<List<MovieListResponse>> recommendByContent(List<RecommendByContentRequest> seeds, List<Integer> unlikeMovieSeqs) {
+        return requestContent(seeds)
+                .flatMap(recommendation -> hydrate(recommendation, unlikeMovieSeqs));
+    }
+
+    /**
+     * 추천 서버의 추천 결과에서 비선호 영화를 제외한 영화 목록을 영화 서버에서 한 번에 조회하는 메서드입니다.
+     *
+     * @param recommendation  추천 서버의 추천 결과
+     * @param unlikeMovieSeqs 제외할 비선호 영화 번호 목록
+     * @return 추천 영화 목록 (추천 결과가 없으면 빈 목록)
+     */
+    public Mono<List<MovieListResponse>> hydrate(List<MovieSeqListRequest> recommendation, List<Integer> unlikeMovieSeqs) {
+        // 1. 추천 결과 중복 제거 (추천 결과가 없으면 영화 서버를 호출하지 않음)
+        List<MovieSeqListRequest> movieSeqListRequests = recommendation.stream().distinct().toList();
+        if (movieSeqListRequests.isEmpty()) {
+            return Mono.just(Collections.emptyList());
+        }
+        // 2. 영화 서버에서 비선호 영화를 제외한 추천 영화 목록을 한 번에 조회
+        MovieListRequest movieListRequest = new MovieListRequest(movieSeqListRequests, unlikeMovieSeqs);
+        String movieListPath = util.getUri("/list/recommendation");
+        return util.sendGetWithRequestBodyRequestForData(movieBaseUrl, movieListPath, movieListRequest, MOVIE_LIST_TYPE)
+                .timeout(hydrateTimeout)
+                .onErrorMap(TimeoutException.class, e -> new RestApiException(StatusCode.SERVICE_STOP, "추천 영화 목록 조회 응답 시간이 초과되었습니다."))
+                .defaultIfEmpty(Collections.emptyList());
+    }
+
+    // 추천 서버에 콘텐츠 기반 추천 요청 (중복 기준 제거, 실패하거나 제한 시간을 넘기면 빈 목록)
+    public Mono<List<MovieSeqListRequest>> requestContent(List<RecommendByContentRequest> seeds) {
+        List<RecommendByContentRequest> distinctSeeds = seeds.stream().distinct().toList();
+        if (distinctSeeds.isEmpty()) {
+            return Mono.just(Collections.emptyList());
+        }
+        String recommendationPath = util.getUri("/content");
+        return fallbackToEmpty("추천 서버 콘텐츠 기반 추천",
+                util.sendPostRequestToRecommendServer(recommendBaseUrl, recommendationPath, distinctSeeds), recommendTimeout);
+    }
+
+    // 추천 서버에 평점-리뷰 기반 추천 요청 (실패하거나 제한 시간을 넘기면 빈 목록)
+    public Mono<List<MovieSeqListRequest>> requestCollaborative(int userSeq) {
+        String path = util.getUri("/collabo");
+        return fallbackToEmpty("추천 서버 평점-리뷰 기반 추천",
+                util.sendPostRequestToRecommendServer(recommendBaseUrl, path, userSeq), recommendTimeout);
+    }
+
+    // 사용자의 비선호 영화 번호 목록 조회 (짧은 시간 캐시, 실패하거나 제한 시간을 넘기면 빈 목록)
+    public Mono<List<Integer>> unlikeMovieSeqs(int userSeq) {
+        CachedUnlikeMovieSeqs cached = unlikeCache.get(userSeq);
+        if (cached != null && cached.getExpiresAt() > System.currentTimeMillis()) {
+            return Mono.just(cached.getMovieSeqs());
+        }
+        return unlikeInFlight.computeIfAbsent(userSeq, this::fetchUnlikeMovieSeqs);
+    }
+
+    // 비선호 영화가 등록, 삭제되면 버전을 올리고 캐시된 목록과 진행 중인 조회 제거 (이후 요청은 새로 조회)
+    public void evictUnlikeMovieSeqs(int userSeq) {
+        synchronized (unlikeCache) {
+            unlikeVersions.incrementAndGet(stripe(userSeq));
+            unlikeCache.remove(userSeq);
+        }
+        unlikeInFlight.remove(userSeq);
+    }
+
+    // 사용자 서버에서 비선호 영화 목록 조회 (조회 시작 후 무효화되었으면 캐시에 저장하지 않음)
+    private Mono<List<Integer>> fetchUnlikeMovieSeqs(int userSeq) {
+        long version = unlikeVersions.get(stripe(userSeq));
+        String unlikeMoviePath = util.getUri("/" + userSeq + "/unlike-movie");
+        // 완료 시 자신이 등록한 조회만 제거 (무효화 후 새로 시작된 조회는 유지)
+        AtomicReference<Mono<List<Integer>>> self = new AtomicReference<>();
+        Mono<List<Integer>> fetch = util.sendGetRequestForData(userBaseUrl, unlikeMoviePath, MOVIE_SEQ_LIST_TYPE)
+                .timeout(unlikeTimeout)
+                .defaultIfEmpty(Collections.emptyList())
+                .doOnNext(movieSeqs -> putUnlikeMovieSeqs(userSeq, version, movieSeqs))
+                .onErrorResume(e -> {
+                    log.warn("비선호 영화 목록 조회 실패로 제외 없이 추천 - 사용자 ID: {}, 에러: {}", userSeq, e.getMessage());
+                    return Mono.just(Collections.emptyList());
+                })
+                .doFinally(signal -> unlikeInFlight.remove(userSeq, self.get()))
+                .cache();
+        self.set(fetch);
+        return fetch;
+    }
+
+    // 조회 시작 시점의 버전이 그대로일 때만 캐시에 저장
+    private void putUnlikeMovieSeqs(int userSeq, long loadedVersion, List<Integer> movieSeqs) {
+        synchronized (unlikeCache) {
+            if (unlikeVersions.get(stripe(userSeq)) != loadedVersion) {
+                return;
+            }
+            unlikeCache.put(userSeq, new CachedUnlikeMovieSeqs(List.copyOf(movieSeqs), System.currentTimeMillis() + unlikeCacheTtlMillis));
+        }
+    }
+
+    private static int stripe(int userSeq) {
+        return Math.floorMod(userSeq, VERSION_STRIPES);
+    }
+
+    private Mono<List<MovieSeqListRequest>> fallbackToEmpty(String name, Mono<List<MovieSeqListRequest>> call, Duration timeout) {
+        return call.timeout(timeout)
+                .defaultIfEmpty(Collections.emptyList())
+                .onErrorResume(e -> {
+                    log.warn("{} 실패로 빈 추천 결과 사용 - 에러: {}", name, e.getMessage());
+                    return Mono.just(Collections.emptyList());
+                });
+    }
+
+    // 캐시된 비선호 영화 번호 목록
+    @Getter
+    @AllArgsConstructor
+    private static class CachedUnlikeMovieSeqs {
+        private final List<Integer> movieSeqs;
+        private final long expiresAt;
+    }
+}
@@ -0,0 +1,183 @@
+package com.flicker.bff.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flicker.bff.common.module.status.StatusCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * SharedResponseCache는 모든 사용자에게 같은 응답을 주는 BFF 엔드포인트(Top10, 개봉 영화, 평점 높은 영화 목록,
+ * 워드 클라우드, 평점 분포 등)의 응답 바이트를 보관하는 인메모리 캐시입니다.
+ * <p>
+ * 캐시 키는 라우트 이름과 파라미터이며, 최대 max-size개까지 LRU 방식으로 보관합니다.
+ * TTL이 지난 응답은 stale-seconds 동안은 그대로 응답하면서 백그라운드에서 새로 조회하고(stale-while-revalidate),
+ * 같은 키에 대한 동시 조회는 하위 서비스 호출 한 번으로 합칩니다.
+ * 응답에는 ETag를 붙이며, 클라이언트의 If-None-Match가 일치하면 본문 없이 304로 응답합니다.
+ * 하위 서비스는 NO_SUCH_ELEMENT 등의 오류도 HTTP 200으로 응답하므로, 2xx이면서 응답 본문의 serviceStatus가 SUCCESS인 응답만 캐시합니다.
+ */
+@Slf4j
+@Component
+public class SharedResponseCache {
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+    private final int maxSize;
+    private final long staleMillis;
+    // 라우트:파라미터 -> 캐시된 응답 (접근 순서 기준 LRU)
+    private final Map<String, CachedResponse> cache;
+    // 라우트:파라미터 -> 진행 중인 하위 서비스 조회 (동시 조회를 한 번으로 합침)
+    private final Map<String, Mono<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public SharedResponseCache(MeterRegistry meterRegistry, ObjectMapper objectMapper,
+                               @Value("${bff.response-cache.max-size:1000}") int maxSize,
+                               @Value("${bff.response-cache.stale-seconds:300}") long staleSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.objectMapper = objectMapper;
+        this.maxSize = maxSize;
+        this.staleMillis = Duration.ofSeconds(staleSeconds).toMillis();
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > SharedResponseCache.this.maxSize;
+            }
+        });
+        Gauge.builder("bff.response-cache.size", cache, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답을 조회하고, 없으면 하위 서비스에서 조회하여 캐시하는 메서드입니다.
+     * 2xx이면서 serviceStatus가 SUCCESS인 응답만 캐시하며, 그 외 응답은 캐시하지 않고 그대로 전달합니다.
+     * 갱신 결과가 실패 응답이면 기존 캐시를 유지합니다.
+     *
+     * @param route       라우트 이름 (지표 태그로 사용)
+     * @param key         라우트 안에서 응답을 구분하는 파라미터 (없으면 빈 문자열)
+     * @param ttl         응답을 새 것으로 간주하는 시간
+     * @param ifNoneMatch 클라이언트가 보낸 If-None-Match 헤더 (없으면 null)
+     * @param loader      하위 서비스 조회
+     * @return 캐시 또는 하위 서비스 응답 (ETag가 일치하면 304)
+     */
+    public Mono<ResponseEntity<byte[]>> get(String route, String key, Duration ttl, String ifNoneMatch,
+                                            Supplier<Mono<ResponseEntity<byte[]>>> loader) {
+        String cacheKey = route + ":" + key;
+        CachedResponse cached = cache.get(cacheKey);
+        long now = System.currentTimeMillis();
+        // 1. TTL 이내이면 바로 응답
+        if (cached != null && now < cached.getExpiresAt()) {
+            count(route, "hit");
+            return Mono.just(toResponse(route, cached, ifNoneMatch));
+        }
+        // 2. TTL이 지났지만 stale 기간 이내이면 기존 응답을 주고 백그라운드에서 갱신
+        if (cached != null && now < cached.getExpiresAt() + staleMillis) {
+            count(route, "stale");
+            load(cacheKey, ttl, loader).subscribe(
+                    refreshed -> {},
+                    e -> log.warn("캐시 백그라운드 갱신 실패 - 키: {}, 에러: {}", cacheKey, e.getMessage()));
+            return Mono.just(toResponse(route, cached, ifNoneMatch));
+        }
+        // 3. 캐시가 없으면 하위 서비스에서 조회 후 응답
+        count(route, "miss");
+        return load(cacheKey, ttl, loader)
+                .map(loaded -> toResponse(route, loaded, ifNoneMatch));
+    }
+
+    // 같은 키에 대해 진행 중인 조회가 있으면 그 결과를 함께 사용
+    private Mono<CachedResponse> load(String cacheKey, Duration ttl, Supplier<Mono<ResponseEntity<byte[]>>> loader) {
+        return inFlight.computeIfAbsent(cacheKey, k -> loader.get()
+                .map(responseEntity -> {
+                    byte[] body = responseEntity.getBody() != null ? responseEntity.getBody() : new byte[0];
+                    CachedResponse loaded = new CachedResponse(responseEntity.getStatusCode(), body,
+                            "\"" + DigestUtils.md5DigestAsHex(body) + "\"", System.currentTimeMillis() + ttl.toMillis(),
+                            isSuccess(responseEntity.getStatusCode(), body));
+                    // 성공 응답만 캐시 (실패 응답이면 기존 캐시 유지)
+                    if (loaded.isCacheable()) {
+                        cache.put(k, loaded);
+                    }
+                    return loaded;
+                })
+                .doFinally(signal -> inFlight.remove(k))
+                .cache());
+    }
+
+    // 2xx이면서 응답 본문의 serviceStatus가 SUCCESS인지 확인 (본문을 읽을 수 없으면 실패로 간주)
+    private boolean isSuccess(HttpStatusCode status, byte[] body) {
+        if (!status.is2xxSuccessful() || body.length == 0) {
+            return false;
+        }
+        try {
+            return objectMapper.readTree(body).path("serviceStatus").asInt(-1) == StatusCode.SUCCESS.getServiceStatus();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // 캐시된 응답을 HTTP 응답으로 변환 (If-None-Match가 ETag와 일치하면 304)
+    private ResponseEntity<byte[]> toResponse(String route, CachedResponse cached, String ifNoneMatch) {
+        if (!cached.isCacheable()) {
+            return ResponseEntity.status(cached.getStatus())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(cached.getBody());
+        }
+        if (matches(ifNoneMatch, cached.getEtag())) {
+            meterRegistry.counter("bff.response-cache.not-modified", "route", route).increment();
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cached.getEtag())
+                    .build();
+        }
+        return ResponseEntity.status(cached.getStatus())
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(cached.getEtag())
+                .body(cached.getBody());
+    }
+
+    // If-None-Match 헤더(쉼표로 구분된 ETag 목록, 약한 ETag 포함)에 ETag가 있는지 확인
+    private boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 라우트별 캐시 조회 결과 지표 (result: hit, stale, miss)
+    private void count(String route, String result) {
+        meterRegistry.counter("bff.response-cache.requests", "route", route, "result", result).increment();
+    }
+
+    // 캐시된 응답 (상태 코드, 본문, ETag, 만료 시각, 캐시 가능 여부)
+    @Getter
+    @AllArgsConstructor
+    private static class CachedResponse {
+        private final HttpStatusCode status;
+        private final byte[] body;
+        private final String etag;
+        private final long expiresAt;
+        private final boolean cacheable;
+    }
+}
@@ -6,6 +6,7 @@ import com.flicker.bff.common.module.exception.RestApiException;
 import com.flicker.bff.common.module.response.ResponseDto;
 //import com.flicker.bff.common.module.status.StatusCode;
 import com.flicker.bff.common.module.status.StatusCode;
+import com.flicker.bff.config.DownstreamClientRegistry;
 import com.flicker.bff.dto.movie.MovieSeqListRequest;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletResponse;
@@ -28,7 +29,7 @@ import java.util.List;
 @Component
 @RequiredArgsConstructor
 public class Util {
-    private final WebClient.Builder webClientBuilder;
+    private final DownstreamClientRegistry downstreamClientRegistry; // 하위 서비스별로 미리 만들어 둔 WebClient
 
     private final ObjectMapper objectMapper;
 
@@ -46,7 +47,7 @@ public class Util {
     // 공통으로 사용할 WebClient GET 요청 메서드 (비동기 처리)
     public Mono<ResponseEntity<ResponseDto>> sendGetRequestAsync(String baseUrl, String path) {
         try {
-            WebClient webClient = webClientBuilder.baseUrl(baseUrl).build();
+            WebClient webClient = downstreamClientRegistry.get(baseUrl);
             return webClient.get()
                     .uri(path)
                     .retrieve()
@@ -80,12 +81,85 @@ public class Util {
         }
     }
 
+    // data 타입을 지정하여 응답을 바로 역직렬화하는 GET 요청 메서드 (문자열, Map 변환 없이 응답 스트림에서 한 번에 변환, 실패 시 RestApiException)
+    public <T> Mono<T> sendGetRequestForData(String baseUrl, String path, ParameterizedTypeReference<ResponseDto<T>> responseType) {
+        WebClient webClient = downstreamClientRegistry.get(baseUrl);
+        return retrieveData(webClient.get().uri(path), responseType, "GET");
+    }
+
+    // data 타입을 지정하여 응답을 바로 역직렬화하는 GET 요청 메서드 (RequestBody 포함)
+    public <T, B> Mono<T> sendGetWithRequestBodyRequestForData(String baseUrl, String path, B requestBody, ParameterizedTypeReference<ResponseDto<T>> responseType) {
+        WebClient webClient = downstreamClientRegistry.get(baseUrl);
+        return retrieveData(webClient.method(HttpMethod.GET)
+                .uri(path)
+                .body(requestBody != null ? BodyInserters.fromValue(requestBody) : BodyInserters.empty()), responseType, "GET(body)");
+    }
+
+    // 응답을 ResponseDto<T>로 역직렬화한 뒤 상태 코드가 성공이면 data 반환 (data가 null이면 빈 Mono)
+    private <T> Mono<T> retrieveData(WebClient.RequestHeadersSpec<?> request, ParameterizedTypeReference<ResponseDto<T>> responseType, String method) {
+        return request.retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, clientResponse -> {
+                    if (clientResponse.statusCode() == HttpStatus.NOT_FOUND) {
+                        // 404 상태 코드에 대한 예외 발생
+                        return Mono.error(new RestApiException(StatusCode.NOT_FOUND, "리소스를 찾을 수 없습니다."));
+                    }
+                    return Mono.error(new RestApiException(StatusCode.NOT_FOUND, "클라이언트 오류 발생"));
+                })
+                .bodyToMono(responseType)  // 응답 스트림(DataBuffer)에서 바로 ResponseDto<T>로 역직렬화
+                .flatMap(responseDto -> {
+                    // ResponseDto의 상태 코드가 성공이 아닌 경우 처리
+                    if (responseDto.getServiceStatus() != StatusCode.SUCCESS.getServiceStatus()) {
+                        return Mono.error(new RestApiException(
+                                StatusCode.of(responseDto.getHttpStatus(), responseDto.getServiceStatus(), responseDto.getMessage()),
+                                responseDto.getData()
+                        ));
+                    }
+                    return Mono.justOrEmpty(responseDto.getData());
+                })
+                .onErrorMap(e -> !(e instanceof RestApiException),
+                        e -> new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "WebClient " + method + " 요청 중 오류 발생: " + e.getMessage()));
+    }
+
+    // 응답을 역직렬화하지 않고 하위 서비스의 상태 코드와 바이트 그대로 전달하는 GET 요청 메서드 (BFF에서 수정하지 않는 응답용)
+    public Mono<ResponseEntity<byte[]>> sendGetRequestRaw(String baseUrl, String path) {
+        WebClient webClient = downstreamClientRegistry.get(baseUrl);
+        return webClient.get()
+                .uri(path)
+                .retrieve()
+                .onStatus(HttpStatusCode::is4xxClientError, clientResponse -> {
+                    if (clientResponse.statusCode() == HttpStatus.NOT_FOUND) {
+                        // 404 상태 코드에 대한 예외 발생
+                        return Mono.error(new RestApiException(StatusCode.NOT_FOUND, "리소스를 찾을 수 없습니다."));
+                    }
+                    return Mono.error(new RestApiException(StatusCode.NOT_FOUND, "클라이언트 오류 발생"));
+                })
+                .toEntity(byte[].class)
+                .map(responseEntity -> ResponseEntity.status(responseEntity.getStatusCode())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(responseEntity.getBody()))
+                .onErrorResume(e -> {
+                    if (e instanceof RestApiException ex) {
+                        return Mono.just(rawResponse(ex.getStatusCode(), ex.getData()));
+                    } else {
+                        return Mono.just(rawResponse(StatusCode.INTERNAL_SERVER_ERROR, "WebClient GET 요청 중 오류 발생: " + e.getMessage()));
+                    }
+                });
+    }
+
+    // 오류 응답을 ResponseDto 형식의 바이트로 생성
+    public ResponseEntity<byte[]> rawResponse(StatusCode statusCode, Object data) {
+        try {
+            return ResponseEntity.status(statusCode.getHttpStatus())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(objectMapper.writeValueAsBytes(new ResponseDto<>(statusCode, data)));
+        } catch (JsonProcessingException e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "응답 변환 중 오류 발생: " + e.getMessage());
+        }
+    }
+
     public Mono<ResponseEntity<ResponseDto>> sendGetRequestAsyncLimitMemorySizeUp(String baseUrl, String path) {
         try {
-            WebClient webClient = webClientBuilder
-                    .baseUrl(baseUrl)
-                    .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(51200 * 1024))
-                    .build();
+            WebClient webClient = downstreamClientRegistry.getLargeBuffer(baseUrl);
             return webClient.get()
                     .uri(path)
                     .retrieve()
@@ -122,8 +196,8 @@ public class Util {
     // 공통으로 사용할 WebClient POST 요청 메서드 (비동기 처리)
     public <T> Mono<ResponseEntity<ResponseDto>> sendPostRequestAsync(String baseUrl, String path, T requestBody) {
         try {
-            // WebClient 인스턴스 생성
-            WebClient webClient = webClientBuilder.baseUrl(baseUrl).build();
+            // 하위 서비스 WebClient 조회
+            WebClient webClient = downstreamClientRegistry.get(baseUrl);
             return webClient.post()
                     .uri(path)
                     .body(requestBody != null ? BodyInserters.fromValue(requestBody) : BodyInserters.empty())
@@ -155,7 +229,7 @@ public class Util {
     // 로그인 처리용 토큰 포함 응답 생성  액세스 토큰과 쿠키가 모두 오는 버전
     public <T> Mono<ResponseEntity<ResponseDto>> sendPostRequestAsyncWithToken(String baseUrl, String path, T requestBody) {
         try {
-            WebClient webClient = webClientBuilder.baseUrl(baseUrl).build();
+            WebClient webClient = downstreamClientRegistry.get(baseUrl);
             return webClient.post()
                     .uri(path)
                     .body(requestBody != null ? BodyInserters.fromValue(requestBody) : BodyInserters.empty())
@@ -213,7 +287,7 @@ public class Util {
     // 회원 수정 시 토큰 재발급 처리르 위한 메소드
     public <T> Mono<ResponseEntity<ResponseDto>> sendPutRequestAsyncWithToken(String baseUrl, String path, T requestBody) {
         try {
-            WebClient webClient = webClientBuilder.baseUrl(baseUrl).build();
+            WebClient webClient = downstreamClientRegistry.get(baseUrl);
             return webClient.put()
                     .uri(path)
                     .body(requestBody != null ? BodyInserters.fromValue(requestBody) : BodyInserters.empty())
@@ -261,7 +335,7 @@ public class Util {
     // 토큰 재발급을 위한 메서드
     public <T> Mono<ResponseEntity<ResponseDto>> sendPostRequestAsyncForTokenGenerate(String baseUrl, String path, T requestBody, String token) {
         // Build the WebClient request with the refresh token in the cookie
-        WebClient webClient = webClientBuilder.baseUrl(baseUrl).build();
+        WebClient webClient = downstreamClientRegistry.get(baseUrl);
         return webClient.post()
                 .uri(path)
                 .body(requestBody != null ? BodyInserters.fromValue(requestBody) : BodyInserters.empty())
@@ -304,8 +378,8 @@ public class Util {
     // 공통으로 사용할 WebClient PUT 요청 메서드 (비동기 처리)
     public <T> Mono<ResponseEntity<ResponseDto>> sendPutRequestAsync(String baseUrl, String path, T requestBody) {
         try {
-            // WebClient 인스턴스 생성
-            WebClient webClient = webClientBuilder.baseUrl(baseUrl).build();
+            // 하위 서비스 WebClient 조회
+            WebClient webClient = downstreamClientRegistry.get(baseUrl);
             return webClient.put()
                     .uri(path)
                     .body(requestBody != null ? BodyInserters.fromValue(requestBody) : BodyInserters.empty())
@@ -337,8 +411,8 @@ public class Util {
     // 공통으로 사용할 WebClient DELETE 요청 메서드 (비동기 처리)
     public Mono<ResponseEntity<ResponseDto>> sendDeleteRequestAsync(String baseUrl, String path) {
         try {
-            // WebClient 인스턴스 생성
-            WebClient webClient = webClientBuilder.baseUrl(baseUrl).build();
+            // 하위 서비스 WebClient 조회
+            WebClient webClient = downstreamClientRegistry.get(baseUrl);
             return webClient.delete()
                     .uri(path)
                     .retrieve()
@@ -369,7 +443,7 @@ public class Util {
 
     // 추천 서버에 요청할 때 사용하는 WebClient POST 요청 메서드
     public <T> Mono<List<MovieSeqListRequest>> sendPostRequestToRecommendServer(String baseUrl, String path, T requestBody) {
-        WebClient webClient = webClientBuilder.baseUrl(baseUrl).build();
+        WebClient webClient = downstreamClientRegistry.get(baseUrl);
 
         return webClient.post()
                 .uri(path)
@@ -382,8 +456,8 @@ public class Util {
     // 공통으로 사용할 WebClient GET 요청 메서드 (비동기 처리, RequestBody 포함)
     public <T> Mono<ResponseEntity<ResponseDto>> sendGetWithRequestBodyRequestAsync(String baseUrl, String path, T requestBody) {
         try {
-            // WebClient 인스턴스 생성
-            WebClient webClient = webClientBuilder.baseUrl(baseUrl).build();
+            // 하위 서비스 WebClient 조회
+            WebClient webClient = downstreamClientRegistry.get(baseUrl);
             return webClient.method(HttpMethod.GET)
                     .uri(path)
                     .body(requestBody != null ? BodyInserters.fromValue(requestBody) : BodyInserters.empty())
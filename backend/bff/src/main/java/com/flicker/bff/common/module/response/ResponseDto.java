@@ -10,11 +10,12 @@ import org.springframework.http.ResponseEntity;
 
 import java.time.LocalDateTime;
 
+// 하위 서비스 응답을 data 타입까지 한 번에 역직렬화할 수 있도록 data 타입을 지정 (기존처럼 타입 없이 사용하면 Object)
 @Getter
 @ToString
-public class ResponseDto {
+public class ResponseDto<T> {
 
-    private final Object data;
+    private final T data;
     private final String message;
     private final LocalDateTime timestamp = LocalDateTime.now();
     private final int httpStatus;
@@ -23,7 +24,7 @@ public class ResponseDto {
     // 생성자 기반으로 역직렬화 가능하도록 @JsonCreator와 @JsonProperty 유지
     @JsonCreator
     public ResponseDto(
-            @JsonProperty("data") Object data,
+            @JsonProperty("data") T data,
             @JsonProperty("message") String message,
             @JsonProperty("httpStatus") int httpStatus,
             @JsonProperty("serviceStatus") int serviceStatus
@@ -35,13 +36,13 @@ public class ResponseDto {
     }
 
     // StatusCode를 처리하는 생성자
-    public ResponseDto(StatusCode statusCode, Object data) {
+    public ResponseDto(StatusCode statusCode, T data) {
         this(data, statusCode.getMessage(), statusCode.getHttpStatus().value(), statusCode.getServiceStatus());
     }
 
     public static ResponseEntity<ResponseDto> response(StatusCode statusCode, Object data) {
         return ResponseEntity
                 .status(statusCode.getHttpStatus())
-                .body(new ResponseDto(statusCode, data));
+                .body(new ResponseDto<>(statusCode, data));
     }
 }
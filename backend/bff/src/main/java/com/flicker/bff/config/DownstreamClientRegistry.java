@@ -0,0 +1,156 @@
+package com.flicker.bff.config;
+
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DownstreamClientRegistry는 BFF가 호출하는 하위 서비스(movie, user-review, recommend)별로
+ * 미리 만들어 둔 WebClient를 제공하는 레지스트리입니다.
+ * <p>
+ * 서비스마다 별도의 Reactor Netty ConnectionProvider(커넥션 풀)를 사용하여 한 서비스의 지연이 다른 서비스 호출에 영향을 주지 않으며,
+ * 요청마다 WebClient, 코덱 설정을 새로 만들지 않고 keep-alive 커넥션을 재사용합니다.
+ * 커넥션 풀 지표는 풀 이름(bff-서비스 이름), HTTP 클라이언트 지표는 uri 태그(서비스 이름)로 구분되어 Micrometer에 등록됩니다.
+ */
+@Slf4j
+@Component
+public class DownstreamClientRegistry {
+
+    public static final String MOVIE = "movie";
+    public static final String USER_REVIEW = "user-review";
+    public static final String RECOMMEND = "recommend";
+    private static final String DEFAULT = "default"; // 등록되지 않은 기본 URL에 사용하는 풀 이름
+    private static final int LARGE_BUFFER_SIZE = 51200 * 1024; // 큰 응답용 인메모리 버퍼 크기 (50MB)
+
+    private final WebClient.Builder webClientBuilder;
+    private final Map<String, String> names = new ConcurrentHashMap<>(); // 기본 URL -> 서비스 이름
+    private final Map<String, DownstreamClient> clients = new ConcurrentHashMap<>(); // 기본 URL -> 하위 서비스 클라이언트
+
+    // application.properties에서 설정된 서비스별 최대 커넥션 수
+    @Value("${bff.client.max-connections:200}")
+    private int maxConnections;
+
+    // application.properties에서 설정된 커넥션 획득 대기 요청 최대 수
+    @Value("${bff.client.pending-acquire-max-count:1000}")
+    private int pendingAcquireMaxCount;
+
+    // application.properties에서 설정된 커넥션 획득 대기 시간 (밀리초)
+    @Value("${bff.client.pending-acquire-timeout-millis:5000}")
+    private long pendingAcquireTimeoutMillis;
+
+    // application.properties에서 설정된 유휴 커넥션 유지 시간 (밀리초)
+    @Value("${bff.client.max-idle-time-millis:30000}")
+    private long maxIdleTimeMillis;
+
+    // application.properties에서 설정된 커넥션 최대 수명 (밀리초)
+    @Value("${bff.client.max-life-time-millis:300000}")
+    private long maxLifeTimeMillis;
+
+    // application.properties에서 설정된 유휴 커넥션 백그라운드 정리 주기 (밀리초)
+    @Value("${bff.client.evict-in-background-millis:60000}")
+    private long evictInBackgroundMillis;
+
+    // application.properties에서 설정된 커넥션 연결 제한 시간 (밀리초)
+    @Value("${bff.client.connect-timeout-millis:3000}")
+    private int connectTimeoutMillis;
+
+    // application.properties에서 설정된 HTTP/2 평문(h2c) 사용 여부 (하위 서비스가 지원하지 않으면 HTTP/1.1 사용)
+    @Value("${bff.client.h2c:false}")
+    private boolean h2c;
+
+    public DownstreamClientRegistry(WebClient.Builder webClientBuilder,
+                                    @Value("${movie.baseurl}") String movieBaseUrl,
+                                    @Value("${user-review.baseurl}") String userReviewBaseUrl,
+                                    @Value("${recommend.baseurl}") String recommendBaseUrl) {
+        this.webClientBuilder = webClientBuilder;
+        this.names.put(movieBaseUrl, MOVIE);
+        this.names.put(userReviewBaseUrl, USER_REVIEW);
+        this.names.put(recommendBaseUrl, RECOMMEND);
+    }
+
+    // 설정 값 주입 이후 하위 서비스별 WebClient를 미리 생성
+    @PostConstruct
+    public void init() {
+        names.keySet().forEach(this::client);
+    }
+
+    // 기본 URL에 해당하는 WebClient 조회
+    public WebClient get(String baseUrl) {
+        return client(baseUrl).getWebClient();
+    }
+
+    // 기본 URL에 해당하는 큰 응답용(50MB 버퍼) WebClient 조회 (같은 커넥션 풀 사용)
+    public WebClient getLargeBuffer(String baseUrl) {
+        return client(baseUrl).getLargeBufferWebClient();
+    }
+
+    // 종료 시 모든 커넥션 풀 정리
+    @PreDestroy
+    public void dispose() {
+        for (DownstreamClient client : clients.values()) {
+            try {
+                client.getConnectionProvider().disposeLater().block(Duration.ofSeconds(5));
+            } catch (Exception e) {
+                log.warn("커넥션 풀 정리 중 오류 발생 - 에러: {}", e.getMessage());
+            }
+        }
+    }
+
+    private DownstreamClient client(String baseUrl) {
+        return clients.computeIfAbsent(baseUrl, url -> create(names.getOrDefault(url, DEFAULT), url));
+    }
+
+    // 서비스별 커넥션 풀, HTTP 클라이언트, WebClient 생성
+    private DownstreamClient create(String name, String baseUrl) {
+        // 1. 서비스 전용 커넥션 풀 (최대 커넥션, 대기 요청 제한, 유휴/수명 초과 커넥션 정리)
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("bff-" + name)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMillis))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMillis))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMillis))
+                .evictInBackground(Duration.ofMillis(evictInBackgroundMillis))
+                .metrics(true)
+                .build();
+        // 2. keep-alive, 연결 제한 시간, 프로토콜 설정 (URI 태그는 서비스 이름으로 고정하여 지표 수 제한)
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .keepAlive(true)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .protocol(h2c ? new HttpProtocol[]{HttpProtocol.HTTP11, HttpProtocol.H2C} : new HttpProtocol[]{HttpProtocol.HTTP11})
+                .metrics(true, uri -> name);
+        // 3. 기본 WebClient와 큰 응답용 WebClient 생성 (코덱 설정은 여기서 한 번만 수행)
+        WebClient webClient = webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        WebClient largeBufferWebClient = webClient.mutate()
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(LARGE_BUFFER_SIZE))
+                .build();
+        log.info("하위 서비스 WebClient 생성 - 서비스: {}, 기본 URL: {}", name, baseUrl);
+        return new DownstreamClient(connectionProvider, webClient, largeBufferWebClient);
+    }
+
+    // 하위 서비스별 커넥션 풀과 WebClient 묶음
+    @Getter
+    @AllArgsConstructor
+    private static class DownstreamClient {
+        private final ConnectionProvider connectionProvider;
+        private final WebClient webClient;
+        private final WebClient largeBufferWebClient;
+    }
+}
@@ -7,6 +7,7 @@ import com.flicker.bff.dto.movie.ActorUpdateRequest;
 import com.flicker.bff.dto.movie.MovieCreateRequest;
 import com.flicker.bff.dto.movie.MovieUpdateRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
@@ -59,34 +60,71 @@ public class BffMovieController {
 
     // 전체 영화 목록 조회
     @GetMapping("/list/{page}/{size}")
-    public Mono<ResponseEntity<ResponseDto>> getMovieList(@PathVariable int page, @PathVariable int size) {
+    public Mono<ResponseEntity<byte[]>> getMovieList(@PathVariable int page, @PathVariable int size) {
         return bffMovieService.getMovieList(page, size);
     }
 
     // 장르별 영화 목록 조회
     @GetMapping("/list/genre/{genre}/{page}/{size}")
-    public Mono<ResponseEntity<ResponseDto>> getMovieListByGenre(@PathVariable String genre, @PathVariable int page, @PathVariable int size) {
+    public Mono<ResponseEntity<byte[]>> getMovieListByGenre(@PathVariable String genre, @PathVariable int page, @PathVariable int size) {
         return bffMovieService.getMovieListByGenre(genre, page, size);
     }
 
     // 배우별 영화 목록 조회
     @GetMapping("/list/actor/{actorName}/{page}/{size}")
-    public Mono<ResponseEntity<ResponseDto>> getMovieListByActor(@PathVariable String actorName, @PathVariable int page, @PathVariable int size) {
+    public Mono<ResponseEntity<byte[]>> getMovieListByActor(@PathVariable String actorName, @PathVariable int page, @PathVariable int size) {
         return bffMovieService.getMovieListByActor(actorName, page, size);
     }
 
     // 국가별 영화 목록 조회
     @GetMapping("/list/country/{country}/{page}/{size}")
-    public Mono<ResponseEntity<ResponseDto>> getMovieListByCountry(@PathVariable String country, @PathVariable int page, @PathVariable int size) {
+    public Mono<ResponseEntity<byte[]>> getMovieListByCountry(@PathVariable String country, @PathVariable int page, @PathVariable int size) {
         return bffMovieService.getMovieListByCountry(country, page, size);
     }
 
     // 연도별 영화 목록 조회
     @GetMapping("/list/year/{year}/{page}/{size}")
-    public Mono<ResponseEntity<ResponseDto>> getMovieListByYear(@PathVariable int year, @PathVariable int page, @PathVariable int size) {
+    public Mono<ResponseEntity<byte[]>> getMovieListByYear(@PathVariable int year, @PathVariable int page, @PathVariable int size) {
         return bffMovieService.getMovieListByYear(year, page, size);
     }
 
+    // 전체 영화 목록 커서 조회 (무한 스크롤용)
+    @GetMapping("/list/cursor/{size}")
+    public Mono<ResponseEntity<byte[]>> getMovieListByCursor(@PathVariable int size, @RequestParam(required = false) String cursor) {
+        return bffMovieService.getMovieListByCursor(cursor, size);
+    }
+
+    // 장르별 영화 목록 커서 조회
+    @GetMapping("/list/genre/{genre}/cursor/{size}")
+    public Mono<ResponseEntity<byte[]>> getMovieListByGenreByCursor(@PathVariable String genre, @PathVariable int size, @RequestParam(required = false) String cursor) {
+        return bffMovieService.getMovieListByGenreByCursor(genre, cursor, size);
+    }
+
+    // 배우별 영화 목록 커서 조회
+    @GetMapping("/list/actor/{actorName}/cursor/{size}")
+    public Mono<ResponseEntity<byte[]>> getMovieListByActorByCursor(@PathVariable String actorName, @PathVariable int size, @RequestParam(required = false) String cursor) {
+        return bffMovieService.getMovieListByActorByCursor(actorName, cursor, size);
+    }
+
+    // 국가별 영화 목록 커서 조회
+    @GetMapping("/list/country/{country}/cursor/{size}")
+    public Mono<ResponseEntity<byte[]>> getMovieListByCountryByCursor(@PathVariable String country, @PathVariable int size, @RequestParam(required = false) String cursor) {
+        return bffMovieService.getMovieListByCountryByCursor(country, cursor, size);
+    }
+
+    // 연도별 영화 목록 커서 조회
+    @GetMapping("/list/year/{year}/cursor/{size}")
+    public Mono<ResponseEntity<byte[]>> getMovieListByYearByCursor(@PathVariable int year, @PathVariable int size, @RequestParam(required = false) String cursor) {
+        return bffMovieService.getMovieListByYearByCursor(year, cursor, size);
+    }
+
+    // 장르, 국가, 연도 복합 필터 영화 목록 및 패싯별 영화 수 조회
+    @GetMapping("/list/filter/{page}/{size}")
+    public Mono<ResponseEntity<byte[]>> getMovieListByFilter(@RequestParam(required = false) String genre, @RequestParam(required = false) String country,
+                                                                  @RequestParam(required = false) Integer year, @PathVariable int page, @PathVariable int size) {
+        return bffMovieService.getMovieListByFilter(genre, country, year, page, size);
+    }
+
     // 검색 영화 목록 조회
     @GetMapping("/list/search/{keyword}/{userSeq}/{page}/{size}")
     public Mono<ResponseEntity<ResponseDto>> getMovieListBySearch(@PathVariable String keyword, @PathVariable int userSeq, @PathVariable int page, @PathVariable int size) {
@@ -114,20 +152,26 @@ public class BffMovieController {
 
     // 1일 기준 TOP 10 영화 목록 조회
     @GetMapping("/list/top10")
-    public Mono<ResponseEntity<ResponseDto>> getTopMovieList() {
-        return bffMovieService.getTopMovieList();
+    public Mono<ResponseEntity<byte[]>> getTopMovieList(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return bffMovieService.getTopMovieList(ifNoneMatch);
+    }
+
+    // 실시간 트렌딩 영화 목록 조회 (window: 1h, 24h)
+    @GetMapping("/list/trending")
+    public Mono<ResponseEntity<byte[]>> getTrendingMovieList(@RequestParam(defaultValue = "1h") String window, @RequestParam(defaultValue = "10") int size) {
+        return bffMovieService.getTrendingMovieList(window, size);
     }
 
     // 영화 워드 클라우드 조회
     @GetMapping("/wordCloud/{movieSeq}")
-    public Mono<ResponseEntity<ResponseDto>> getMovieWordCloud(@PathVariable int movieSeq) {
-        return bffMovieService.getMovieWordCloud(movieSeq);
+    public Mono<ResponseEntity<byte[]>> getMovieWordCloud(@PathVariable int movieSeq, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return bffMovieService.getMovieWordCloud(movieSeq, ifNoneMatch);
     }
 
     // 평점 높은 영화 목록 조회
     @GetMapping("/list/topRating")
-    public Mono<ResponseEntity<ResponseDto>> getTopRatingMovieList() {
-        return bffMovieService.getTopRatingMovieList();
+    public Mono<ResponseEntity<byte[]>> getTopRatingMovieList(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return bffMovieService.getTopRatingMovieList(ifNoneMatch);
     }
 
     // 추천 배우에 따른 연관 영화 목록 조회
@@ -138,8 +182,8 @@ public class BffMovieController {
 
     // 이번달 개봉 영화 목록 조회
     @GetMapping("/list/newMovie")
-    public Mono<ResponseEntity<ResponseDto>> getNewMovieList() {
-        return bffMovieService.getNewMovieList();
+    public Mono<ResponseEntity<byte[]>> getNewMovieList(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return bffMovieService.getNewMovieList(ifNoneMatch);
     }
 
     // 포스터 URL 조회
@@ -7,6 +7,7 @@ import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
@@ -183,8 +184,8 @@ public class BffUserController {
 
     // 리뷰 워드 클라우드
     @GetMapping("/review/movies/{movieSeq}/distribute")
-    public Mono<ResponseEntity<ResponseDto>> getMovieReviewRatingDistribute(@PathVariable(value = "movieSeq")Integer movieSeq){
-        return userService.getMovieReviewRatingDistribute(movieSeq);
+    public Mono<ResponseEntity<byte[]>> getMovieReviewRatingDistribute(@PathVariable(value = "movieSeq")Integer movieSeq, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
+        return userService.getMovieReviewRatingDistribute(movieSeq, ifNoneMatch);
     }
 
     // 마이페이지 리뷰 수 , 라이크 수
@@ -26,6 +26,7 @@ public class ActorService {
 
     private final MovieBuilderUtil movieBuilderUtil;
     private final MovieRepoUtil movieRepoUtil;
+    private final MovieSearchIndex movieSearchIndex;
 
     @Transactional
     public void addActor(ActorAddRequest request) {
@@ -34,6 +35,10 @@ public class ActorService {
         // 2. 배우 정보 추가
         List<Actor> actorList = movieBuilderUtil.buildActorList(request);
         movie.addActors(actorList);
+        // 3. 검색 인덱스 재색인 (커밋 이후 모든 서버에서 재색인)
+        movieSearchIndex.reindex(movie.getMovieSeq());
+        // 4. 검색 캐시 세대 증가 (배우 이름으로 검색되는 결과가 달라짐)
+        movieRepoUtil.increaseSearchGenerationForRedis();
     }
 
     @Transactional
@@ -42,6 +47,10 @@ public class ActorService {
         Movie movie = movieRepoUtil.findById(movieSeq);
         // 2. 배우 정보 삭제
         movie.removeActor(actorSeq);
+        // 3. 검색 인덱스 재색인 (커밋 이후 모든 서버에서 재색인)
+        movieSearchIndex.reindex(movie.getMovieSeq());
+        // 4. 검색 캐시 세대 증가
+        movieRepoUtil.increaseSearchGenerationForRedis();
     }
 
     // TODO: 수정 시 배우 중복 처리
@@ -52,5 +61,9 @@ public class ActorService {
         // 2. 배우 정보 수정
         Actor actor = movie.getActor(request.getActorSeq());
         actor.updateActor(request.getActorName(), request.getRole());
+        // 3. 검색 인덱스 재색인 (커밋 이후 모든 서버에서 재색인)
+        movieSearchIndex.reindex(movie.getMovieSeq());
+        // 4. 검색 캐시 세대 증가
+        movieRepoUtil.increaseSearchGenerationForRedis();
     }
 }
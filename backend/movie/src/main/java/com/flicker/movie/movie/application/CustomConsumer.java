@@ -1,226 +1,198 @@
 package com.flicker.movie.movie.application;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flicker.movie.common.module.exception.RestApiException;
 import com.flicker.movie.common.module.status.StatusCode;
-import com.flicker.movie.movie.config.KafkaConfig;
 import com.flicker.movie.movie.domain.entity.*;
-import com.flicker.movie.movie.domain.vo.MovieDetail;
 import com.flicker.movie.movie.dto.*;
-import jakarta.annotation.PostConstruct;
-import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.kafka.clients.consumer.ConsumerConfig;
-import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.annotation.RetryableTopic;
-import org.springframework.kafka.support.KafkaHeaders;
-import org.springframework.messaging.handler.annotation.Header;
-import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.retry.annotation.Backoff;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Properties;
+import java.util.Map;
+import java.util.Set;
 
 
+/**
+ * CustomConsumer는 movie 서비스가 구독하는 Kafka 토픽의 배치 리스너입니다.
+ * <p>
+ * 모든 리스너는 batchKafkaListenerContainerFactory(수동 Ack, 재시도 후 DLT 전송)를 사용하며,
+ * IdempotentBatchProcessor를 통해 아직 처리하지 않은 레코드만 파티션 내 순서대로 한 번의 트랜잭션으로 처리합니다.
+ * 트랜잭션은 IdempotentBatchProcessor가 관리하며, 특정 레코드를 처리하지 못하면 그 레코드만 재시도 후 DLT로 전송됩니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CustomConsumer {
 
-    private final KafkaConfig config;
+    private static final Set<String> ALARM_TYPES = Set.of("Today", "ActionDelete"); // 주기적 이벤트 타입
+
     private final MovieBuilderUtil movieBuilderUtil;
-    private KafkaConsumer<String, String> consumer = null;
-    private final ObjectMapper objectMapper;
     private final MovieRepoUtil movieRepoUtil;
     private final MovieService movieService;
+    private final HomeMovieListCache homeMovieListCache;
+    private final IdempotentBatchProcessor idempotentBatchProcessor;
 
-    @PostConstruct
-    public void build() {
-        Properties properties = new Properties();
-        properties.setProperty(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, config.getBootstrapServers());
-        properties.setProperty(ConsumerConfig.GROUP_ID_CONFIG, config.getConsumer().getGroupId());
-        properties.setProperty(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, config.getConsumer().getKeyDeserializer());
-        properties.setProperty(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, config.getConsumer().getValueDeserializer());
-        properties.setProperty(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, config.getConsumer().getAutoOffsetReset());
-        properties.setProperty(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, config.getConsumer().getMaxPollRecords());
-        properties.setProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, config.getConsumer().getEnableAutoCommit());
-        // UTF-8 설정 추가
-        properties.setProperty("key.deserializer.encoding", "UTF-8");
-        properties.setProperty("value.deserializer.encoding", "UTF-8");
-        consumer = new KafkaConsumer<>(properties);
-    }
+    // application.properties에서 설정된 영화별 워드 클라우드 최대 키워드 수 (0이면 전체 저장)
+    @Value("${movie.word-cloud.max-keywords:12}")
+    private int wordCloudMaxKeywords;
 
-    // Kafka 메시지 수신 ( 영화 평점 업데이트 )
-    @RetryableTopic(
-            attempts = "5",
-            backoff = @Backoff(delay = 2000)
-    )
-    @KafkaListener(topics = "${spring.kafka.template.movie-rating-topic}")
-    @Transactional
-    public void consumeMovieRating(@Header(KafkaHeaders.RECEIVED_TOPIC) String topic, @Payload String payload) {
+    // Kafka 메시지 일괄 수신 ( 영화 평점 업데이트 )
+    @KafkaListener(topics = "${spring.kafka.template.movie-rating-topic}", containerFactory = "batchKafkaListenerContainerFactory")
+    public void consumeMovieRating(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
         try {
-            // 1. 역직렬화: payload를 MovieRatingEvent 객체로 변환
-            MovieRatingEvent movieRatingEvent = objectMapper.readValue(payload, MovieRatingEvent.class);
-            // 2. 영화 ID와 평점 추출
-            int movieSeq = movieRatingEvent.getMovieSeq();
-            double movieRating = movieRatingEvent.getMovieRating();
-            // 3. DB에서 해당 영화 조회
-            Movie movie = movieRepoUtil.findById(movieSeq);
-            // 4. 영화 평점 업데이트
-            movie.updateMovieRating(movieRating);
-            // 5. 오프셋 커밋
-            consumer.commitSync();
-            log.info("Kafka 메시지 처리 완료 - 영화 ID: {}, 평점: {}, 토픽: {}", movieSeq, movieRating, topic);
+            // 1. 처리하지 않은 레코드만 하나의 JDBC 배치로 평점 일괄 수정 (처리 오프셋은 같은 트랜잭션으로 저장)
+            idempotentBatchProcessor.process(records, MovieRatingEvent.class,
+                    event -> event.getMovieSeq() != null && event.getMovieRating() != null,
+                    this::applyMovieRatings);
+        } catch (BatchListenerFailedException e) {
+            // 실패한 레코드 이전까지는 커밋되었으므로 실패한 레코드부터 재시도 (재시도 후에도 실패하면 그 레코드만 DLT로 전송)
+            log.error("Kafka 레코드 처리 중 오류 발생 - 레코드 수: {}, 실패 인덱스: {}, 에러: {}", records.size(), e.getIndex(), e.getMessage());
+            throw e;
         } catch (Exception e) {
-            log.error("Kafka 이벤트 수신 중 오류 발생 - 토픽: {}, 에러: {}", topic, e.getMessage());
+            log.error("Kafka 이벤트 일괄 처리 중 오류 발생 - 레코드 수: {}, 에러: {}", records.size(), e.getMessage());
             throw new RestApiException(StatusCode.KAFKA_ERROR, "Kafka 이벤트 수신 중 오류가 발생했습니다.");
         }
+        // 2. 리스너 컨테이너를 통해 오프셋 커밋
+        acknowledgment.acknowledge();
+        log.info("Kafka 메시지 일괄 처리 완료 - 레코드 수: {}", records.size());
     }
 
-    // Kafka 메시지 수진 ( 영화 워드 클라우드 업데이트 )
-    @RetryableTopic(
-            attempts = "5",
-            backoff = @Backoff(delay = 2000)
-    )
-    @KafkaListener(topics = "${spring.kafka.template.wordcloud-result-topic}")
-    @Transactional
-    public void consumeWordCloud(@Header(KafkaHeaders.RECEIVED_TOPIC) String topic, @Payload String payload) {
+    // Kafka 메시지 일괄 수신 ( 영화 워드 클라우드 업데이트 )
+    @KafkaListener(topics = "${spring.kafka.template.wordcloud-result-topic}", containerFactory = "batchKafkaListenerContainerFactory")
+    public void consumeWordCloud(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
         try {
-            // 1. 역직렬화: payload를 WordCloudEvent 객체로 변환
-            WordCloudEvent wordCloudEvent = objectMapper.readValue(payload, WordCloudEvent.class);
-            // 2. 영화 ID와 키워드 추출
-            int movieSeq = wordCloudEvent.getMovieSeq();
-            List<KeywordCount> keywordCounts = wordCloudEvent.getKeywordCounts();
-            LocalDateTime createdAt = wordCloudEvent.getTimeStamp();
-            // 3. DB에서 해당 영화 조회
-            Movie movie = movieRepoUtil.findById(movieSeq);
-            // 4. 기존 워드 클라우드 초기화
-            movie.clearWordClouds();
-            // 5. 영화 워드 클라우드 추가
-            List<WordCloud> wordClouds = movieBuilderUtil.buildWordCloudList(keywordCounts, createdAt);
-            movie.addWordClouds(wordClouds);
-            // 6. 오프셋 커밋
-            consumer.commitSync();
-            log.info("Kafka 메시지 처리 완료 - 영화 ID: {}, 토픽: {}", movieSeq, topic);
+            // 1. 처리하지 않은 레코드만 영화별 워드 클라우드 일괄 교체 (DELETE 1회 + 배치 INSERT)
+            idempotentBatchProcessor.process(records, WordCloudEvent.class,
+                    wordCloudEvents -> movieService.replaceWordClouds(wordCloudEvents, wordCloudMaxKeywords));
+        } catch (BatchListenerFailedException e) {
+            // 실패한 레코드 이전까지는 커밋되었으므로 실패한 레코드부터 재시도 (재시도 후에도 실패하면 그 레코드만 DLT로 전송)
+            log.error("Kafka 레코드 처리 중 오류 발생 - 레코드 수: {}, 실패 인덱스: {}, 에러: {}", records.size(), e.getIndex(), e.getMessage());
+            throw e;
         } catch (Exception e) {
-            log.error("Kafka 이벤트 수신 중 오류 발생 - 토픽: {}, 에러: {}", topic, e.getMessage());
+            log.error("Kafka 이벤트 일괄 처리 중 오류 발생 - 레코드 수: {}, 에러: {}", records.size(), e.getMessage());
             throw new RestApiException(StatusCode.KAFKA_ERROR, "Kafka 이벤트 수신 중 오류가 발생했습니다.");
         }
+        // 2. 리스너 컨테이너를 통해 오프셋 커밋
+        acknowledgment.acknowledge();
+        log.info("Kafka 메시지 일괄 처리 완료 - 레코드 수: {}", records.size());
     }
 
-    // Kafka 메시지 수신 ( 사용자 행동 로그-리뷰 평점 4점 이상 등록 추가 )
-    @RetryableTopic(
-            attempts = "5",
-            backoff = @Backoff(delay = 2000)
-    )
-    @KafkaListener(topics = "${spring.kafka.template.wordcloud-review-topic}")
-    @Transactional
-    public void consumeReviewAction(@Header(KafkaHeaders.RECEIVED_TOPIC) String topic, @Payload String payload) {
+    // Kafka 메시지 일괄 수신 ( 사용자 행동 로그-리뷰 평점 4점 이상 등록 추가 )
+    @KafkaListener(topics = "${spring.kafka.template.wordcloud-review-topic}", containerFactory = "batchKafkaListenerContainerFactory")
+    public void consumeReviewAction(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
         try {
-            // 1. 역직렬화: payload를 ReviewActionEvent 객체로 변환
-            ReviewActionEvent reviewActionEvent = objectMapper.readValue(payload, ReviewActionEvent.class);
-            // 2. 리뷰 액션을 사용자 액션으로 매핑
-            // 평점 4점 이상인지 체크
-            if(reviewActionEvent.getRating() < 4.0) {
-                log.info("평점이 4점 미만인 리뷰는 사용자 행동 로그로 추가하지 않습니다.");
-                return;
-            }
-            Movie movie = movieRepoUtil.findById(reviewActionEvent.getMovieSeq());
-            String movieTitle = movie.getMovieDetail().getMovieTitle();
-            int movieYear = movie.getMovieDetail().getMovieYear();
-            MongoUserAction mongoUserAction = movieBuilderUtil.buildMongoUserAction(reviewActionEvent.getUserSeq(), movieTitle, "REVIEW", reviewActionEvent.getTimestamp(), movieYear);
-            // 3. 사용자 행동 로그 추가
-            movieRepoUtil.saveUserActionForMongoDB(mongoUserAction);
-            // 4. 해당 유저의 추천 배우 삭제
-            movieRepoUtil.deleteRecommendActor(reviewActionEvent.getUserSeq());
-            // 5. 추천 배우 DB 저장
-            List<Actor> actors = movie.getActors();
-            List<RecommendActor> recommendActors = movieBuilderUtil.buildRecommendActorList(reviewActionEvent.getUserSeq(), actors, movie.getMovieSeq());
-            movieRepoUtil.saveRecommendActor(recommendActors);
-            // 6. 오프셋 커밋
-            consumer.commitSync();
-            log.info("Kafka 메시지 처리 완료 - 토픽: {}", topic);
+            // 1. 처리하지 않은 레코드만 행동 로그 일괄 저장, 사용자별 추천 배우 일괄 교체 (같은 사용자의 리뷰는 마지막 리뷰만 반영)
+            idempotentBatchProcessor.process(records, ReviewActionEvent.class,
+                    event -> event.getUserSeq() != null && event.getMovieSeq() != null,
+                    movieService::applyReviewActions);
+        } catch (BatchListenerFailedException e) {
+            // 실패한 레코드 이전까지는 커밋되었으므로 실패한 레코드부터 재시도 (재시도 후에도 실패하면 그 레코드만 DLT로 전송)
+            log.error("Kafka 레코드 처리 중 오류 발생 - 레코드 수: {}, 실패 인덱스: {}, 에러: {}", records.size(), e.getIndex(), e.getMessage());
+            throw e;
         } catch (Exception e) {
-            log.error("Kafka 이벤트 수신 중 오류 발생 - 토픽: {}, 에러: {}", topic, e.getMessage());
+            log.error("Kafka 이벤트 일괄 처리 중 오류 발생 - 레코드 수: {}, 에러: {}", records.size(), e.getMessage());
             throw new RestApiException(StatusCode.KAFKA_ERROR, "Kafka 이벤트 수신 중 오류가 발생했습니다.");
         }
+        // 2. 리스너 컨테이너를 통해 오프셋 커밋
+        acknowledgment.acknowledge();
+        log.info("Kafka 메시지 일괄 처리 완료 - 레코드 수: {}", records.size());
     }
 
-
-    // Kafka 메시지 수신 ( 주기적 이벤트 처리 ( 1일 TOP10 영화, 사용자 행동 제거 ) )
-    @RetryableTopic(
-            attempts = "5",
-            backoff = @Backoff(delay = 2000)
-    )
-    @KafkaListener(topics = "${spring.kafka.template.alarm-movie-topic}")
-    @Transactional
-    public void consumeAlarmMovie(@Header(KafkaHeaders.RECEIVED_TOPIC) String topic, @Payload String payload) {
+    // Kafka 메시지 일괄 수신 ( 주기적 이벤트 처리 ( 1일 TOP10 영화, 사용자 행동 제거 ) )
+    @KafkaListener(topics = "${spring.kafka.template.alarm-movie-topic}", containerFactory = "batchKafkaListenerContainerFactory")
+    public void consumeAlarmMovie(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
         try {
-            // 1. 역직렬화: payload를 AlarmMovieEvent 객체로 변환
-            AlarmMovieEvent alarmMovieEvent = objectMapper.readValue(payload, AlarmMovieEvent.class);
-            // 2. TYPE 체크
-            if(alarmMovieEvent.getType().equals("Today")) {
-                // 1. 모든 사용자의 최근 행동 로그 조회 ( 1일 )
-                List<MongoUserAction> userActions = movieRepoUtil.findUserActionsForMongoDB();
-                // 2. 사용자 행동 로그 중 영화조회/리뷰작성이면서, 가장 빈도 수가 높은 키워드 TOP10 추출
-                List<String> topKeywords = movieService.findTopKeywords(userActions);
-                // 3. 해당 키워드의 영화 번호 추출
-                List<Integer> movieSeqs = movieService.findMovieSeqsByKeywords(topKeywords);
-                // 4. 기존 topMovie 삭제
-                movieService.deleteTopMovie();
-                // 5. DB에 영화 번호 목록을 저장
-                List<TopMovie> topMovies = movieBuilderUtil.buildTopMovieList(movieSeqs);
-                movieRepoUtil.saveTopMovie(topMovies);
-            }
-            else if(alarmMovieEvent.getType().equals("ActionDelete")) {
-                // 1. MongoDB에서 오래된 사용자 행동 제거 (1주일)
-                movieRepoUtil.deleteUserActionsForMongoDB();
-            } else {
-                throw new RestApiException(StatusCode.KAFKA_ERROR, alarmMovieEvent + ": Kafka alarm-movie-topic의 type이 올바르지 않습니다.");
-            }
-            // 3. 오프셋 커밋
-            consumer.commitSync();
-            log.info("Kafka 메시지 처리 완료 - 토픽: {}", topic);
+            // 1. 처리하지 않은 레코드만 타입별로 한 번씩 처리 (타입이 올바르지 않으면 DLT로 전송)
+            idempotentBatchProcessor.process(records, AlarmMovieEvent.class,
+                    event -> event.getType() != null && ALARM_TYPES.contains(event.getType()),
+                    this::applyAlarmMovies);
+        } catch (BatchListenerFailedException e) {
+            // 실패한 레코드 이전까지는 커밋되었으므로 실패한 레코드부터 재시도 (재시도 후에도 실패하면 그 레코드만 DLT로 전송)
+            log.error("Kafka 레코드 처리 중 오류 발생 - 레코드 수: {}, 실패 인덱스: {}, 에러: {}", records.size(), e.getIndex(), e.getMessage());
+            throw e;
         } catch (Exception e) {
-            log.error("Kafka 이벤트 수신 중 오류 발생 - 토픽: {}, 에러: {}", topic, e.getMessage());
+            log.error("Kafka 이벤트 일괄 처리 중 오류 발생 - 레코드 수: {}, 에러: {}", records.size(), e.getMessage());
             throw new RestApiException(StatusCode.KAFKA_ERROR, "Kafka 이벤트 수신 중 오류가 발생했습니다.");
         }
+        // 2. 리스너 컨테이너를 통해 오프셋 커밋
+        acknowledgment.acknowledge();
+        log.info("Kafka 메시지 일괄 처리 완료 - 레코드 수: {}", records.size());
     }
 
-    // Kafka 메시지 수신 ( 이번달 개봉 영화 등록 )
-    @RetryableTopic(
-            attempts = "5",
-            backoff = @Backoff(delay = 2000)
-    )
-    @KafkaListener(topics = "${spring.kafka.template.new-movie-topic}")
-    @Transactional
-    public void consumeNewMovie(@Header(KafkaHeaders.RECEIVED_TOPIC) String topic, @Payload String payload) {
+    // Kafka 메시지 일괄 수신 ( 이번달 개봉 영화 등록 )
+    @KafkaListener(topics = "${spring.kafka.template.new-movie-topic}", containerFactory = "batchKafkaListenerContainerFactory")
+    public void consumeNewMovie(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) {
         try {
-            // 1. 역직렬화: payload를 NewMovieEvent 객체로 변환
-            NewMovieEvent newMovieEvent = objectMapper.readValue(payload, NewMovieEvent.class);
-            // 2. 기존 개봉 영화 삭제
-            movieService.deleteNewMovie();
-            // 3. DB에 개봉 영화 추가
-            movieService.saveNewMovie(newMovieEvent.getMovieSeqList());
-            // 4. 오프셋 커밋
-            consumer.commitSync();
-            log.info("Kafka 메시지 처리 완료 토픽: {}", topic);
+            // 1. 처리하지 않은 레코드 중 마지막 개봉 영화 목록으로 교체
+            idempotentBatchProcessor.process(records, NewMovieEvent.class,
+                    event -> event.getMovieSeqList() != null,
+                    this::applyNewMovies);
+        } catch (BatchListenerFailedException e) {
+            // 실패한 레코드 이전까지는 커밋되었으므로 실패한 레코드부터 재시도 (재시도 후에도 실패하면 그 레코드만 DLT로 전송)
+            log.error("Kafka 레코드 처리 중 오류 발생 - 레코드 수: {}, 실패 인덱스: {}, 에러: {}", records.size(), e.getIndex(), e.getMessage());
+            throw e;
         } catch (Exception e) {
-            log.error("Kafka 이벤트 수신 중 오류 발생 - 토픽: {}, 에러: {}", topic, e.getMessage());
+            log.error("Kafka 이벤트 일괄 처리 중 오류 발생 - 레코드 수: {}, 에러: {}", records.size(), e.getMessage());
             throw new RestApiException(StatusCode.KAFKA_ERROR, "Kafka 이벤트 수신 중 오류가 발생했습니다.");
         }
+        // 2. 리스너 컨테이너를 통해 오프셋 커밋
+        acknowledgment.acknowledge();
+        log.info("Kafka 메시지 일괄 처리 완료 - 레코드 수: {}", records.size());
     }
 
-    // 컨슈머 종료
-    @PreDestroy
-    public void closeConsumer() {
-        if (consumer != null) {
-            consumer.close();
+    // 영화 ID별 마지막 평점만 하나의 JDBC 배치로 수정
+    private void applyMovieRatings(List<MovieRatingEvent> movieRatingEvents) {
+        Map<Integer, Double> movieRatings = new LinkedHashMap<>();
+        for (MovieRatingEvent movieRatingEvent : movieRatingEvents) {
+            // 평점은 소수점 첫째 자리로 반올림하고, 범위를 벗어나면 건너뜀 (Movie.updateMovieRating과 동일)
+            double movieRating = Math.round(movieRatingEvent.getMovieRating() * 10) / 10.0;
+            if (movieRating < 0 || movieRating > 5) {
+                log.warn("영화 평점 범위 오류로 건너뜀 - 영화 ID: {}, 평점: {}", movieRatingEvent.getMovieSeq(), movieRating);
+                continue;
+            }
+            movieRatings.put(movieRatingEvent.getMovieSeq(), movieRating);
         }
+        movieRepoUtil.batchUpdateMovieRating(movieRatings);
+    }
+
+    // 같은 배치에 같은 타입의 이벤트가 여러 개 있어도 한 번만 처리
+    private void applyAlarmMovies(List<AlarmMovieEvent> alarmMovieEvents) {
+        boolean today = alarmMovieEvents.stream().anyMatch(event -> event.getType().equals("Today"));
+        boolean actionDelete = alarmMovieEvents.stream().anyMatch(event -> event.getType().equals("ActionDelete"));
+        if (today) {
+            // 1. 최근 1일 사용자 행동 로그 중 영화조회/리뷰작성이면서, 가장 빈도 수가 높은 키워드 TOP10 추출 (MongoDB 집계)
+            List<String> topKeywords = movieService.findTopKeywords();
+            // 2. 해당 키워드의 영화 번호 일괄 추출
+            List<Integer> movieSeqs = movieService.findMovieSeqsByKeywords(topKeywords);
+            // 3. 기존 topMovie 삭제
+            movieService.deleteTopMovie();
+            // 4. DB에 영화 번호 목록을 저장
+            List<TopMovie> topMovies = movieBuilderUtil.buildTopMovieList(movieSeqs);
+            movieRepoUtil.saveTopMovie(topMovies);
+            // 5. Top10 영화 목록 인메모리 캐시 무효화 (커밋 이후 모든 서버에 전파)
+            homeMovieListCache.evict(HomeMovieListCache.TOP_MOVIE_LIST);
+        }
+        if (actionDelete) {
+            // 1. MongoDB에서 오래된 사용자 행동 제거 (1주일)
+            movieRepoUtil.deleteUserActionsForMongoDB();
+        }
+    }
+
+    // 개봉 영화 목록은 매번 전체가 교체되므로 배치의 마지막 이벤트만 반영
+    private void applyNewMovies(List<NewMovieEvent> newMovieEvents) {
+        NewMovieEvent newMovieEvent = newMovieEvents.get(newMovieEvents.size() - 1);
+        // 1. 기존 개봉 영화 삭제
+        movieService.deleteNewMovie();
+        // 2. DB에 개봉 영화 추가
+        movieService.saveNewMovie(newMovieEvent.getMovieSeqList());
+        // 3. 개봉 영화 목록 인메모리 캐시 무효화 (커밋 이후 모든 서버에 전파)
+        homeMovieListCache.evict(HomeMovieListCache.NEW_MOVIE_LIST);
     }
-}
\ No newline at end of file
+}
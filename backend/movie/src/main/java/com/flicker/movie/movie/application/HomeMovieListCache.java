@@ -0,0 +1,111 @@
+package com.flicker.movie.movie.application;
+
+import com.flicker.movie.movie.dto.MovieListResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HomeMovieListCache는 홈 화면의 Top10, 개봉 영화 목록을 렌더링된 형태로 보관하는
+ * 인메모리(L1) 캐시입니다.
+ * <p>
+ * 목록은 하루에 한 번 정도만 바뀌므로 캐시 적중 시 Redis, DB 조회 없이 응답합니다.
+ * 목록이 바뀌면 Redis Pub/Sub으로 무효화 메시지를 발행하여 모든 서버의 캐시를 함께 비웁니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class HomeMovieListCache implements MessageListener {
+
+    public static final String TOP_MOVIE_LIST = "TopMovieList"; // Top10 영화 목록 키
+    public static final String NEW_MOVIE_LIST = "NewMovieList"; // 개봉 영화 목록 키
+    public static final String EVICT_CHANNEL = "HomeMovieList:evict"; // 무효화 메시지 채널
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // application.properties에서 설정된 캐시 최대 보관 시간 (초)
+    @Value("${movie.home-cache.ttl-seconds:3600}")
+    private long ttlSeconds;
+
+    private final Map<String, CachedMovieList> cache = new ConcurrentHashMap<>();
+    // 무효화될 때마다 증가하는 버전 (무효화 이전에 조회한 목록이 다시 저장되는 것을 방지)
+    private final AtomicLong version = new AtomicLong();
+
+    // 캐시된 목록 조회 (없거나 만료되었으면 null)
+    public List<MovieListResponse> get(String key) {
+        CachedMovieList cached = cache.get(key);
+        if (cached == null || cached.getExpiresAt() < System.currentTimeMillis()) {
+            return null;
+        }
+        return cached.getMovieList();
+    }
+
+    // 목록을 조회하기 전에 현재 버전을 확인
+    public long version() {
+        return version.get();
+    }
+
+    // 목록 저장 (조회 도중 무효화가 발생했으면 저장하지 않음)
+    public void put(String key, long loadedVersion, List<MovieListResponse> movieList) {
+        if (version.get() != loadedVersion) {
+            return;
+        }
+        cache.put(key, new CachedMovieList(List.copyOf(movieList), System.currentTimeMillis() + ttlSeconds * 1000));
+    }
+
+    // 모든 서버의 캐시 무효화 (트랜잭션 중이면 커밋 이후에 실행)
+    public void evict(String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishEvict(key);
+                }
+            });
+            return;
+        }
+        publishEvict(key);
+    }
+
+    // Redis Pub/Sub 무효화 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private void publishEvict(String key) {
+        evictLocal(key);
+        try {
+            stringRedisTemplate.convertAndSend(EVICT_CHANNEL, key);
+        } catch (Exception e) {
+            log.error("홈 화면 영화 목록 캐시 무효화 메시지 발행 중 오류 발생 - 키: {}, 에러: {}", key, e.getMessage());
+        }
+    }
+
+    private void evictLocal(String key) {
+        version.incrementAndGet();
+        cache.remove(key);
+    }
+
+    // 렌더링된 영화 목록과 만료 시각
+    @Getter
+    @AllArgsConstructor
+    private static class CachedMovieList {
+        private final List<MovieListResponse> movieList;
+        private final long expiresAt;
+    }
+}
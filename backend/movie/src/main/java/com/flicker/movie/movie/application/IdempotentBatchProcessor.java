@@ -0,0 +1,184 @@
+package com.flicker.movie.movie.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * IdempotentBatchProcessor는 배치 리스너가 받은 Kafka 레코드를 한 번만 처리하도록 보장하는 공통 처리기입니다.
+ * <p>
+ * 컨슈머 그룹, 토픽, 파티션별 마지막 처리 오프셋을 DB에 저장하고, 그 이하의 레코드는 이미 처리한 것으로 보고 건너뜁니다.
+ * 처리 오프셋은 처리 결과와 같은 트랜잭션으로 커밋되므로,
+ * 재시도나 리밸런싱으로 같은 레코드를 다시 받아도 DB 변경이 중복 적용되지 않습니다.
+ * 역직렬화 또는 검증에 실패한 레코드는 재시도 없이 커밋 이후 DLT로 전송합니다.
+ * <p>
+ * 일괄 처리가 실패하면 레코드마다 별도의 트랜잭션으로 다시 처리하여 실패한 레코드를 찾고,
+ * 그 레코드의 인덱스를 담은 BatchListenerFailedException을 던집니다.
+ * 리스너 컨테이너는 앞선 레코드의 오프셋을 커밋하고 실패한 레코드부터 재시도하며, 재시도 후에도 실패하면 그 레코드만 DLT로 전송합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class IdempotentBatchProcessor {
+
+    private final MovieRepoUtil movieRepoUtil;
+    private final ObjectMapper objectMapper;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    // application.properties에서 설정된 컨슈머 그룹 ID (처리 오프셋 키에 포함)
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    // 모든 이벤트를 처리 대상으로 하는 메서드
+    public <T> int process(List<ConsumerRecord<String, String>> records, Class<T> eventType, Consumer<List<T>> handler) {
+        return process(records, eventType, event -> true, handler);
+    }
+
+    /**
+     * 아직 처리하지 않은 레코드만 역직렬화하여 파티션 내 순서대로 handler에 전달하는 메서드입니다.
+     * 처리 결과와 처리 오프셋은 하나의 트랜잭션으로 커밋됩니다.
+     *
+     * @param records   배치 리스너가 받은 레코드 목록
+     * @param eventType 역직렬화할 이벤트 타입
+     * @param validator 이벤트 검증 함수 (false이면 DLT로 전송)
+     * @param handler   처리할 이벤트 목록을 받아 일괄 처리하는 함수
+     * @return handler에 전달한 이벤트 수
+     * @throws BatchListenerFailedException handler가 특정 레코드를 처리하지 못한 경우 발생 (앞선 레코드는 커밋됨)
+     */
+    public <T> int process(List<ConsumerRecord<String, String>> records, Class<T> eventType,
+                           Predicate<T> validator, Consumer<List<T>> handler) {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        // 1. 배치 전체를 하나의 트랜잭션으로 처리
+        try {
+            return transactionTemplate.execute(status -> processInTransaction(records, eventType, validator, handler));
+        } catch (HandlerFailedException e) {
+            log.warn("Kafka 레코드 일괄 처리 실패로 레코드별 처리로 전환 - 토픽: {}, 레코드 수: {}, 에러: {}",
+                    records.get(0).topic(), records.size(), e.getCause().getMessage());
+        }
+        // 2. 일괄 처리가 실패하면 레코드마다 트랜잭션을 나누어 처리하고, 처음 실패한 레코드의 인덱스를 리스너 컨테이너에 전달
+        int processed = 0;
+        for (int i = 0; i < records.size(); i++) {
+            List<ConsumerRecord<String, String>> record = records.subList(i, i + 1);
+            try {
+                processed += transactionTemplate.execute(status -> processInTransaction(record, eventType, validator, handler));
+            } catch (HandlerFailedException e) {
+                throw new BatchListenerFailedException("Kafka 레코드 처리 실패: " + e.getCause().getMessage(), e.getCause(), i);
+            }
+        }
+        return processed;
+    }
+
+    // 트랜잭션 안에서 처리하지 않은 레코드를 handler에 전달하고 처리 오프셋 저장 (handler 실패는 HandlerFailedException으로 전달)
+    private <T> int processInTransaction(List<ConsumerRecord<String, String>> records, Class<T> eventType,
+                                         Predicate<T> validator, Consumer<List<T>> handler) {
+        String topic = records.get(0).topic();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        // 1. 파티션별 마지막 처리 오프셋 조회 (같은 파티션을 동시에 처리하는 컨슈머는 행 잠금으로 대기)
+        Set<String> offsetKeys = new LinkedHashSet<>();
+        for (ConsumerRecord<String, String> record : records) {
+            offsetKeys.add(offsetKey(record));
+        }
+        Map<String, Long> lastOffsets = movieRepoUtil.findProcessedOffsets(offsetKeys);
+        // 2. 이미 처리한 레코드는 건너뛰고, 나머지는 파티션 내 순서대로 역직렬화
+        List<T> events = new ArrayList<>(records.size());
+        Map<String, Long> processedOffsets = new HashMap<>();
+        List<InvalidRecord> invalidRecords = new ArrayList<>();
+        int duplicates = 0;
+        for (ConsumerRecord<String, String> record : records) {
+            String key = offsetKey(record);
+            if (record.offset() <= lastOffsets.getOrDefault(key, -1L)) {
+                duplicates++;
+                continue;
+            }
+            processedOffsets.merge(key, record.offset(), Math::max);
+            try {
+                T event = objectMapper.readValue(record.value(), eventType);
+                if (!validator.test(event)) {
+                    invalidRecords.add(new InvalidRecord(record, new IllegalArgumentException("이벤트 검증 실패: " + record.value())));
+                    continue;
+                }
+                events.add(event);
+            } catch (Exception e) {
+                invalidRecords.add(new InvalidRecord(record, e));
+            }
+        }
+        // 3. 이벤트 일괄 처리
+        if (!events.isEmpty()) {
+            try {
+                handler.accept(events);
+            } catch (RuntimeException e) {
+                throw new HandlerFailedException(e);
+            }
+        }
+        // 4. 처리 오프셋 저장 (처리 결과와 함께 커밋)
+        movieRepoUtil.saveProcessedOffsets(processedOffsets);
+        // 5. 처리할 수 없는 레코드는 커밋 이후 DLT로 전송 (롤백 후 재시도될 때 중복 전송하지 않도록)
+        if (!invalidRecords.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidRecords.forEach(invalidRecord -> deadLetter(invalidRecord.getRecord(), invalidRecord.getException()));
+                }
+            });
+        }
+        meterRegistry.counter("movie.kafka.events", "topic", topic, "result", "processed").increment(events.size());
+        meterRegistry.counter("movie.kafka.events", "topic", topic, "result", "duplicate").increment(duplicates);
+        sample.stop(meterRegistry.timer("movie.kafka.batch", "topic", topic));
+        if (duplicates > 0) {
+            log.info("이미 처리한 Kafka 레코드 건너뜀 - 토픽: {}, 레코드 수: {}", topic, duplicates);
+        }
+        return events.size();
+    }
+
+    // 처리할 수 없는 레코드를 재시도 없이 DLT로 전송
+    private void deadLetter(ConsumerRecord<String, String> record, Exception exception) {
+        log.error("처리할 수 없는 Kafka 레코드를 DLT로 전송 - 토픽: {}, 파티션: {}, 오프셋: {}, 에러: {}",
+                record.topic(), record.partition(), record.offset(), exception.getMessage());
+        meterRegistry.counter("movie.kafka.dead-letter", "topic", record.topic(), "reason", "invalid").increment();
+        try {
+            deadLetterPublishingRecoverer.accept(record, exception);
+        } catch (Exception e) {
+            log.error("DLT 전송 중 오류 발생 - 토픽: {}, 파티션: {}, 오프셋: {}, 에러: {}",
+                    record.topic(), record.partition(), record.offset(), e.getMessage());
+        }
+    }
+
+    private String offsetKey(ConsumerRecord<String, String> record) {
+        return groupId + ":" + record.topic() + ":" + record.partition();
+    }
+
+    // 역직렬화 또는 검증에 실패한 레코드와 원인
+    @Getter
+    @AllArgsConstructor
+    private static class InvalidRecord {
+        private final ConsumerRecord<String, String> record;
+        private final Exception exception;
+    }
+
+    // handler가 이벤트를 처리하지 못했음을 나타내는 예외 (트랜잭션을 롤백하고 레코드별 처리로 전환)
+    private static class HandlerFailedException extends RuntimeException {
+        HandlerFailedException(RuntimeException cause) {
+            super(cause);
+        }
+    }
+}
@@ -10,7 +10,11 @@ import com.flicker.movie.movie.dto.MovieRequest;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 
@@ -59,9 +63,19 @@ public class MovieBuilderUtil {
                 .collect(Collectors.toList());
     }
 
-    // WordCloud 리스트 빌더 메서드
-    public List<WordCloud> buildWordCloudList(List<KeywordCount> keywordCounts, LocalDateTime createdAt) {
-        return keywordCounts.stream()
+    // 상위 키워드 WordCloud 리스트 빌더 메서드 (중복, 잘못된 키워드 제외 후 빈도수 내림차순 maxKeywords개, 0이면 전체)
+    public List<WordCloud> buildTopWordCloudList(List<KeywordCount> keywordCounts, LocalDateTime createdAt, int maxKeywords) {
+        Map<String, KeywordCount> uniqueKeywords = new LinkedHashMap<>();
+        for (KeywordCount keywordCount : keywordCounts) {
+            String keyword = keywordCount.getKeyword();
+            if (keyword == null || keyword.length() > 255 || keywordCount.getCount() < 0) {
+                continue; // WordCloud 유효성 검증에 실패하는 키워드는 제외
+            }
+            uniqueKeywords.putIfAbsent(keyword, keywordCount); // 같은 키워드는 처음 것만 사용
+        }
+        return uniqueKeywords.values().stream()
+                .sorted(Comparator.comparingInt(KeywordCount::getCount).reversed())
+                .limit(maxKeywords > 0 ? maxKeywords : Long.MAX_VALUE)
                 .map(keywordCount -> WordCloud.builder()
                         .keyword(keywordCount.getKeyword()) // 키워드 설정
                         .count(keywordCount.getCount()) // 키워드 빈도 설정
@@ -70,10 +84,9 @@ public class MovieBuilderUtil {
                 .collect(Collectors.toList());
     }
 
-    // MongoMovieList 빌더 메서드
-    public MongoMovieList buildMongoMovieList(List<Movie> movieList) {
-        // movieList를 MongoMovieList로 변환
-        List<MongoMovie> mongoMovies = movieList.stream()
+    // MongoMovie 리스트 빌더 메서드 (검색 결과 캐시용)
+    public List<MongoMovie> buildMongoMovieList(List<Movie> movieList) {
+        return movieList.stream()
                 .map(movie -> MongoMovie.builder()
                         .movieSeq(movie.getMovieSeq()) // 영화 ID 설정
                         .movieTitle(movie.getMovieDetail().getMovieTitle()) // 영화 제목 설정
@@ -85,18 +98,23 @@ public class MovieBuilderUtil {
                         .runningTime(movie.getMovieDetail().getRunningTime()) // 상영 시간 설정
                         .build())
                 .collect(Collectors.toList());
-        // MongoMovieList 생성
+    }
+
+    // MongoMovieList 빌더 메서드 (검색 결과 콜드 저장소용)
+    public MongoMovieList buildMongoMovieList(String mongoKey, long generation, List<MongoMovie> mongoMovies) {
         return MongoMovieList.builder()
+                .mongoKey(mongoKey)
+                .generation(generation)
                 .mongoMovies(mongoMovies)
+                .createdAt(LocalDateTime.now())
                 .build();
     }
 
     // SearchResult 빌더 메서드
-    public static RedisSearchResult buildSearchResult(String keyword, String mongoKey) {
+    public static RedisSearchResult buildSearchResult(long generation, List<MongoMovie> mongoMovies) {
         return RedisSearchResult.builder()
-                .keyword(keyword)
-                .mongoKey(mongoKey)
-                .expiration(1296000L) // 15일 ( 15 * 24 * 60 * 60 )
+                .generation(generation)
+                .mongoMovies(mongoMovies)
                 .build();
     }
 
@@ -142,12 +160,12 @@ public class MovieBuilderUtil {
                 .collect(Collectors.toList());
     }
 
-    public List<RecommendActor> buildRecommendActorList(Integer userSeq, List<Actor> actors, int movieSeq) {
-        return actors.stream()
-                .filter(actor -> actor.getRole() != null && actor.getRole().contains("주연")) // "주연"이 포함된 배우만 필터링
-                .map(actor -> RecommendActor.builder()
+    // 주연 배우 번호 목록으로 추천 배우 목록 생성
+    public List<RecommendActor> buildRecommendActorList(Integer userSeq, Collection<Integer> leadActorSeqs, int movieSeq) {
+        return leadActorSeqs.stream()
+                .map(actorSeq -> RecommendActor.builder()
                         .userSeq(userSeq)
-                        .actorSeq(actor.getActorSeq())
+                        .actorSeq(actorSeq)
                         .movieSeq(movieSeq)
                         .build())
                 .collect(Collectors.toList());
@@ -0,0 +1,372 @@
+package com.flicker.movie.movie.application;
+
+import com.flicker.movie.movie.dto.MovieCursor;
+import com.flicker.movie.movie.dto.MovieFacetCountResponse;
+import com.flicker.movie.movie.dto.MovieFacetDocument;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * MovieFacetIndex는 장르, 국가, 제작 연도별 영화 번호를 비트맵(BitSet)으로 보관하는
+ * 인메모리 패싯 인덱스입니다.
+ * <p>
+ * "드라마/가족"처럼 한 컬럼에 여러 값이 들어있는 장르, 국가를 값 단위로 나누어 색인하므로
+ * LIKE '%장르%' 전체 스캔 없이 비트맵 교집합으로 필터링하고,
+ * (제작 연도 내림차순, 영화 번호 오름차순)으로 미리 정렬된 순서대로 영화 번호를 반환합니다.
+ * 필터 결과와 각 값의 비트맵 교집합 크기로 패싯별 영화 수도 함께 계산합니다.
+ * 영화 등록·수정·삭제 시에는 커밋 이후 Redis Pub/Sub으로 영화 번호를 발행하여
+ * 모든 서버가 해당 영화만 DB에서 다시 읽어 색인합니다.
+ * DB 조회는 락 밖에서 하고 색인 교체만 쓰기 락 안에서 하므로, 재색인 중에도 조회가 DB 조회를 기다리지 않습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MovieFacetIndex implements MessageListener {
+
+    public static final String REINDEX_CHANNEL = "MovieFacetIndex:reindex"; // 재색인 메시지 채널
+
+    // 장르, 국가 값 구분자
+    private static final Pattern VALUE_SPLITTER = Pattern.compile("[/,]");
+
+    // 목록 조회와 같은 정렬 기준 (제작 연도 내림차순 -> 영화 번호 오름차순)
+    private static final Comparator<FacetMovie> ORDER = Comparator
+            .comparingInt(FacetMovie::getMovieYear).reversed()
+            .thenComparingInt(FacetMovie::getMovieSeq);
+
+    private final MovieRepoUtil movieRepoUtil;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId = UUID.randomUUID().toString(); // 자신이 발행한 재색인 메시지를 구분하기 위한 서버 ID
+    private final AtomicLong reindexSequence = new AtomicLong(); // 재색인 요청 순번 (DB 조회 전에 발급)
+
+    // 장르 -> 영화 번호 비트맵
+    private final Map<String, BitSet> genres = new HashMap<>();
+    // 국가 -> 영화 번호 비트맵
+    private final Map<String, BitSet> countries = new HashMap<>();
+    // 제작 연도 -> 영화 번호 비트맵
+    private final Map<Integer, BitSet> years = new HashMap<>();
+    // 색인된 전체 영화 번호
+    private final BitSet all = new BitSet();
+    // 영화 번호 -> 색인된 영화 정보 (재색인, 삭제 시 사용)
+    private final Map<Integer, FacetMovie> indexedMovies = new HashMap<>();
+    // 미리 정렬된 영화 목록
+    private final NavigableSet<FacetMovie> sortedMovies = new TreeSet<>(ORDER);
+    // 영화 번호 -> 마지막으로 반영한 재색인 순번 (먼저 조회한 문서가 나중에 반영되지 않도록 함)
+    private final Map<Integer, Long> appliedSequences = new HashMap<>();
+    // 전체 색인 중에 재색인된 영화 번호 (전체 색인이 끝나면 다시 색인)
+    private final Set<Integer> pendingMovieSeqs = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+    private boolean building = false;
+
+    // 애플리케이션 시작 시 전체 영화 색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        try {
+            long start = System.currentTimeMillis();
+            // 1. DB 조회 중에 들어오는 재색인 요청을 기록하도록 표시
+            lock.writeLock().lock();
+            try {
+                building = true;
+                pendingMovieSeqs.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            List<MovieFacetDocument> documents = movieRepoUtil.findAllForFacetIndex();
+            List<Integer> pending;
+            lock.writeLock().lock();
+            try {
+                // 2. 전체 색인
+                genres.clear();
+                countries.clear();
+                years.clear();
+                all.clear();
+                indexedMovies.clear();
+                sortedMovies.clear();
+                for (MovieFacetDocument document : documents) {
+                    addDocument(document);
+                }
+                pending = new ArrayList<>(pendingMovieSeqs);
+                pendingMovieSeqs.clear();
+                ready = true;
+            } finally {
+                building = false;
+                lock.writeLock().unlock();
+            }
+            // 3. DB 조회 중에 재색인된 영화는 전체 색인이 덮어썼으므로 락 밖에서 다시 색인
+            for (Integer movieSeq : pending) {
+                reindexLocal(movieSeq);
+            }
+            log.info("영화 패싯 인덱스 구성 완료 - 영화 수: {}, 장르 수: {}, 국가 수: {}, 소요 시간: {}ms",
+                    documents.size(), genres.size(), countries.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("영화 패싯 인덱스 구성 중 오류 발생 - 에러: {}", e.getMessage());
+        }
+    }
+
+    // 색인이 구성되어 조회에 사용할 수 있는지 여부
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 모든 서버에서 영화 한 건을 DB 기준으로 재색인 (트랜잭션 중이면 커밋 이후에 실행)
+    public void reindex(int movieSeq) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishReindex(movieSeq);
+                }
+            });
+            return;
+        }
+        publishReindex(movieSeq);
+    }
+
+    // Redis Pub/Sub 재색인 메시지 수신 ("{서버 ID}:{영화 번호}", 자신이 발행한 메시지는 이미 반영했으므로 무시)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        reindexLocal(Integer.parseInt(body.substring(separator + 1)));
+    }
+
+    private void publishReindex(int movieSeq) {
+        reindexLocal(movieSeq);
+        try {
+            stringRedisTemplate.convertAndSend(REINDEX_CHANNEL, nodeId + ":" + movieSeq);
+        } catch (Exception e) {
+            log.error("영화 패싯 인덱스 재색인 메시지 발행 중 오류 발생 - 영화 ID: {}, 에러: {}", movieSeq, e.getMessage());
+        }
+    }
+
+    // 이 서버의 색인에서 영화 한 건을 DB 기준으로 재색인 (DB 조회는 락 밖에서, 삭제된 영화는 제거만 함)
+    private void reindexLocal(int movieSeq) {
+        // 1. 순번 발급 후 락 없이 DB에서 문서 조회
+        long sequence = reindexSequence.incrementAndGet();
+        MovieFacetDocument document;
+        try {
+            document = movieRepoUtil.findFacetDocument(movieSeq);
+        } catch (Exception e) {
+            log.error("영화 패싯 인덱스 재색인 중 오류 발생 - 영화 ID: {}, 에러: {}", movieSeq, e.getMessage());
+            return;
+        }
+        // 2. 쓰기 락 안에서 색인 교체 (더 늦게 발급된 순번이 이미 반영되었으면 건너뜀)
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                pendingMovieSeqs.add(movieSeq);
+            }
+            if (sequence < appliedSequences.getOrDefault(movieSeq, 0L)) {
+                return;
+            }
+            appliedSequences.put(movieSeq, sequence);
+            removeDocument(movieSeq);
+            if (document != null) {
+                addDocument(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 필터 조건에 맞는 영화 번호 목록을 정렬 순서대로 조회하는 메서드입니다.
+     * 장르, 국가는 대소문자 구분 없이 값에 검색어가 포함되면 일치하는 것으로 보아 기존 LIKE 조회와 같은 결과를 반환합니다.
+     *
+     * @param genre   장르 (null이면 조건 없음)
+     * @param country 국가 (null이면 조건 없음)
+     * @param year    제작 연도 (null이면 조건 없음)
+     * @param page    페이지 번호 (0부터 시작)
+     * @param size    페이지 크기
+     * @return 정렬된 영화 번호 목록
+     */
+    public List<Integer> find(String genre, String country, Integer year, int page, int size) {
+        lock.readLock().lock();
+        try {
+            return collect(filter(genre, country, year), sortedMovies, (long) page * size, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 커서 이후의 필터 조건에 맞는 영화 번호 목록 조회 (cursor가 null이면 첫 페이지)
+    public List<Integer> findAfter(String genre, String country, Integer year, MovieCursor cursor, int limit) {
+        lock.readLock().lock();
+        try {
+            NavigableSet<FacetMovie> movies = cursor == null
+                    ? sortedMovies
+                    : sortedMovies.tailSet(new FacetMovie(cursor.getMovieSeq(), cursor.getMovieYear(), List.of(), List.of()), false);
+            return collect(filter(genre, country, year), movies, 0, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 필터 조건에 맞는 전체 영화 수와 장르, 국가, 연도별 영화 수 계산
+    public MovieFacetCountResponse count(String genre, String country, Integer year) {
+        lock.readLock().lock();
+        try {
+            BitSet filter = filter(genre, country, year);
+            return new MovieFacetCountResponse(filter.cardinality(),
+                    countByValue(genres, filter), countByValue(countries, filter), countByValue(years, filter));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 각 조건의 비트맵 교집합 계산 (읽기 락을 잡은 상태에서 호출)
+    private BitSet filter(String genre, String country, Integer year) {
+        BitSet result = (BitSet) all.clone();
+        if (genre != null && !genre.isBlank()) {
+            result.and(union(genres, genre.trim()));
+        }
+        if (country != null && !country.isBlank()) {
+            result.and(union(countries, country.trim()));
+        }
+        if (year != null) {
+            BitSet yearBits = years.get(year);
+            result.and(yearBits == null ? new BitSet() : yearBits);
+        }
+        return result;
+    }
+
+    // 검색어를 포함하는 모든 값의 비트맵 합집합 (예: "코미디" -> "코미디", "로맨틱 코미디", LIKE와 같이 대소문자 무시)
+    private static BitSet union(Map<String, BitSet> facet, String keyword) {
+        BitSet result = new BitSet();
+        String normalizedKeyword = keyword.toLowerCase(Locale.ROOT);
+        for (Map.Entry<String, BitSet> entry : facet.entrySet()) {
+            if (entry.getKey().toLowerCase(Locale.ROOT).contains(normalizedKeyword)) {
+                result.or(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    // 정렬 순서대로 필터에 포함된 영화 번호를 skip개 건너뛰고 limit개 수집
+    private static List<Integer> collect(BitSet filter, NavigableSet<FacetMovie> movies, long skip, int limit) {
+        List<Integer> movieSeqs = new ArrayList<>();
+        if (limit <= 0 || filter.isEmpty()) {
+            return movieSeqs;
+        }
+        for (FacetMovie movie : movies) {
+            if (!filter.get(movie.getMovieSeq())) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            movieSeqs.add(movie.getMovieSeq());
+            if (movieSeqs.size() >= limit) {
+                break;
+            }
+        }
+        return movieSeqs;
+    }
+
+    // 값별 필터 결과와의 교집합 크기 계산 (영화 수 내림차순, 0건 제외)
+    private static <K> Map<K, Integer> countByValue(Map<K, BitSet> facet, BitSet filter) {
+        List<Map.Entry<K, Integer>> counts = new ArrayList<>();
+        for (Map.Entry<K, BitSet> entry : facet.entrySet()) {
+            BitSet bits = (BitSet) entry.getValue().clone();
+            bits.and(filter);
+            int count = bits.cardinality();
+            if (count > 0) {
+                counts.add(Map.entry(entry.getKey(), count));
+            }
+        }
+        counts.sort(Map.Entry.<K, Integer>comparingByValue().reversed());
+        Map<K, Integer> result = new LinkedHashMap<>();
+        for (Map.Entry<K, Integer> entry : counts) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    // 색인에 문서 추가 (쓰기 락을 잡은 상태에서 호출)
+    private void addDocument(MovieFacetDocument document) {
+        int movieSeq = document.getMovieSeq();
+        FacetMovie facetMovie = new FacetMovie(movieSeq, document.getMovieYear(),
+                splitValues(document.getGenre()), splitValues(document.getCountry()));
+        for (String genre : facetMovie.getGenres()) {
+            genres.computeIfAbsent(genre, k -> new BitSet()).set(movieSeq);
+        }
+        for (String country : facetMovie.getCountries()) {
+            countries.computeIfAbsent(country, k -> new BitSet()).set(movieSeq);
+        }
+        years.computeIfAbsent(document.getMovieYear(), k -> new BitSet()).set(movieSeq);
+        all.set(movieSeq);
+        indexedMovies.put(movieSeq, facetMovie);
+        sortedMovies.add(facetMovie);
+    }
+
+    // 색인에서 문서 제거 (쓰기 락을 잡은 상태에서 호출)
+    private void removeDocument(int movieSeq) {
+        FacetMovie facetMovie = indexedMovies.remove(movieSeq);
+        if (facetMovie == null) {
+            return;
+        }
+        for (String genre : facetMovie.getGenres()) {
+            clearBit(genres, genre, movieSeq);
+        }
+        for (String country : facetMovie.getCountries()) {
+            clearBit(countries, country, movieSeq);
+        }
+        clearBit(years, facetMovie.getMovieYear(), movieSeq);
+        all.clear(movieSeq);
+        sortedMovies.remove(facetMovie);
+    }
+
+    private static <K> void clearBit(Map<K, BitSet> facet, K key, int movieSeq) {
+        BitSet bits = facet.get(key);
+        if (bits == null) {
+            return;
+        }
+        bits.clear(movieSeq);
+        if (bits.isEmpty()) {
+            facet.remove(key);
+        }
+    }
+
+    // "드라마/가족" -> ["드라마", "가족"]
+    private static List<String> splitValues(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(VALUE_SPLITTER.split(text))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    // 색인된 영화 정보
+    @Getter
+    @AllArgsConstructor
+    private static class FacetMovie {
+        private final int movieSeq;
+        private final int movieYear;
+        private final List<String> genres;
+        private final List<String> countries;
+    }
+}
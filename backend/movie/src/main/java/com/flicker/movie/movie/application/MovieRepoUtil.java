@@ -1,16 +1,31 @@
 package com.flicker.movie.movie.application;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.flicker.movie.common.module.exception.RestApiException;
 import com.flicker.movie.common.module.status.StatusCode;
 import com.flicker.movie.movie.domain.entity.*;
 import com.flicker.movie.movie.domain.vo.MongoMovie;
+import com.flicker.movie.movie.dto.KeywordCount;
+import com.flicker.movie.movie.dto.MovieCursor;
+import com.flicker.movie.movie.dto.MovieFacetDocument;
+import com.flicker.movie.movie.dto.MovieListResponse;
+import com.flicker.movie.movie.dto.MovieSearchDocument;
+import com.flicker.movie.movie.dto.RecommendActorResponse;
+import com.flicker.movie.movie.dto.WordCloudResponse;
 import com.flicker.movie.movie.infrastructure.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -26,16 +41,42 @@ import java.util.*;
 @Component
 public class MovieRepoUtil {
 
+    private static final String SEARCH_KEY_PREFIX = "SearchCache:result:"; // 검색 결과 키
+    private static final String SEARCH_GENERATION_KEY = "SearchCache:generation"; // 검색 캐시 세대 키
+    private static final String SEARCH_TAG_KEY_PREFIX = "SearchCache:tag:"; // 영화별 검색 결과 키 목록 (태그)
+
     private final MovieRepository movieRepository;
-    private final RedisSearchResultRepository redisSearchResultRepository;
     private final MongoMovieListRepository mongoMovieListRepository;
     private final MongoUserActionRepository mongoUserActionRepository;
     private final MovieBuilderUtil movieBuilderUtil;
     private final RedisTopMovieRepository redisTopMovieRepository;
     private final TopMovieRepository topMovieRepository;
     private final RecommendActorRepository recommendActorRepository;
+    private final ProcessedOffsetRepository processedOffsetRepository;
     private final NewMovieRepository newMovieRepository;
     private final RedisNewMovieRepository redisNewMovieRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // application.properties에서 설정된 검색 결과 캐시 TTL (초)
+    @Value("${movie.search-cache.ttl-seconds:1296000}")
+    private long searchTtlSeconds;
+
+    // application.properties에서 설정된 검색 결과 캐시 최대 길이 (JSON 문자열 길이)
+    @Value("${movie.search-cache.max-length:65536}")
+    private int searchMaxLength;
+
+    // application.properties에서 설정된 MongoDB 콜드 저장소 사용 여부
+    @Value("${movie.search-cache.mongo-cold-tier:false}")
+    private boolean searchMongoColdTier;
+
+    // application.properties에서 설정된 사용자 행동 로그 보관 일수
+    @Value("${movie.user-action.retention-days:7}")
+    private int userActionRetentionDays;
+
+    // application.properties에서 설정된 사용자별 일별 버킷의 최대 행동 로그 수 (0 = 제한 없음)
+    @Value("${movie.user-action.max-actions-per-bucket:1000}")
+    private int maxActionsPerBucket;
 
     /**
      * 영화 ID(movieSeq)를 사용하여 영화 정보를 조회하는 메서드입니다.
@@ -83,9 +124,9 @@ public class MovieRepoUtil {
      * @return 조회된 영화 목록
      * @throws RestApiException 영화 목록 조회 중 오류가 발생할 경우 발생
      */
-    public List<Movie> findAll(Pageable pageable) {
+    public List<MovieListResponse> findMovieListAll(Pageable pageable) {
         try {
-            return movieRepository.findByDelYNOrderByMovieDetail_MovieYearDescMovieSeqAsc("N", pageable).getContent();
+            return movieRepository.findMovieListAll("N", pageable);
         } catch (Exception e) {
             throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "영화 전체 목록 조회 중 오류가 발생했습니다.");
         }
@@ -98,9 +139,9 @@ public class MovieRepoUtil {
      * @return 조회된 영화 목록
      * @throws RestApiException 장르별 영화 목록 조회 중 오류가 발생할 경우 발생
      */
-    public List<Movie> findByGenre(String genre, Pageable pageable) {
+    public List<MovieListResponse> findMovieListByGenre(String genre, Pageable pageable) {
         try {
-            return movieRepository.findByMovieDetail_GenreContainingAndDelYNOrderByMovieDetail_MovieYearDescMovieSeqAsc(genre, "N", pageable).getContent();
+            return movieRepository.findMovieListByGenre(genre, "N", pageable);
         } catch (Exception e) {
             throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "장르별 영화 목록 조회 중 오류가 발생했습니다.");
         }
@@ -113,9 +154,9 @@ public class MovieRepoUtil {
      * @return 조회된 영화 목록
      * @throws RestApiException 배우별 영화 목록 조회 중 오류가 발생할 경우 발생
      */
-    public List<Movie> findByActor(String actorName, Pageable pageable) {
+    public List<MovieListResponse> findMovieListByActor(String actorName, Pageable pageable) {
         try {
-            return movieRepository.findByActors_ActorNameAndDelYNOrderByMovieDetail_MovieYearDescMovieSeqDesc(actorName, "N", pageable).getContent();
+            return movieRepository.findMovieListByActor(actorName, "N", pageable);
         } catch (Exception e) {
             throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "배우별 영화 목록 조회 중 오류가 발생했습니다.");
         }
@@ -128,9 +169,9 @@ public class MovieRepoUtil {
      * @return 조회된 영화 목록
      * @throws RestApiException 국가별 영화 목록 조회 중 오류가 발생할 경우 발생
      */
-    public List<Movie> findByCountry(String country, Pageable pageable) {
+    public List<MovieListResponse> findMovieListByCountry(String country, Pageable pageable) {
         try {
-            return movieRepository.findByMovieDetail_CountryContainingAndDelYNOrderByMovieDetail_MovieYearDescMovieSeqAsc(country, "N", pageable).getContent();
+            return movieRepository.findMovieListByCountry(country, "N", pageable);
         } catch (Exception e) {
             throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "국가별 영화 목록 조회 중 오류가 발생했습니다.");
         }
@@ -143,9 +184,93 @@ public class MovieRepoUtil {
      * @return 조회된 영화 목록
      * @throws RestApiException 연도별 영화 목록 조회 중 오류가 발생할 경우 발생
      */
-    public List<Movie> findByYear(int year, Pageable pageable) {
+    public List<MovieListResponse> findMovieListByYear(int year, Pageable pageable) {
         try {
-            return movieRepository.findByMovieDetail_MovieYearAndDelYNOrderByMovieSeqAsc(year, "N", pageable).getContent();
+            return movieRepository.findMovieListByYear(year, "N", pageable);
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "연도별 영화 목록 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 커서 이후의 영화 전체 목록을 조회하는 메서드입니다. (COUNT, OFFSET 없음)
+     *
+     * @param cursor 마지막으로 조회한 영화 위치 (null이면 첫 페이지)
+     * @param limit  조회할 최대 개수
+     * @return 조회된 영화 목록
+     * @throws RestApiException 영화 전체 목록 조회 중 오류가 발생할 경우 발생
+     */
+    public List<MovieListResponse> findMovieListAllByCursor(MovieCursor cursor, int limit) {
+        try {
+            return movieRepository.findMovieListAllByCursor(cursor, "N", limit);
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "영화 전체 목록 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 커서 이후의 장르별 영화 목록을 조회하는 메서드입니다. (COUNT, OFFSET 없음)
+     *
+     * @param genre  조회할 영화의 장르
+     * @param cursor 마지막으로 조회한 영화 위치 (null이면 첫 페이지)
+     * @param limit  조회할 최대 개수
+     * @return 조회된 영화 목록
+     * @throws RestApiException 장르별 영화 목록 조회 중 오류가 발생할 경우 발생
+     */
+    public List<MovieListResponse> findMovieListByGenreByCursor(String genre, MovieCursor cursor, int limit) {
+        try {
+            return movieRepository.findMovieListByGenreByCursor(genre, cursor, "N", limit);
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "장르별 영화 목록 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 커서 이후의 배우별 영화 목록을 조회하는 메서드입니다. (COUNT, OFFSET 없음)
+     *
+     * @param actorName 조회할 배우의 이름
+     * @param cursor 마지막으로 조회한 영화 위치 (null이면 첫 페이지)
+     * @param limit  조회할 최대 개수
+     * @return 조회된 영화 목록
+     * @throws RestApiException 배우별 영화 목록 조회 중 오류가 발생할 경우 발생
+     */
+    public List<MovieListResponse> findMovieListByActorByCursor(String actorName, MovieCursor cursor, int limit) {
+        try {
+            return movieRepository.findMovieListByActorByCursor(actorName, cursor, "N", limit);
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "배우별 영화 목록 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 커서 이후의 국가별 영화 목록을 조회하는 메서드입니다. (COUNT, OFFSET 없음)
+     *
+     * @param country 조회할 영화의 국가
+     * @param cursor 마지막으로 조회한 영화 위치 (null이면 첫 페이지)
+     * @param limit  조회할 최대 개수
+     * @return 조회된 영화 목록
+     * @throws RestApiException 국가별 영화 목록 조회 중 오류가 발생할 경우 발생
+     */
+    public List<MovieListResponse> findMovieListByCountryByCursor(String country, MovieCursor cursor, int limit) {
+        try {
+            return movieRepository.findMovieListByCountryByCursor(country, cursor, "N", limit);
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "국가별 영화 목록 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 커서 이후의 연도별 영화 목록을 조회하는 메서드입니다. (COUNT, OFFSET 없음)
+     *
+     * @param year   조회할 영화의 연도
+     * @param cursor 마지막으로 조회한 영화 위치 (null이면 첫 페이지)
+     * @param limit  조회할 최대 개수
+     * @return 조회된 영화 목록
+     * @throws RestApiException 연도별 영화 목록 조회 중 오류가 발생할 경우 발생
+     */
+    public List<MovieListResponse> findMovieListByYearByCursor(int year, MovieCursor cursor, int limit) {
+        try {
+            return movieRepository.findMovieListByYearByCursor(year, cursor, "N", limit);
         } catch (Exception e) {
             throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "연도별 영화 목록 조회 중 오류가 발생했습니다.");
         }
@@ -167,6 +292,189 @@ public class MovieRepoUtil {
     }
 
 
+    /**
+     * 검색 인덱스 구성을 위한 영화 문서 목록을 조회하는 메서드입니다.
+     *
+     * @return 삭제되지 않은 영화의 검색 문서 목록
+     * @throws RestApiException 검색 문서 목록 조회 중 오류가 발생할 경우 발생
+     */
+    public List<MovieSearchDocument> findAllForSearchIndex() {
+        try {
+            return movieRepository.findAllForSearchIndex("N");
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "검색 인덱스용 영화 목록 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 영화 한 건을 재색인하기 위한 검색 문서를 조회하는 메서드입니다.
+     *
+     * @param movieSeq 영화 번호
+     * @return 검색 문서 (삭제되었거나 없는 영화이면 null)
+     * @throws RestApiException 검색 문서 조회 중 오류가 발생할 경우 발생
+     */
+    public MovieSearchDocument findSearchDocument(int movieSeq) {
+        try {
+            List<MovieSearchDocument> documents = movieRepository.findForSearchIndex(movieSeq, "N");
+            return documents.isEmpty() ? null : documents.get(0);
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "검색 인덱스용 영화 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 영화 평점을 한 번의 JDBC 배치로 수정하는 메서드입니다.
+     *
+     * @param movieRatings 영화 번호 -> 수정할 평점
+     * @throws RestApiException 영화 평점 일괄 수정 중 오류가 발생할 경우 발생
+     */
+    public void batchUpdateMovieRating(Map<Integer, Double> movieRatings) {
+        try {
+            if (movieRatings.isEmpty()) {
+                return;
+            }
+            movieRepository.batchUpdateMovieRating(movieRatings);
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "영화 평점 일괄 수정 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * Kafka 파티션별 마지막 처리 오프셋을 행 잠금과 함께 조회하는 메서드입니다.
+     *
+     * @param offsetKeys 조회할 오프셋 키 목록 ("{groupId}:{topic}:{partition}")
+     * @return 오프셋 키 -> 마지막 처리 오프셋 (처리한 적 없는 파티션은 포함되지 않음)
+     * @throws RestApiException 처리 오프셋 조회 중 오류가 발생할 경우 발생
+     */
+    public Map<String, Long> findProcessedOffsets(Collection<String> offsetKeys) {
+        try {
+            if (offsetKeys.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            return processedOffsetRepository.findLastOffsetsForUpdate(offsetKeys);
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "Kafka 처리 오프셋 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * Kafka 파티션별 마지막 처리 오프셋을 저장하는 메서드입니다.
+     *
+     * @param lastOffsets 오프셋 키 -> 마지막 처리 오프셋
+     * @throws RestApiException 처리 오프셋 저장 중 오류가 발생할 경우 발생
+     */
+    public void saveProcessedOffsets(Map<String, Long> lastOffsets) {
+        try {
+            if (lastOffsets.isEmpty()) {
+                return;
+            }
+            processedOffsetRepository.upsertLastOffsets(lastOffsets);
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "Kafka 처리 오프셋 저장 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 영화 번호 목록 중 실제로 존재하는 영화 번호를 조회하는 메서드입니다.
+     *
+     * @param movieSeqs 확인할 영화 번호 목록
+     * @return 존재하는 영화 번호 목록
+     * @throws RestApiException 영화 번호 조회 중 오류가 발생할 경우 발생
+     */
+    public List<Integer> findExistingMovieSeqs(Collection<Integer> movieSeqs) {
+        try {
+            if (movieSeqs.isEmpty()) {
+                return Collections.emptyList();
+            }
+            return movieRepository.findExistingMovieSeqs(movieSeqs);
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "영화 번호 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 영화 번호 목록에 해당하는 영화별 주연 배우 번호, 이름을 조회하는 메서드입니다.
+     *
+     * @param movieSeqs 조회할 영화 번호 목록
+     * @return 영화 번호 -> (주연 배우 번호 -> 배우 이름)
+     * @throws RestApiException 주연 배우 조회 중 오류가 발생할 경우 발생
+     */
+    public Map<Integer, Map<Integer, String>> findLeadActors(Collection<Integer> movieSeqs) {
+        try {
+            if (movieSeqs.isEmpty()) {
+                return Collections.emptyMap();
+            }
+            return movieRepository.findLeadActorNamesByMovieSeqIn(movieSeqs);
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "영화별 주연 배우 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 영화의 상위 워드 클라우드를 빈도수 내림차순으로 조회하는 메서드입니다.
+     *
+     * @param movieSeq 영화 번호
+     * @param limit    조회할 최대 키워드 수
+     * @return 상위 워드 클라우드 응답 목록
+     * @throws RestApiException 워드 클라우드 조회 중 오류가 발생할 경우 발생
+     */
+    public List<WordCloudResponse> findTopWordClouds(int movieSeq, int limit) {
+        try {
+            return movieRepository.findTopWordClouds(movieSeq, limit);
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "워드 클라우드 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 영화별 워드 클라우드를 일괄 교체하는 메서드입니다.
+     * 기존 워드 클라우드는 하나의 DELETE 문으로 삭제하고, 새 워드 클라우드는 JDBC 배치 INSERT로 저장합니다.
+     *
+     * @param wordClouds 영화 번호 -> 새 워드 클라우드 목록
+     * @throws RestApiException 워드 클라우드 일괄 교체 중 오류가 발생할 경우 발생
+     */
+    public void replaceWordClouds(Map<Integer, List<WordCloud>> wordClouds) {
+        try {
+            if (wordClouds.isEmpty()) {
+                return;
+            }
+            movieRepository.deleteWordCloudsByMovieSeqIn(wordClouds.keySet());
+            movieRepository.batchInsertWordClouds(wordClouds);
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "워드 클라우드 일괄 교체 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 패싯 인덱스 구성을 위한 영화 장르, 국가, 제작 연도 목록을 조회하는 메서드입니다.
+     *
+     * @return 삭제되지 않은 영화의 패싯 문서 목록
+     * @throws RestApiException 패싯 문서 목록 조회 중 오류가 발생할 경우 발생
+     */
+    public List<MovieFacetDocument> findAllForFacetIndex() {
+        try {
+            return movieRepository.findAllForFacetIndex("N");
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "패싯 인덱스용 영화 목록 조회 중 오류가 발생했습니다.");
+        }
+    }
+
+    /**
+     * 영화 한 건을 재색인하기 위한 패싯 문서를 조회하는 메서드입니다.
+     *
+     * @param movieSeq 영화 번호
+     * @return 패싯 문서 (삭제되었거나 없는 영화이면 null)
+     * @throws RestApiException 패싯 문서 조회 중 오류가 발생할 경우 발생
+     */
+    public MovieFacetDocument findFacetDocument(int movieSeq) {
+        try {
+            List<MovieFacetDocument> documents = movieRepository.findForFacetIndex(movieSeq, "N");
+            return documents.isEmpty() ? null : documents.get(0);
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "패싯 인덱스용 영화 조회 중 오류가 발생했습니다.");
+        }
+    }
+
     /**
      * Top10 영화 목록을 저장하는 메서드입니다.
      * @param topMovies 저장할 Top10 영화 목록
@@ -208,88 +516,135 @@ public class MovieRepoUtil {
     }
 
     /**
-     * Redis에 저장된 키워드를 사용하여 영화 목록을 조회하는 메서드입니다.
+     * Redis에 저장된 검색 결과를 조회하는 메서드입니다.
+     * 검색 결과는 영화 목록까지 포함한 JSON 문자열 하나로 저장되어 있어 한 번의 조회로 반환됩니다.
+     * 저장 시점의 검색 캐시 세대가 현재 세대와 다르면 만료된 결과로 보고 null을 반환합니다.
      *
-     * @param redisKey 조회할 키워드
-     * @return 조회된 영화 목록
+     * @param searchKey  조회할 검색 결과 키 (정규화된 키워드/페이지/크기)
+     * @param generation 현재 검색 캐시 세대
+     * @return 조회된 영화 목록 (캐시된 결과가 없으면 null)
      */
-    public List<MongoMovie> findByKeywordForRedis(String redisKey) {
+    public List<MongoMovie> findSearchResultForRedis(String searchKey, long generation) {
         try {
-            Optional<RedisSearchResult> searchResultOptional = redisSearchResultRepository.findByKeyword(redisKey);
-            // Redis에 키가 없으면 null 반환
-            if (searchResultOptional.isEmpty()) {
-                return null;  // 키 자체가 없을 때
+            String json = stringRedisTemplate.opsForValue().get(SEARCH_KEY_PREFIX + searchKey);
+            if (json != null) {
+                RedisSearchResult searchResult = objectMapper.readValue(json, RedisSearchResult.class);
+                // 이전 세대의 검색 결과이면 null 반환 (새 결과로 덮어쓰기)
+                return searchResult.getGeneration() == generation ? searchResult.getMongoMovies() : null;
+            }
+            // 콜드 저장소(MongoDB)를 사용하는 경우 MongoDB에서 조회 후 Redis에 다시 적재
+            if (searchMongoColdTier) {
+                Optional<MongoMovieList> mongoMovieList = mongoMovieListRepository.findById(searchKey);
+                if (mongoMovieList.isPresent() && mongoMovieList.get().getGeneration() == generation) {
+                    List<MongoMovie> mongoMovies = mongoMovieList.get().getMongoMovies();
+                    writeSearchResultForRedis(searchKey, MovieBuilderUtil.buildSearchResult(generation, mongoMovies));
+                    return mongoMovies;
+                }
             }
-            // MongoDB에서 조회
-            String mongoKey = searchResultOptional.get().getMongoKey();
-            Optional<MongoMovieList> mongoMovieList = mongoMovieListRepository.findByMongoKey(mongoKey);
-            // MongoMovies가 비어있는 경우 빈 리스트 반환
-            return mongoMovieList.map(MongoMovieList::getMongoMovies).orElse(Collections.emptyList());
+            return null;
         } catch (Exception e) {
-            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "Redis에 저장된 키워드를 조회하는 중 오류가 발생했습니다.");
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "Redis에 저장된 검색 결과를 조회하는 중 오류가 발생했습니다.");
         }
     }
 
     /**
-     * Redis Keyword를 저장하는 메서드입니다.
+     * 검색 결과를 Redis(및 콜드 저장소 사용 시 MongoDB)에 저장하는 메서드입니다.
+     * 직렬화된 크기가 상한을 넘는 결과는 캐시하지 않습니다.
      *
-     * @param redisSearchResult 저장할 영화 목록
+     * @param searchKey  저장할 검색 결과 키 (정규화된 키워드/페이지/크기)
+     * @param generation 검색 결과 조회 시점의 검색 캐시 세대
+     * @param movieList  저장할 영화 목록
      */
-    public void saveSearchResultForRedis(RedisSearchResult redisSearchResult) {
+    public void saveSearchResult(String searchKey, long generation, List<Movie> movieList) {
         try {
-            redisSearchResultRepository.save(redisSearchResult);
+            List<MongoMovie> mongoMovies = movieBuilderUtil.buildMongoMovieList(movieList);
+            if (!writeSearchResultForRedis(searchKey, MovieBuilderUtil.buildSearchResult(generation, mongoMovies))) {
+                return;
+            }
+            if (searchMongoColdTier) {
+                mongoMovieListRepository.save(movieBuilderUtil.buildMongoMovieList(searchKey, generation, mongoMovies));
+            }
         } catch (Exception e) {
-            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "Redis에 검색 결과를 저장하는 중 오류가 발생했습니다.");
-        }
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "검색 결과를 저장하는 중 오류가 발생했습니다.");
+        }
+    }
+
+    // 검색 결과를 JSON으로 직렬화하여 TTL과 함께 Redis에 저장 (크기 상한 초과 시 저장하지 않음)
+    // 결과 저장(SET)과 영화별 태그 추가(SADD -> EXPIRE, 영화 삭제 시 해당 결과만 무효화)를 파이프라인으로 한 번에 실행
+    private boolean writeSearchResultForRedis(String searchKey, RedisSearchResult searchResult) throws JsonProcessingException {
+        String json = objectMapper.writeValueAsString(searchResult);
+        if (json.length() > searchMaxLength) {
+            log.warn("검색 결과가 캐시 크기 상한을 초과하여 저장하지 않습니다 - 키: {}, 길이: {}", searchKey, json.length());
+            return false;
+        }
+        byte[] resultKey = (SEARCH_KEY_PREFIX + searchKey).getBytes(StandardCharsets.UTF_8);
+        byte[] resultValue = json.getBytes(StandardCharsets.UTF_8);
+        byte[] tagMember = searchKey.getBytes(StandardCharsets.UTF_8);
+        List<byte[]> tagKeys = searchResult.getMongoMovies().stream()
+                .map(mongoMovie -> (SEARCH_TAG_KEY_PREFIX + mongoMovie.getMovieSeq()).getBytes(StandardCharsets.UTF_8))
+                .toList();
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().setEx(resultKey, searchTtlSeconds, resultValue);
+            for (byte[] tagKey : tagKeys) {
+                connection.setCommands().sAdd(tagKey, tagMember);
+                connection.keyCommands().expire(tagKey, searchTtlSeconds);
+            }
+            return null;
+        });
+        return true;
     }
 
     /**
-     * MongoDB에 검색 결과를 저장하는 메서드입니다.
+     * 영화 목록을 조회하는 메서드입니다.
      *
-     * @param movieList 저장할 영화 목록
-     * @return 저장된 MongoDB의 키
+     * @param movieSeqs 조회할 영화의 ID 목록
+     * @return 조회된 영화 목록
+     * @throws RestApiException 영화 목록 조회 중 오류가 발생할 경우 발생
      */
-    public String saveSearchListForMongoDB(List<Movie> movieList) {
+    public List<Movie> findBySeqIn(List<Integer> movieSeqs) {
         try {
-            MongoMovieList mongoMovieList = movieBuilderUtil.buildMongoMovieList(movieList);
-            return mongoMovieListRepository.save(mongoMovieList).getMongoKey();
+            if(movieSeqs == null || movieSeqs.isEmpty()) {
+                return Collections.emptyList();
+            }
+            return movieRepository.findByMovieSeqInAndDelYN(movieSeqs, "N");
         } catch (Exception e) {
-            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "MongoDB에 검색 결과를 저장하는 중 오류가 발생했습니다.");
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "영화 목록 조회 중 오류가 발생했습니다.");
         }
     }
 
     /**
-     * 영화 목록을 조회하는 메서드입니다.
+     * 영화 ID 목록에 해당하는 영화 목록을 목록 화면에 필요한 컬럼만 조회하는 메서드입니다.
      *
      * @param movieSeqs 조회할 영화의 ID 목록
      * @return 조회된 영화 목록
      * @throws RestApiException 영화 목록 조회 중 오류가 발생할 경우 발생
      */
-    public List<Movie> findBySeqIn(List<Integer> movieSeqs) {
+    public List<MovieListResponse> findMovieListBySeqIn(List<Integer> movieSeqs) {
         try {
-            if(movieSeqs == null || movieSeqs.isEmpty()) {
+            if (movieSeqs == null || movieSeqs.isEmpty()) {
                 return Collections.emptyList();
             }
-            return movieRepository.findByMovieSeqInAndDelYN(movieSeqs, "N");
+            return movieRepository.findMovieListBySeqIn(movieSeqs, "N");
         } catch (Exception e) {
             throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "영화 목록 조회 중 오류가 발생했습니다.");
         }
     }
 
     /**
-     * 영화 제목과 제작 연도를 기준으로 영화 정보를 조회하는 메서드입니다.
+     * 영화 제목 목록에 해당하는 영화 목록을 한 번의 쿼리로, 목록 화면에 필요한 컬럼만 조회하는 메서드입니다.
      *
-     * @param movieTitle 영화 제목
-     * @param movieYear  영화 개봉 연도
-     * @return 조회된 영화 객체
-     * @throws RestApiException 영화 정보 조회 중 오류가 발생할 경우 발생
+     * @param movieTitles 조회할 영화 제목 목록
+     * @return 조회된 영화 목록
+     * @throws RestApiException 영화 목록 조회 중 오류가 발생할 경우 발생
      */
-    public Movie findByMovieTitleAndYear(String movieTitle, Integer movieYear) {
+    public List<MovieListResponse> findMovieListByTitleIn(Collection<String> movieTitles) {
         try {
-            Optional<Movie> movie = movieRepository.findByMovieDetail_MovieTitleAndMovieDetail_MovieYearAndDelYN(movieTitle, movieYear, "N");
-            return movie.orElse(null);
+            if (movieTitles == null || movieTitles.isEmpty()) {
+                return Collections.emptyList();
+            }
+            return movieRepository.findMovieListByTitleIn(movieTitles, "N");
         } catch (Exception e) {
-            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "제목,년도로 영화 정보 조회 중 오류가 발생했습니다.");
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "제목 목록으로 영화 목록 조회 중 오류가 발생했습니다.");
         }
     }
 
@@ -300,12 +655,28 @@ public class MovieRepoUtil {
      */
     public void saveUserActionForMongoDB(MongoUserAction mongoUserAction) {
         try {
-            mongoUserActionRepository.save(mongoUserAction);
+            mongoUserActionRepository.appendToBuckets(List.of(mongoUserAction), userActionRetentionDays, maxActionsPerBucket);
         } catch (Exception e) {
             throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "MongoDB에 사용자 행동 로그를 저장하는 중 오류가 발생했습니다.");
         }
     }
 
+    /**
+     * MongoDB에 사용자 행동 로그 목록을 사용자별, 일별 버킷에 한 번의 bulkWrite로 저장하는 메서드입니다.
+     *
+     * @param mongoUserActions 저장할 사용자 행동 로그 목록
+     */
+    public void saveUserActionsForMongoDB(List<MongoUserAction> mongoUserActions) {
+        try {
+            if (mongoUserActions == null || mongoUserActions.isEmpty()) {
+                return;
+            }
+            mongoUserActionRepository.appendToBuckets(mongoUserActions, userActionRetentionDays, maxActionsPerBucket);
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "MongoDB에 사용자 행동 로그 목록을 저장하는 중 오류가 발생했습니다.");
+        }
+    }
+
     /**
      * MongoDB에서 사용자 행동 로그를 조회하는 메서드입니다.
      *
@@ -315,82 +686,131 @@ public class MovieRepoUtil {
      */
     public List<MongoUserAction> findUserActionListForMongoDB(int userSeq) {
         try {
-            Pageable pageable = PageRequest.of(0, 10);
-            return mongoUserActionRepository.findByUserSeqAndActionInOrderByTimestampDesc(userSeq, Arrays.asList("DETAIL", "REVIEW"), pageable);
+            // 보관 기간 내의 버킷만 확인하므로 조회 비용은 사용자의 전체 로그 수와 관계없이 일정
+            return mongoUserActionRepository.findRecentActions(userSeq, Arrays.asList("DETAIL", "REVIEW"), userActionRetentionDays + 1, 10);
         } catch (Exception e) {
             throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "MongoDB에서 사용자의 최근 행동 로그를 조회하는 중 오류가 발생했습니다.");
         }
     }
 
     /**
-     * Redis에 저장된 검색 결과를 모두 삭제하는 메서드입니다.
+     * 현재 검색 캐시 세대를 조회하는 메서드입니다.
      *
-     * @throws RestApiException 검색 결과 삭제 중 오류가 발생할 경우 발생
+     * @return 현재 검색 캐시 세대 (저장된 값이 없으면 0)
+     * @throws RestApiException 검색 캐시 세대 조회 중 오류가 발생할 경우 발생
      */
-    public void deleteAllSearchResultForRedis() {
+    public long findSearchGenerationForRedis() {
         try {
-            redisSearchResultRepository.deleteAll();
+            String generation = stringRedisTemplate.opsForValue().get(SEARCH_GENERATION_KEY);
+            return generation == null ? 0L : Long.parseLong(generation);
         } catch (Exception e) {
-            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "Redis에 저장된 검색 결과를 초기화하는 중 오류가 발생했습니다.");
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "Redis에서 검색 캐시 세대를 조회하는 중 오류가 발생했습니다.");
         }
     }
 
     /**
-     * Redis에 저장된 Top10 영화 목록을 삭제하는 메서드입니다.
+     * 검색 캐시 세대를 증가시키는 메서드입니다.
+     * 이전 세대의 검색 결과는 조회 시점에 만료된 것으로 처리됩니다.
+     * 트랜잭션 중이면 커밋 이후에 증가시켜, 커밋 전의 데이터로 만든 검색 결과가 새 세대로 저장되지 않도록 합니다.
      *
-     * @throws RestApiException Top10 영화 목록 삭제 중 오류가 발생할 경우 발생
+     * @throws RestApiException 검색 캐시 세대 증가 중 오류가 발생할 경우 발생 (트랜잭션 밖에서 호출한 경우)
      */
-    public void deleteTopMovieForRedis() {
+    public void increaseSearchGenerationForRedis() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    try {
+                        increaseSearchGeneration();
+                    } catch (RestApiException e) {
+                        log.error("커밋 이후 검색 캐시 세대 증가 중 오류 발생 - 에러: {}", e.getData());
+                    }
+                }
+            });
+            return;
+        }
+        increaseSearchGeneration();
+    }
+
+    private void increaseSearchGeneration() {
         try {
-            redisTopMovieRepository.deleteAll();
+            stringRedisTemplate.opsForValue().increment(SEARCH_GENERATION_KEY);
         } catch (Exception e) {
-            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "Redis에 저장된 Top10 영화 목록을 삭제하는 중 오류가 발생했습니다.");
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "Redis의 검색 캐시 세대를 증가시키는 중 오류가 발생했습니다.");
         }
     }
 
     /**
-     * MongoDB에 저장된 검색 결과를 모두 삭제하는 메서드입니다.
+     * 특정 영화가 포함된 검색 결과만 Redis, MongoDB에서 삭제하는 메서드입니다.
+     * 트랜잭션 중이면 커밋 이후에 삭제하여, 삭제 전의 데이터로 만든 검색 결과가 다시 저장되지 않도록 합니다.
      *
-     * @throws RestApiException 검색 결과 삭제 중 오류가 발생할 경우 발생
+     * @param movieSeq 검색 결과에서 제거할 영화의 ID
+     * @throws RestApiException 검색 결과 삭제 중 오류가 발생할 경우 발생 (트랜잭션 밖에서 호출한 경우)
      */
-    public void deleteAllSearchResultForMongoDB() {
+    public void deleteSearchResultByMovieSeq(int movieSeq) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    try {
+                        deleteSearchResult(movieSeq);
+                    } catch (RestApiException e) {
+                        log.error("커밋 이후 검색 결과 삭제 중 오류 발생 - 영화 ID: {}, 에러: {}", movieSeq, e.getData());
+                    }
+                }
+            });
+            return;
+        }
+        deleteSearchResult(movieSeq);
+    }
+
+    private void deleteSearchResult(int movieSeq) {
         try {
-            mongoMovieListRepository.deleteAll();
+            String tagKey = SEARCH_TAG_KEY_PREFIX + movieSeq;
+            Set<String> searchKeys = stringRedisTemplate.opsForSet().members(tagKey);
+            if (searchKeys != null && !searchKeys.isEmpty()) {
+                stringRedisTemplate.delete(searchKeys.stream()
+                        .map(searchKey -> SEARCH_KEY_PREFIX + searchKey)
+                        .toList());
+                if (searchMongoColdTier) {
+                    mongoMovieListRepository.deleteAllById(searchKeys);
+                }
+            }
+            stringRedisTemplate.delete(tagKey);
         } catch (Exception e) {
-            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "MongoDB에 저장된 검색 결과를 초기화하는 중 오류가 발생했습니다.");
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "영화가 포함된 검색 결과를 삭제하는 중 오류가 발생했습니다.");
         }
     }
 
     /**
-     * MongoDB에서 모든 사용자의  최근 행동 로그를 조회하는 메서드입니다.
+     * Redis에 저장된 Top10 영화 목록을 삭제하는 메서드입니다.
      *
-     * @return 조회된 사용자 행동 로그 목록
-     * @throws RestApiException 사용자 행동 로그 조회 중 오류가 발생할 경우 발생
+     * @throws RestApiException Top10 영화 목록 삭제 중 오류가 발생할 경우 발생
      */
-    public List<MongoUserAction> findUserActionsForMongoDB() {
+    public void deleteTopMovieForRedis() {
         try {
-            // 현재 시간에서 24시간 전 시간 계산
-            LocalDateTime twentyFourHoursAgo = LocalDateTime.now().minusDays(1);
-            // 레포지토리를 통해 24시간 내의 사용자 행동 로그 조회
-            return mongoUserActionRepository.findByTimestampAfterAndActionInOrderByTimestampDesc(twentyFourHoursAgo, Arrays.asList("DETAIL", "REVIEW"));
+            redisTopMovieRepository.deleteAll();
         } catch (Exception e) {
-            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "MongoDB에서 모든 사용자의 최근 행동 로그를 조회하는 중 오류가 발생했습니다.");
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "Redis에 저장된 Top10 영화 목록을 삭제하는 중 오류가 발생했습니다.");
         }
     }
 
     /**
-     * 키워드로 영화 정보를 조회하는 메서드입니다.
+     * MongoDB 집계 파이프라인으로 최근 24시간 영화조회/리뷰작성 키워드의 빈도수 상위 목록을 조회하는 메서드입니다.
+     * 사용자 행동 로그를 애플리케이션으로 읽어오지 않고 MongoDB에서 집계합니다.
      *
-     * @param movieTitle 영화 제목
-     * @return 조회된 영화 객체
-     * @throws RestApiException 영화 정보 조회 중 오류가 발생할 경우 발생
+     * @param limit 조회할 최대 키워드 수
+     * @return 빈도수 내림차순 키워드 목록
+     * @throws RestApiException 키워드 집계 중 오류가 발생할 경우 발생
      */
-    public Movie findByMovieTitle(String movieTitle) {
+    public List<KeywordCount> findTopKeywordsForMongoDB(int limit) {
         try {
-            return movieRepository.findFirstByMovieDetail_MovieTitleAndDelYNOrderByMovieDetail_MovieYearDescMovieSeqDesc(movieTitle, "N")
-                    .orElseThrow(() -> new RestApiException(StatusCode.NOT_FOUND, movieTitle + ": 해당 영화 정보를 찾을 수 없습니다."));
+            // 현재 시간에서 24시간 전 시간 계산
+            LocalDateTime twentyFourHoursAgo = LocalDateTime.now().minusDays(1);
+            // 레포지토리를 통해 24시간 내의 사용자 행동 로그 키워드 집계 (어제, 오늘 버킷만 확인)
+            return mongoUserActionRepository.aggregateTopKeywords(twentyFourHoursAgo.toLocalDate(), twentyFourHoursAgo, Arrays.asList("DETAIL", "REVIEW"), limit);
         } catch (Exception e) {
-            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "제목으로 영화 정보 조회 중 오류가 발생했습니다.");
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "MongoDB에서 최근 행동 로그 키워드를 집계하는 중 오류가 발생했습니다.");
         }
     }
 
@@ -424,58 +844,56 @@ public class MovieRepoUtil {
     }
 
     /**
-     * MongoDB에서 오래된 사용자 행동 로그를 삭제하는 메서드입니다.
+     * MongoDB에서 오래된 사용자 행동 로그 버킷을 삭제하는 메서드입니다.
+     * 버킷은 expireAt TTL 인덱스로 자동 삭제되므로, TTL 모니터가 아직 삭제하지 않은 버킷만 정리합니다.
      *
      * @throws RestApiException 사용자 행동 로그 삭제 중 오류가 발생할 경우 발생
      */
     public void deleteUserActionsForMongoDB() {
         try {
-            // 현재 시간에서 7일 전 시간 계산
-            LocalDateTime sevenDaysAgo = LocalDateTime.now().minusDays(7);
-            // 레포지토리를 통해 7일 전의 사용자 행동 로그 삭제
-            mongoUserActionRepository.deleteByTimestampBefore(sevenDaysAgo);
+            // 현재 날짜에서 보관 일수 이전 날짜 계산
+            LocalDate retentionStart = LocalDate.now().minusDays(userActionRetentionDays);
+            // 레포지토리를 통해 보관 기간이 지난 버킷 삭제 (day 인덱스 사용, 사용자별 하루 한 문서)
+            mongoUserActionRepository.deleteByDayBefore(retentionStart);
         } catch (Exception e) {
             throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "MongoDB에서 오래된 사용자 행동 로그를 삭제하는 중 오류가 발생했습니다.");
         }
     }
 
     /**
-     * 추천된 배우 목록을 저장하는 메서드입니다.
-     *
-     * @param recommendActors 저장할 배우 목록
-     * @throws RestApiException 추천 베우 목록 저장 중 오류가 발생할 경우 발생
-     */
-    public void saveRecommendActor(List<RecommendActor> recommendActors) {
-        try {
-            recommendActorRepository.saveAll(recommendActors);
-        } catch (Exception e) {
-            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "추천 배우 목록을 저장하는 중 오류가 발생했습니다.");
-        }
-    }
-
-    /**
-     * 추천된 영화 목록을 삭제하는 메서드입니다.
+     * 사용자별 추천 배우 목록을 일괄 교체하는 메서드입니다.
+     * 기존 추천 배우는 하나의 DELETE 문으로 삭제하고, 새 추천 배우는 JDBC 배치로 저장합니다.
      *
-     * @throws RestApiException 추천 영화 목록 삭제 중 오류가 발생할 경우 발생
+     * @param recommendActors 사용자 번호 -> 새 추천 배우 목록
+     * @throws RestApiException 추천 배우 목록 교체 중 오류가 발생할 경우 발생
      */
-    public void deleteRecommendActor(Integer userSeq) {
+    public void replaceRecommendActors(Map<Integer, List<RecommendActor>> recommendActors) {
         try {
-            recommendActorRepository.deleteByUserSeq(userSeq);
+            if (recommendActors.isEmpty()) {
+                return;
+            }
+            recommendActorRepository.deleteByUserSeqIn(recommendActors.keySet());
+            List<RecommendActor> rows = recommendActors.values().stream()
+                    .flatMap(List::stream)
+                    .toList();
+            if (!rows.isEmpty()) {
+                recommendActorRepository.batchInsert(rows);
+            }
         } catch (Exception e) {
-            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "추천 배우 목록을 삭제하는 중 오류가 발생했습니다.");
+            throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "추천 배우 목록을 교체하는 중 오류가 발생했습니다.");
         }
     }
 
     /**
-     * 사용자에게 추천된 배우 목록을 조회하는 메서드입니다.
+     * 사용자에게 추천된 배우 목록을 배우 이름, 영화 제목 형태로 조회하는 메서드입니다.
      *
      * @param userSeq 사용자의 ID
      * @return 조회된 추천 배우 목록
      * @throws RestApiException 추천 배우 목록 조회 중 오류가 발생할 경우 발생
      */
-    public List<RecommendActor> findRecommendActor(int userSeq) {
+    public List<RecommendActorResponse> findRecommendActorList(int userSeq) {
         try {
-            return recommendActorRepository.findByUserSeq(userSeq);
+            return recommendActorRepository.findRecommendActorList(userSeq);
         } catch (Exception e) {
             throw new RestApiException(StatusCode.INTERNAL_SERVER_ERROR, "추천 배우 목록을 조회하는 중 오류가 발생했습니다.");
         }
@@ -0,0 +1,361 @@
+package com.flicker.movie.movie.application;
+
+import com.flicker.movie.movie.dto.MovieSearchDocument;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * MovieSearchIndex는 영화 제목, 줄거리, 장르, 배우 이름을 대상으로 하는
+ * 인메모리 역색인(Inverted Index) 검색 엔진입니다.
+ * <p>
+ * 애플리케이션 시작 시 DB에서 전체 영화를 읽어 색인을 구성하고,
+ * 영화/배우 등록·수정·삭제 시에는 커밋 이후 Redis Pub/Sub으로 영화 번호를 발행하여
+ * 모든 서버가 해당 영화만 DB에서 다시 읽어 색인합니다.
+ * DB 조회는 락 밖에서 하고 색인 교체만 쓰기 락 안에서 하므로, 재색인 중에도 검색이 DB 조회를 기다리지 않습니다.
+ * 텍스트를 단어 단위로 나눈 뒤 각 단어의 1-gram, 2-gram을 토큰으로 사용하므로
+ * 한글처럼 조사가 붙어있는 단어도 LIKE '%키워드%'와 같은 부분 문자열 검색이 가능합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class MovieSearchIndex implements MessageListener {
+
+    public static final String REINDEX_CHANNEL = "MovieSearchIndex:reindex"; // 재색인 메시지 채널
+
+    // 토큰이 등장한 필드를 나타내는 비트 플래그
+    private static final int TITLE = 1;
+    private static final int ACTOR = 1 << 1;
+    private static final int GENRE = 1 << 2;
+    private static final int PLOT = 1 << 3;
+
+    // 제목 전체에 키워드가 포함된 경우 추가 점수
+    private static final int TITLE_MATCH_BONUS = 100;
+
+    // 문자, 숫자가 아닌 문자를 기준으로 단어 분리
+    private static final Pattern WORD_SPLITTER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // 점수 내림차순 -> 영화 제작 연도 내림차순 -> 영화 번호 오름차순
+    private static final Comparator<ScoredMovie> RANKING = Comparator
+            .comparingInt(ScoredMovie::getScore).reversed()
+            .thenComparing(Comparator.comparingInt(ScoredMovie::getMovieYear).reversed())
+            .thenComparingInt(ScoredMovie::getMovieSeq);
+
+    private final MovieRepoUtil movieRepoUtil;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String nodeId = UUID.randomUUID().toString(); // 자신이 발행한 재색인 메시지를 구분하기 위한 서버 ID
+    private final AtomicLong reindexSequence = new AtomicLong(); // 재색인 요청 순번 (DB 조회 전에 발급)
+
+    // 토큰 -> (영화 번호 -> 토큰이 등장한 필드 비트 플래그)
+    private final Map<String, Map<Integer, Integer>> postings = new HashMap<>();
+    // 영화 번호 -> 색인된 영화 정보 (재색인, 삭제, 정렬 시 사용)
+    private final Map<Integer, IndexedMovie> indexedMovies = new HashMap<>();
+    // 영화 번호 -> 마지막으로 반영한 재색인 순번 (먼저 조회한 문서가 나중에 반영되지 않도록 함)
+    private final Map<Integer, Long> appliedSequences = new HashMap<>();
+    // 전체 색인 중에 재색인된 영화 번호 (전체 색인이 끝나면 다시 색인)
+    private final Set<Integer> pendingMovieSeqs = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+    private boolean building = false;
+
+    // 애플리케이션 시작 시 전체 영화 색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void build() {
+        try {
+            long start = System.currentTimeMillis();
+            // 1. DB 조회 중에 들어오는 재색인 요청을 기록하도록 표시
+            lock.writeLock().lock();
+            try {
+                building = true;
+                pendingMovieSeqs.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            List<MovieSearchDocument> documents = movieRepoUtil.findAllForSearchIndex();
+            List<Integer> pending;
+            lock.writeLock().lock();
+            try {
+                // 2. 전체 색인
+                postings.clear();
+                indexedMovies.clear();
+                for (MovieSearchDocument document : documents) {
+                    addDocument(document);
+                }
+                pending = new ArrayList<>(pendingMovieSeqs);
+                pendingMovieSeqs.clear();
+                ready = true;
+            } finally {
+                building = false;
+                lock.writeLock().unlock();
+            }
+            // 3. DB 조회 중에 재색인된 영화는 전체 색인이 덮어썼으므로 락 밖에서 다시 색인
+            for (Integer movieSeq : pending) {
+                reindexLocal(movieSeq);
+            }
+            log.info("영화 검색 인덱스 구성 완료 - 영화 수: {}, 토큰 수: {}, 소요 시간: {}ms",
+                    documents.size(), postings.size(), System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("영화 검색 인덱스 구성 중 오류 발생 - 에러: {}", e.getMessage());
+        }
+    }
+
+    // 색인이 구성되어 검색에 사용할 수 있는지 여부
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 모든 서버에서 영화 한 건을 DB 기준으로 재색인 (트랜잭션 중이면 커밋 이후에 실행)
+    public void reindex(int movieSeq) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishReindex(movieSeq);
+                }
+            });
+            return;
+        }
+        publishReindex(movieSeq);
+    }
+
+    // Redis Pub/Sub 재색인 메시지 수신 ("{서버 ID}:{영화 번호}", 자신이 발행한 메시지는 이미 반영했으므로 무시)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf(':');
+        if (body.substring(0, separator).equals(nodeId)) {
+            return;
+        }
+        reindexLocal(Integer.parseInt(body.substring(separator + 1)));
+    }
+
+    private void publishReindex(int movieSeq) {
+        reindexLocal(movieSeq);
+        try {
+            stringRedisTemplate.convertAndSend(REINDEX_CHANNEL, nodeId + ":" + movieSeq);
+        } catch (Exception e) {
+            log.error("영화 검색 인덱스 재색인 메시지 발행 중 오류 발생 - 영화 ID: {}, 에러: {}", movieSeq, e.getMessage());
+        }
+    }
+
+    // 이 서버의 색인에서 영화 한 건을 DB 기준으로 재색인 (DB 조회는 락 밖에서, 삭제된 영화는 제거만 함)
+    private void reindexLocal(int movieSeq) {
+        // 1. 순번 발급 후 락 없이 DB에서 문서 조회
+        long sequence = reindexSequence.incrementAndGet();
+        MovieSearchDocument document;
+        try {
+            document = movieRepoUtil.findSearchDocument(movieSeq);
+        } catch (Exception e) {
+            log.error("영화 검색 인덱스 재색인 중 오류 발생 - 영화 ID: {}, 에러: {}", movieSeq, e.getMessage());
+            return;
+        }
+        // 2. 쓰기 락 안에서 색인 교체 (더 늦게 발급된 순번이 이미 반영되었으면 건너뜀)
+        lock.writeLock().lock();
+        try {
+            if (building) {
+                pendingMovieSeqs.add(movieSeq);
+            }
+            if (sequence < appliedSequences.getOrDefault(movieSeq, 0L)) {
+                return;
+            }
+            appliedSequences.put(movieSeq, sequence);
+            removeDocument(movieSeq);
+            if (document != null) {
+                addDocument(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드를 포함하는 영화 번호 목록을 점수 순으로 조회하는 메서드입니다.
+     * 키워드의 모든 토큰을 포함하는 영화만 결과에 포함되며,
+     * 제목 > 배우 > 장르 > 줄거리 순으로 높은 가중치를 부여합니다.
+     *
+     * @param keyword 검색 키워드
+     * @param page    페이지 번호 (0부터 시작)
+     * @param size    페이지 크기
+     * @return 정렬된 영화 번호 목록
+     */
+    public List<Integer> search(String keyword, int page, int size) {
+        String normalizedKeyword = normalize(keyword);
+        Set<String> queryTokens = tokenizeQuery(normalizedKeyword);
+        if (queryTokens.isEmpty() || page < 0 || size <= 0) {
+            return Collections.emptyList();
+        }
+        int limit = (page + 1) * size;
+        // 상위 limit개만 유지하는 최소 힙 (가장 순위가 낮은 영화가 head)
+        PriorityQueue<ScoredMovie> topK = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        lock.readLock().lock();
+        try {
+            // 1. 토큰별 posting 목록 조회 (하나라도 없으면 결과 없음)
+            List<Map<Integer, Integer>> postingLists = new ArrayList<>(queryTokens.size());
+            for (String token : queryTokens) {
+                Map<Integer, Integer> postingList = postings.get(token);
+                if (postingList == null) {
+                    return Collections.emptyList();
+                }
+                postingLists.add(postingList);
+            }
+            // 2. 가장 짧은 posting 목록을 기준으로 교집합 계산
+            postingLists.sort(Comparator.comparingInt(Map::size));
+            Map<Integer, Integer> smallest = postingLists.get(0);
+            for (Map.Entry<Integer, Integer> entry : smallest.entrySet()) {
+                int movieSeq = entry.getKey();
+                int score = weight(entry.getValue());
+                boolean matched = true;
+                for (int i = 1; i < postingLists.size(); i++) {
+                    Integer fields = postingLists.get(i).get(movieSeq);
+                    if (fields == null) {
+                        matched = false;
+                        break;
+                    }
+                    score += weight(fields);
+                }
+                if (!matched) {
+                    continue;
+                }
+                // 3. 점수 계산 후 상위 limit개 유지
+                IndexedMovie indexedMovie = indexedMovies.get(movieSeq);
+                if (indexedMovie.getMovieTitle().contains(normalizedKeyword)) {
+                    score += TITLE_MATCH_BONUS;
+                }
+                topK.offer(new ScoredMovie(movieSeq, indexedMovie.getMovieYear(), score));
+                if (topK.size() > limit) {
+                    topK.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        // 4. 순위대로 정렬 후 요청한 페이지만 반환
+        List<ScoredMovie> ranked = new ArrayList<>(topK);
+        ranked.sort(RANKING);
+        return ranked.stream()
+                .skip((long) page * size)
+                .map(ScoredMovie::getMovieSeq)
+                .toList();
+    }
+
+    // 색인에 문서 추가 (쓰기 락을 잡은 상태에서 호출)
+    private void addDocument(MovieSearchDocument document) {
+        Map<String, Integer> tokenFields = new HashMap<>();
+        collectTokens(document.getMovieTitle(), TITLE, tokenFields);
+        collectTokens(document.getGenre(), GENRE, tokenFields);
+        collectTokens(document.getMoviePlot(), PLOT, tokenFields);
+        if (document.getActorNames() != null) {
+            for (String actorName : document.getActorNames()) {
+                collectTokens(actorName, ACTOR, tokenFields);
+            }
+        }
+        for (Map.Entry<String, Integer> entry : tokenFields.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), k -> new HashMap<>())
+                    .put(document.getMovieSeq(), entry.getValue());
+        }
+        indexedMovies.put(document.getMovieSeq(), new IndexedMovie(
+                normalize(document.getMovieTitle()), document.getMovieYear(), tokenFields.keySet()));
+    }
+
+    // 색인에서 문서 제거 (쓰기 락을 잡은 상태에서 호출)
+    private void removeDocument(int movieSeq) {
+        IndexedMovie indexedMovie = indexedMovies.remove(movieSeq);
+        if (indexedMovie == null) {
+            return;
+        }
+        for (String token : indexedMovie.getTokens()) {
+            Map<Integer, Integer> postingList = postings.get(token);
+            if (postingList == null) {
+                continue;
+            }
+            postingList.remove(movieSeq);
+            if (postingList.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    // 텍스트의 단어별 1-gram, 2-gram 토큰을 필드 플래그와 함께 수집
+    private static void collectTokens(String text, int field, Map<String, Integer> tokenFields) {
+        for (String word : splitWords(normalize(text))) {
+            for (int i = 0; i < word.length(); i++) {
+                tokenFields.merge(word.substring(i, i + 1), field, (a, b) -> a | b);
+                if (i + 1 < word.length()) {
+                    tokenFields.merge(word.substring(i, i + 2), field, (a, b) -> a | b);
+                }
+            }
+        }
+    }
+
+    // 검색어 토큰 추출 (한 글자 단어는 1-gram, 그 외에는 2-gram)
+    private static Set<String> tokenizeQuery(String normalizedKeyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : splitWords(normalizedKeyword)) {
+            if (word.length() == 1) {
+                tokens.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    private static List<String> splitWords(String normalizedText) {
+        if (normalizedText.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(WORD_SPLITTER.split(normalizedText))
+                .filter(word -> !word.isEmpty())
+                .toList();
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // 필드 플래그별 가중치 합산 (제목 8, 배우 4, 장르 2, 줄거리 1)
+    private static int weight(int fields) {
+        int weight = 0;
+        if ((fields & TITLE) != 0) weight += 8;
+        if ((fields & ACTOR) != 0) weight += 4;
+        if ((fields & GENRE) != 0) weight += 2;
+        if ((fields & PLOT) != 0) weight += 1;
+        return weight;
+    }
+
+    // 색인된 영화 정보
+    @Getter
+    @AllArgsConstructor
+    private static class IndexedMovie {
+        private final String movieTitle; // 정규화된 영화 제목
+        private final int movieYear;
+        private final Set<String> tokens; // 제거 시 사용할 토큰 목록
+    }
+
+    // 검색 점수가 계산된 영화
+    @Getter
+    @AllArgsConstructor
+    private static class ScoredMovie {
+        private final int movieSeq;
+        private final int movieYear;
+        private final int score;
+    }
+}
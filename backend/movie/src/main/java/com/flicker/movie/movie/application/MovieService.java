@@ -7,19 +7,30 @@ import com.flicker.movie.movie.domain.vo.MongoMovie;
 import com.flicker.movie.movie.domain.vo.MovieDetail;
 import com.flicker.movie.movie.dto.*;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class MovieService {
@@ -27,6 +38,17 @@ public class MovieService {
     private final MovieBuilderUtil movieBuilderUtil;
     private final MovieRepoUtil movieRepoUtil;
     private final CustomProducer customProducer;  // Kafka 프로듀서 주입
+    private final MovieSearchIndex movieSearchIndex;  // 인메모리 검색 인덱스
+    private final MovieFacetIndex movieFacetIndex;  // 장르, 국가, 연도 인메모리 패싯 인덱스
+    private final HomeMovieListCache homeMovieListCache;  // 홈 화면 영화 목록 인메모리 캐시
+    private final SingleFlightLoader singleFlightLoader;  // 캐시 미스 동시 요청 합치기
+    private final WordCloudCache wordCloudCache;  // 영화별 상위 워드 클라우드 캐시
+    private final TrendingMovieTracker trendingMovieTracker;  // 실시간 트렌딩 영화 집계
+    private final UserActionLogBuffer userActionLogBuffer;  // 사용자 행동 로그 비동기 저장
+    private final RecentUserActionCache recentUserActionCache;  // 사용자별 최근 행동 로그 캐시
+    private final RecommendActorCache recommendActorCache;  // 사용자별 추천 배우 캐시
+
+    private static final int WORD_CLOUD_RESPONSE_SIZE = 12;  // 워드 클라우드 응답 키워드 수
 
     @Transactional
     public void createMovie(MovieCreateRequest request) {
@@ -42,9 +64,12 @@ public class MovieService {
         movie.addActors(actorList);
         // 6. 데이터베이스에 저장
         movieRepoUtil.saveMovie(movie);
-        // 7. redis , mongoDB (키워드 검색결과 ) 초기화
-        initSearchResultForRedisAndMongoDB();
-        // 8. Kafka 이벤트 발행
+        // 7. 검색 인덱스, 패싯 인덱스에 색인 (커밋 이후 모든 서버에서 재색인)
+        movieSearchIndex.reindex(movie.getMovieSeq());
+        movieFacetIndex.reindex(movie.getMovieSeq());
+        // 8. 검색 캐시 세대 증가 (새 영화가 기존 검색 결과에 포함될 수 있음)
+        movieRepoUtil.increaseSearchGenerationForRedis();
+        // 9. Kafka 이벤트 발행
         MovieInfoEvent movieInfoEvent = movieBuilderUtil.buildMovieInfoEvent(movie.getMovieSeq(), "MOVIE", "Create", LocalDateTime.now());
         customProducer.send(movieInfoEvent, "movieInfo");
     }
@@ -58,6 +83,14 @@ public class MovieService {
         // 3. 영화 정보 업데이트
         MovieDetail movieDetail = movieBuilderUtil.buildMovieDetail(request); // MovieDetail 빌드
         movie.updateMovieDetail(movieDetail);
+        // 4. 검색 인덱스, 패싯 인덱스 재색인 (커밋 이후 모든 서버에서 재색인)
+        movieSearchIndex.reindex(movie.getMovieSeq());
+        movieFacetIndex.reindex(movie.getMovieSeq());
+        // 5. 검색 캐시 세대 증가 (제목, 줄거리 등이 바뀌면 검색 결과가 달라질 수 있음)
+        movieRepoUtil.increaseSearchGenerationForRedis();
+        // 6. 홈 화면 영화 목록 캐시 무효화 (제목, 포스터 등이 바뀔 수 있음)
+        homeMovieListCache.evict(HomeMovieListCache.TOP_MOVIE_LIST);
+        homeMovieListCache.evict(HomeMovieListCache.NEW_MOVIE_LIST);
     }
 
     @Transactional
@@ -76,9 +109,15 @@ public class MovieService {
         RedisTopMovie redisTopMovie = movieRepoUtil.findTopMovieListForRedis();
         // 3. 영화 삭제
         movie.deleteMovie(redisTopMovie);
-        // 4. redis , mongoDB (키워드 검색결과 ) 초기화
-        initSearchResultForRedisAndMongoDB();
-        // 5. Kafka 이벤트 발행
+        // 4. 검색 인덱스, 패싯 인덱스에서 제거 (커밋 이후 모든 서버에서 재색인)
+        movieSearchIndex.reindex(movieSeq);
+        movieFacetIndex.reindex(movieSeq);
+        // 5. 삭제된 영화가 포함된 검색 결과 삭제 후 검색 캐시 세대 증가 (커밋 전에 조회한 결과가 삭제 이후에 다시 저장되어도 사용되지 않음)
+        movieRepoUtil.deleteSearchResultByMovieSeq(movieSeq);
+        movieRepoUtil.increaseSearchGenerationForRedis();
+        // 6. 개봉 영화 목록 캐시 무효화 (삭제된 영화가 포함되어 있을 수 있음)
+        homeMovieListCache.evict(HomeMovieListCache.NEW_MOVIE_LIST);
+        // 7. Kafka 이벤트 발행
         MovieInfoEvent movieInfoEvent = movieBuilderUtil.buildMovieInfoEvent(movieSeq, "MOVIE", "Delete", LocalDateTime.now());
         customProducer.send(movieInfoEvent, "movieInfo");
     }
@@ -86,91 +125,164 @@ public class MovieService {
     public List<MovieListResponse> getAllMovieList(int page, int size) {
         // 1. Pageable 객체 생성
         Pageable pageable = PageRequest.of(page, size);
-        // 2. 영화 리스트 조회
-        List<Movie> movieList = movieRepoUtil.findAll(pageable);
-        // 3. MovieListResponse 리스트 생성
-        return movieList.stream()
-                .map(movie -> new MovieListResponse(movie, movie.getMovieDetail()))
-                .toList();
+        // 2. 영화 리스트 조회 (목록 화면에 필요한 컬럼만 조회)
+        return movieRepoUtil.findMovieListAll(pageable);
     }
 
 
     public List<MovieListResponse> getMovieListByGenre(String genre, int page, int size) {
-        // 1. Pageable 객체 생성
+        // 1. 패싯 인덱스가 준비되었으면 비트맵으로 정렬된 영화 번호 조회 후 해당 영화만 조회
+        if (movieFacetIndex.isReady()) {
+            List<Integer> movieSeqs = movieFacetIndex.find(genre, null, null, page, size);
+            return orderMovieListBySeqs(movieRepoUtil.findMovieListBySeqIn(movieSeqs), movieSeqs);
+        }
+        // 2. 패싯 인덱스가 준비되지 않았으면 DB에서 장르별 영화 리스트 조회
         Pageable pageable = PageRequest.of(page, size);
-        // 2. 장르별 영화 리스트 조회
-        List<Movie> movieList = movieRepoUtil.findByGenre(genre, pageable);
-        // 3. MovieListResponse 리스트 생성
-        return movieList.stream()
-                .map(movie -> new MovieListResponse(movie, movie.getMovieDetail()))
-                .toList();
+        return movieRepoUtil.findMovieListByGenre(genre, pageable);
     }
 
 
     public List<MovieListResponse> getMovieListByActor(String actorName, int page, int size) {
         // 1. Pageable 객체 생성
         Pageable pageable = PageRequest.of(page, size);
-        // 2. 배우별 영화 리스트 조회
-        List<Movie> movieList = movieRepoUtil.findByActor(actorName, pageable);
-        // 3. MovieListResponse 리스트 생성
-        return movieList.stream()
-                .map(movie -> new MovieListResponse(movie, movie.getMovieDetail()))
-                .toList();
+        // 2. 배우별 영화 리스트 조회 (목록 화면에 필요한 컬럼만 조회)
+        return movieRepoUtil.findMovieListByActor(actorName, pageable);
     }
 
 
     public List<MovieListResponse> getMovieListByCountry(String country, int page, int size) {
-        // 1. Pageable 객체 생성
+        // 1. 패싯 인덱스가 준비되었으면 비트맵으로 정렬된 영화 번호 조회 후 해당 영화만 조회
+        if (movieFacetIndex.isReady()) {
+            List<Integer> movieSeqs = movieFacetIndex.find(null, country, null, page, size);
+            return orderMovieListBySeqs(movieRepoUtil.findMovieListBySeqIn(movieSeqs), movieSeqs);
+        }
+        // 2. 패싯 인덱스가 준비되지 않았으면 DB에서 국가별 영화 리스트 조회
         Pageable pageable = PageRequest.of(page, size);
-        // 2. 국가별 영화 리스트 조회
-        List<Movie> movieList = movieRepoUtil.findByCountry(country, pageable);
-        // 3. MovieListResponse 리스트 생성
-        return movieList.stream()
-                .map(movie -> new MovieListResponse(movie, movie.getMovieDetail()))
-                .toList();
+        return movieRepoUtil.findMovieListByCountry(country, pageable);
     }
 
 
     public List<MovieListResponse> getMovieListByYear(int year, int page, int size) {
         // 1. Pageable 객체 생성
         Pageable pageable = PageRequest.of(page, size);
-        // 2. 연도별 영화 리스트 조회
-        List<Movie> movieList = movieRepoUtil.findByYear(year, pageable);
-        // 3. MovieListResponse 리스트 생성
-        return movieList.stream()
-                .map(movie -> new MovieListResponse(movie, movie.getMovieDetail()))
-                .toList();
+        // 2. 연도별 영화 리스트 조회 (목록 화면에 필요한 컬럼만 조회)
+        return movieRepoUtil.findMovieListByYear(year, pageable);
+    }
+
+    public MovieCursorResponse getAllMovieListByCursor(String cursor, int size) {
+        // 1. 커서 해석 후 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        List<MovieListResponse> movieList = movieRepoUtil.findMovieListAllByCursor(MovieCursor.decode(cursor), cursorLimit(size));
+        // 2. 커서 응답 생성
+        return buildCursorResponse(movieList, size);
+    }
+
+    public MovieCursorResponse getMovieListByGenreByCursor(String genre, String cursor, int size) {
+        // 1. 커서 해석 후 다음 페이지 존재 여부 확인을 위해 size + 1개 조회 (패싯 인덱스 우선)
+        MovieCursor movieCursor = MovieCursor.decode(cursor);
+        List<MovieListResponse> movieList;
+        if (movieFacetIndex.isReady()) {
+            List<Integer> movieSeqs = movieFacetIndex.findAfter(genre, null, null, movieCursor, cursorLimit(size));
+            movieList = orderMovieListBySeqs(movieRepoUtil.findMovieListBySeqIn(movieSeqs), movieSeqs);
+        } else {
+            movieList = movieRepoUtil.findMovieListByGenreByCursor(genre, movieCursor, cursorLimit(size));
+        }
+        // 2. 커서 응답 생성
+        return buildCursorResponse(movieList, size);
+    }
+
+    public MovieCursorResponse getMovieListByActorByCursor(String actorName, String cursor, int size) {
+        // 1. 커서 해석 후 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        List<MovieListResponse> movieList = movieRepoUtil.findMovieListByActorByCursor(actorName, MovieCursor.decode(cursor), cursorLimit(size));
+        // 2. 커서 응답 생성
+        return buildCursorResponse(movieList, size);
+    }
+
+    public MovieCursorResponse getMovieListByCountryByCursor(String country, String cursor, int size) {
+        // 1. 커서 해석 후 다음 페이지 존재 여부 확인을 위해 size + 1개 조회 (패싯 인덱스 우선)
+        MovieCursor movieCursor = MovieCursor.decode(cursor);
+        List<MovieListResponse> movieList;
+        if (movieFacetIndex.isReady()) {
+            List<Integer> movieSeqs = movieFacetIndex.findAfter(null, country, null, movieCursor, cursorLimit(size));
+            movieList = orderMovieListBySeqs(movieRepoUtil.findMovieListBySeqIn(movieSeqs), movieSeqs);
+        } else {
+            movieList = movieRepoUtil.findMovieListByCountryByCursor(country, movieCursor, cursorLimit(size));
+        }
+        // 2. 커서 응답 생성
+        return buildCursorResponse(movieList, size);
+    }
+
+    public MovieCursorResponse getMovieListByYearByCursor(int year, String cursor, int size) {
+        // 1. 커서 해석 후 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        List<MovieListResponse> movieList = movieRepoUtil.findMovieListByYearByCursor(year, MovieCursor.decode(cursor), cursorLimit(size));
+        // 2. 커서 응답 생성
+        return buildCursorResponse(movieList, size);
+    }
 
+    public MovieFilterResponse getMovieListByFilter(String genre, String country, Integer year, int page, int size) {
+        // 1. 패싯 인덱스 준비 여부 확인
+        if (!movieFacetIndex.isReady()) {
+            throw new RestApiException(StatusCode.SERVICE_STOP, "영화 패싯 인덱스를 구성 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        // 2. 비트맵 교집합으로 정렬된 영화 번호 조회 후 해당 영화만 조회
+        List<Integer> movieSeqs = movieFacetIndex.find(genre, country, year, page, size);
+        List<MovieListResponse> movieList = orderMovieListBySeqs(movieRepoUtil.findMovieListBySeqIn(movieSeqs), movieSeqs);
+        // 3. 필터 결과의 장르, 국가, 연도별 영화 수 계산
+        MovieFacetCountResponse facetCounts = movieFacetIndex.count(genre, country, year);
+        return new MovieFilterResponse(movieList, facetCounts);
+    }
+
+    public List<MovieListResponse> getTrendingMovieList(String window, int size) {
+        // 1. 인메모리 트렌딩 순위에서 영화 번호 조회
+        List<Integer> movieSeqs = trendingMovieTracker.top(window, size);
+        // 2. 목록 화면에 필요한 컬럼만 조회 후 순위대로 정렬
+        return orderMovieListBySeqs(movieRepoUtil.findMovieListBySeqIn(movieSeqs), movieSeqs);
     }
 
-    // TODO: ElasticSearch 활용 ( 검색 속도 개선 필요 )
     public List<MovieListResponse> getMovieListByKeyword(String keyword, int userSeq, int page, int size) {
         // 1. MongoUserAction 객체 생성
         MongoUserAction mongoUserAction = movieBuilderUtil.buildMongoUserAction(userSeq, keyword, "SEARCH", LocalDateTime.now(), null);
-        // 2. MongoDB에 행동 로그 저장
-        movieRepoUtil.saveUserActionForMongoDB(mongoUserAction);
-        // 3. redis 키워드 조회 후 결과 반환
-        String redisKey = keyword + "/" + page + "/" + size;
-        List<MongoMovie> mongoMovieList = movieRepoUtil.findByKeywordForRedis(redisKey);
-        if (mongoMovieList != null) {
+        // 2. 행동 로그 비동기 저장 (MongoDB 저장을 기다리지 않음)
+        userActionLogBuffer.append(mongoUserAction);
+        // 3. redis 키워드 조회 후 결과 반환 (현재 검색 캐시 세대의 결과만 사용)
+        String searchKey = keyword.trim().toLowerCase(Locale.ROOT) + "/" + page + "/" + size;
+        long generation = movieRepoUtil.findSearchGenerationForRedis();
+        List<MovieListResponse> cachedList = findMovieListByKeywordForRedis(searchKey, generation);
+        if (cachedList != null) {
             // redis에 저장된 키워드가 있을 경우
-            // 4. MovieListResponse 리스트 생성
-            List<MovieListResponse> responses = new ArrayList<>();
-            for (MongoMovie mongoMovie : mongoMovieList) {
-                responses.add(new MovieListResponse(mongoMovie));
-            }
-            return responses;
+            return cachedList;
         }
         // redis에 저장된 키워드가 없을 경우
-        // 4. 키워드를 포함하는 영화 리스트 조회
-        Pageable pageable = PageRequest.of(page, size);
-        List<Movie> movieList = movieRepoUtil.findByKeyword(keyword, pageable);
-        // 5. DB에서 가져온 결과 MongoDB에 저장 후 키 반환
-        String mongoKey = movieRepoUtil.saveSearchListForMongoDB(movieList);
-        // 6. Redis에 SearchResult 저장
-        RedisSearchResult redisSearchResult = MovieBuilderUtil.buildSearchResult(redisKey, mongoKey);
-        movieRepoUtil.saveSearchResultForRedis(redisSearchResult);
-        // 7. MovieListResponse 리스트 생성
+        // 4. 같은 검색어에 대한 동시 요청은 한 번만 조회 (서버 간에는 Redis 락으로 제한)
+        return singleFlightLoader.load("search:" + generation + ":" + searchKey,
+                () -> findMovieListByKeywordForRedis(searchKey, generation),
+                () -> loadMovieListByKeyword(keyword, searchKey, generation, page, size));
+    }
+
+    // Redis에 저장된 검색 결과를 MovieListResponse 리스트로 변환 (없으면 null)
+    private List<MovieListResponse> findMovieListByKeywordForRedis(String searchKey, long generation) {
+        List<MongoMovie> mongoMovieList = movieRepoUtil.findSearchResultForRedis(searchKey, generation);
+        if (mongoMovieList == null) {
+            return null;
+        }
+        return mongoMovieList.stream()
+                .map(MovieListResponse::new)
+                .toList();
+    }
+
+    // 키워드 검색 결과를 조회하여 Redis에 저장
+    private List<MovieListResponse> loadMovieListByKeyword(String keyword, String searchKey, long generation, int page, int size) {
+        // 1. 키워드를 포함하는 영화 리스트 조회 (검색 인덱스 구성 전에는 DB에서 조회)
+        List<Movie> movieList;
+        if (movieSearchIndex.isReady()) {
+            List<Integer> movieSeqs = movieSearchIndex.search(keyword, page, size);
+            movieList = orderByMovieSeqs(movieRepoUtil.findBySeqIn(movieSeqs), movieSeqs);
+        } else {
+            Pageable pageable = PageRequest.of(page, size);
+            movieList = movieRepoUtil.findByKeyword(keyword, pageable);
+        }
+        // 2. Redis에 검색 결과 저장
+        movieRepoUtil.saveSearchResult(searchKey, generation, movieList);
+        // 3. MovieListResponse 리스트 생성
         return movieList.stream()
                 .map(movie -> new MovieListResponse(movie, movie.getMovieDetail()))
                 .toList();
@@ -181,31 +293,53 @@ public class MovieService {
         Movie movie = movieRepoUtil.findById(movieSeq);
         // 2. MovieEvent 객체 생성
         MongoUserAction mongoUserAction = movieBuilderUtil.buildMongoUserAction(userSeq, movie.getMovieDetail().getMovieTitle(), "DETAIL", LocalDateTime.now(), movie.getMovieDetail().getMovieYear());
-        // 3. MongoDB에 행동 로그 저장
-        movieRepoUtil.saveUserActionForMongoDB(mongoUserAction);
-        // 4. MovieDetailResponse 생성
+        // 3. 행동 로그 비동기 저장 (MongoDB 저장을 기다리지 않음)
+        userActionLogBuffer.append(mongoUserAction);
+        // 4. 트렌딩 영화 집계에 반영
+        trendingMovieTracker.record(movieSeq);
+        // 5. MovieDetailResponse 생성
         return new MovieDetailResponse(movie, movie.getMovieDetail(), movie.getActors());
     }
 
     public List<MovieListResponse> getRecommendationList(RecommendMovieListRequest request) {
-        // 1. 추천된 영화 목록 조회
-        List<Movie> movieList = new ArrayList<>();
-        for (MovieSeqListRequest seqRequest : request.getMovieSeqListRequest()) {
-            Movie movie = movieRepoUtil.findByMovieTitleAndYear(seqRequest.getMovieTitle(), seqRequest.getMovieYear());
-            if (movie == null || request.getUnlikeMovieSeqList().contains(movie.getMovieSeq())) {
+        List<MovieSeqListRequest> seqRequests = request.getMovieSeqListRequest();
+        if (seqRequests == null || seqRequests.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // 1. 추천된 영화 제목 목록으로 한 번에 조회 후 (제목, 연도) 키로 매핑
+        Set<String> movieTitles = seqRequests.stream()
+                .map(MovieSeqListRequest::getMovieTitle)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, MovieListResponse> movieMap = new HashMap<>();
+        for (MovieListResponse movie : movieRepoUtil.findMovieListByTitleIn(movieTitles)) {
+            movieMap.putIfAbsent(titleYearKey(movie.getMovieTitle(), movie.getMovieYear()), movie);
+        }
+        // 2. 추천 순서대로 영화 목록 생성 (싫어요 영화 제외)
+        Set<Integer> unlikeMovieSeqs = request.getUnlikeMovieSeqList() == null
+                ? new HashSet<>()
+                : new HashSet<>(request.getUnlikeMovieSeqList());
+        List<MovieListResponse> movieList = new ArrayList<>();
+        for (MovieSeqListRequest seqRequest : seqRequests) {
+            if (seqRequest.getMovieTitle() == null) {
+                continue;
+            }
+            MovieListResponse movie = movieMap.get(titleYearKey(seqRequest.getMovieTitle(), seqRequest.getMovieYear()));
+            if (movie == null || unlikeMovieSeqs.contains(movie.getMovieSeq())) {
                 continue;
             }
             movieList.add(movie);
         }
-        // 2. MovieListResponse 리스트 생성 및 반환
-        return movieList.stream()
-                .map(movie -> new MovieListResponse(movie, movie.getMovieDetail()))
-                .collect(Collectors.toList());
+        // 3. MovieListResponse 리스트 반환
+        return movieList;
     }
 
     public List<UserActionResponse> getUserActionList(int userSeq) {
-        // 1. 사용자 행동 로그 조회
-        List<MongoUserAction> userActionList = movieRepoUtil.findUserActionListForMongoDB(userSeq);
+        // 1. 최근 행동 로그 캐시 조회 (없으면 같은 사용자에 대한 동시 요청은 한 번만 MongoDB에서 조회)
+        List<MongoUserAction> userActionList = recentUserActionCache.get(userSeq);
+        if (userActionList == null) {
+            userActionList = singleFlightLoader.load("userAction:" + userSeq, () -> loadUserActionList(userSeq));
+        }
         // 2. 사용자 행동 로그가 없을 경우
         if (userActionList == null || userActionList.isEmpty()) {
             throw new RestApiException(StatusCode.NO_SUCH_ELEMENT, "사용자 행동 로그가 존재하지 않습니다.");
@@ -216,7 +350,33 @@ public class MovieService {
                 .toList();
     }
 
+    // MongoDB에서 최근 행동 로그를 조회하여 캐시에 저장
+    private List<MongoUserAction> loadUserActionList(int userSeq) {
+        // 조회 도중 행동 로그가 추가되면 캐시에 저장하지 않도록 조회 전 버전 확인
+        RecentUserActionCache.LoadVersion version = recentUserActionCache.version(userSeq);
+        List<MongoUserAction> userActionList = movieRepoUtil.findUserActionListForMongoDB(userSeq);
+        recentUserActionCache.put(userSeq, version, userActionList);
+        return userActionList;
+    }
+
     public List<MovieListResponse> getTopMovieList() {
+        // 1. 인메모리 캐시 조회
+        List<MovieListResponse> cachedList = homeMovieListCache.get(HomeMovieListCache.TOP_MOVIE_LIST);
+        if (cachedList != null) {
+            return cachedList;
+        }
+        // 2. 동시 요청은 한 번만 로딩한 뒤 인메모리 캐시에 저장
+        return singleFlightLoader.load(HomeMovieListCache.TOP_MOVIE_LIST, () -> {
+            // 로딩 도중 목록이 무효화되면 인메모리 캐시에 저장하지 않도록 로딩 시작 전 버전 확인
+            long cacheVersion = homeMovieListCache.version();
+            List<MovieListResponse> responses = loadTopMovieList();
+            homeMovieListCache.put(HomeMovieListCache.TOP_MOVIE_LIST, cacheVersion, responses);
+            return responses;
+        });
+    }
+
+    // Top10 영화 목록 로딩 (Redis -> DB)
+    private List<MovieListResponse> loadTopMovieList() {
         // 1. Redis에서 TopMovieList 조회
         RedisTopMovie redisTopMovie = movieRepoUtil.findTopMovieListForRedis();
         List<Integer> movieSeqs;
@@ -240,56 +400,150 @@ public class MovieService {
             movieRepoUtil.deleteTopMovieForRedis();
             throw new RestApiException(StatusCode.NO_SUCH_ELEMENT, "Top 영화가 존재하지 않습니다.");
         }
-        // 3. TopMovieList 조회
-        List<Movie> movieList = movieRepoUtil.findBySeqIn(movieSeqs);
-        // 4. movieSeq를 키로 하는 Map으로 변환 (Movie 객체 매핑)
-        Map<Integer, Movie> movieMap = movieList.stream()
-                .collect(Collectors.toMap(Movie::getMovieSeq, Function.identity()));
-        // 5. movieSeqs 순서에 맞춰 movieMap에서 Movie 객체를 가져와 List 생성
-        List<Movie> orderedMovieList = new ArrayList<>();
-        for (Integer seq : movieSeqs) {
-            if (movieMap.containsKey(seq)) {
-                orderedMovieList.add(movieMap.get(seq));
-            }
-        }
-        // 6. MovieListResponse 리스트 생성
+        // 3. TopMovieList 조회 후 movieSeqs 순서에 맞춰 정렬
+        List<Movie> orderedMovieList = orderByMovieSeqs(movieRepoUtil.findBySeqIn(movieSeqs), movieSeqs);
+        // 4. MovieListResponse 리스트 생성
         return orderedMovieList.stream()
                 .map(movie -> new MovieListResponse(movie, movie.getMovieDetail()))
                 .toList();
     }
 
     public List<MovieListResponse> getMovieListByMovieSeqList(List<Integer> request) {
-        // 1. 영화 ID 리스트로 영화 목록 조회
-        List<Movie> movieList = movieRepoUtil.findBySeqIn(request);
-        // 2. MovieListResponse 리스트 생성
-        return movieList.stream()
-                .map(movie -> new MovieListResponse(movie, movie.getMovieDetail()))
+        // 1. 영화 ID 리스트로 영화 목록 조회 (목록 화면에 필요한 컬럼만 조회)
+        return movieRepoUtil.findMovieListBySeqIn(request);
+    }
+
+    @Transactional
+    public void applyReviewActions(List<ReviewActionEvent> reviewActionEvents) {
+        // 1. 평점 4점 이상인 리뷰만 사용자 행동 로그로 추가
+        List<ReviewActionEvent> highRatedEvents = reviewActionEvents.stream()
+                .filter(event -> event.getRating() != null && event.getRating() >= 4.0)
+                .toList();
+        if (highRatedEvents.isEmpty()) {
+            return;
+        }
+        // 2. 리뷰한 영화의 제목, 제작 연도, 주연 배우 일괄 조회
+        List<Integer> movieSeqs = highRatedEvents.stream()
+                .map(ReviewActionEvent::getMovieSeq)
+                .distinct()
                 .toList();
+        Map<Integer, MovieListResponse> movies = new HashMap<>();
+        for (MovieListResponse movie : movieRepoUtil.findMovieListBySeqIn(movieSeqs)) {
+            movies.put(movie.getMovieSeq(), movie);
+        }
+        Map<Integer, Map<Integer, String>> leadActors = movieRepoUtil.findLeadActors(movies.keySet());
+        // 3. 리뷰마다 행동 로그를 만들고, 사용자별로는 마지막 리뷰 영화의 주연 배우만 추천 배우로 사용
+        List<MongoUserAction> userActions = new ArrayList<>(highRatedEvents.size());
+        Map<Integer, List<RecommendActor>> recommendActors = new LinkedHashMap<>();
+        Map<Integer, List<RecommendActorResponse>> recommendActorResponses = new LinkedHashMap<>();
+        for (ReviewActionEvent event : highRatedEvents) {
+            MovieListResponse movie = movies.get(event.getMovieSeq());
+            if (movie == null) {
+                log.warn("리뷰한 영화를 찾을 수 없어 건너뜀 - 사용자 ID: {}, 영화 ID: {}", event.getUserSeq(), event.getMovieSeq());
+                continue;
+            }
+            LocalDateTime timestamp = event.getTimestamp() != null ? event.getTimestamp() : LocalDateTime.now();
+            userActions.add(movieBuilderUtil.buildMongoUserAction(event.getUserSeq(), movie.getMovieTitle(), "REVIEW", timestamp, movie.getMovieYear()));
+            Map<Integer, String> movieLeadActors = leadActors.getOrDefault(movie.getMovieSeq(), Map.of());
+            recommendActors.put(event.getUserSeq(), movieBuilderUtil.buildRecommendActorList(event.getUserSeq(),
+                    movieLeadActors.keySet(), movie.getMovieSeq()));
+            recommendActorResponses.put(event.getUserSeq(), movieLeadActors.values().stream()
+                    .map(actorName -> new RecommendActorResponse(actorName, movie.getMovieTitle()))
+                    .toList());
+        }
+        // 4. 사용자별 추천 배우 일괄 교체 (DELETE 1회 + 배치 INSERT), 커밋 이후 추천 배우 캐시 교체
+        movieRepoUtil.replaceRecommendActors(recommendActors);
+        recommendActorCache.replaceAll(recommendActorResponses);
+        // 5. 커밋 이후 사용자 행동 로그 일괄 저장 후 최근 행동 로그 캐시, 트렌딩 영화 집계에 반영
+        List<Integer> trendingMovieSeqs = highRatedEvents.stream()
+                .map(ReviewActionEvent::getMovieSeq)
+                .filter(movies::containsKey)
+                .toList();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recordReviewActions(userActions, trendingMovieSeqs);
+                }
+            });
+            return;
+        }
+        recordReviewActions(userActions, trendingMovieSeqs);
+    }
+
+    // 리뷰 행동 로그 저장 후 최근 행동 로그 캐시, 트렌딩 영화 집계에 반영 (저장에 실패하면 캐시에 반영하지 않음)
+    private void recordReviewActions(List<MongoUserAction> userActions, List<Integer> trendingMovieSeqs) {
+        try {
+            movieRepoUtil.saveUserActionsForMongoDB(userActions);
+            recentUserActionCache.pushAll(userActions);
+        } catch (RestApiException e) {
+            log.error("리뷰 행동 로그 저장 중 오류 발생 - 개수: {}, 에러: {}", userActions.size(), e.getData());
+        }
+        for (Integer movieSeq : trendingMovieSeqs) {
+            trendingMovieTracker.record(movieSeq);
+        }
+    }
+
+    @Transactional
+    public void replaceWordClouds(List<WordCloudEvent> wordCloudEvents, int maxKeywords) {
+        // 1. 영화 ID별 마지막 이벤트만 유지
+        Map<Integer, WordCloudEvent> latestEvents = new LinkedHashMap<>();
+        for (WordCloudEvent wordCloudEvent : wordCloudEvents) {
+            latestEvents.put(wordCloudEvent.getMovieSeq(), wordCloudEvent);
+        }
+        // 2. 존재하는 영화만 대상으로 상위 키워드 WordCloud 생성
+        Map<Integer, List<WordCloud>> wordClouds = new LinkedHashMap<>();
+        for (Integer movieSeq : movieRepoUtil.findExistingMovieSeqs(latestEvents.keySet())) {
+            WordCloudEvent wordCloudEvent = latestEvents.get(movieSeq);
+            LocalDateTime createdAt = wordCloudEvent.getTimeStamp() != null ? wordCloudEvent.getTimeStamp() : LocalDateTime.now();
+            List<KeywordCount> keywordCounts = wordCloudEvent.getKeywordCounts() != null ? wordCloudEvent.getKeywordCounts() : List.of();
+            wordClouds.put(movieSeq, movieBuilderUtil.buildTopWordCloudList(keywordCounts, createdAt, maxKeywords));
+        }
+        // 3. 기존 워드 클라우드 일괄 삭제 후 새 워드 클라우드 일괄 저장
+        movieRepoUtil.replaceWordClouds(wordClouds);
+        // 4. 정렬된 상위 키워드 응답을 미리 만들어 캐시에 저장 (커밋 이후)
+        Map<Integer, List<WordCloudResponse>> wordCloudResponses = new HashMap<>();
+        for (Map.Entry<Integer, List<WordCloud>> entry : wordClouds.entrySet()) {
+            wordCloudResponses.put(entry.getKey(), entry.getValue().stream()
+                    .limit(WORD_CLOUD_RESPONSE_SIZE)
+                    .map(WordCloudResponse::new)
+                    .toList());
+        }
+        wordCloudCache.putAll(wordCloudResponses);
     }
 
     public List<WordCloudResponse> getWordCloud(int movieSeq) {
-        // 1. 영화 정보 조회
-        Movie movie = movieRepoUtil.findById(movieSeq);
-        // 2. 워드 클라우드 조회
-        List<WordCloud> wordClouds = movie.getWordClouds();
-        // 3. WordCloud 정렬
-        wordClouds.sort((o1, o2) -> o2.getCount() - o1.getCount());
-        // 4. WordCloudResponse 리스트 생성 ( 상위 12개 )
-        return wordClouds.stream()
-                .limit(12)
-                .map(WordCloudResponse::new)
-                .toList();
+        // 1. 캐시 조회 (인메모리 -> Redis, 미리 정렬된 상위 12개)
+        List<WordCloudResponse> cached = wordCloudCache.get(movieSeq);
+        if (cached != null) {
+            return cached;
+        }
+        // 2. 캐시 미스 시 DB 조회 후 캐시에 저장 (동시 요청은 하나로 합침)
+        return singleFlightLoader.load("wordCloud:" + movieSeq, () -> loadWordCloud(movieSeq));
+    }
+
+    // DB에서 상위 워드 클라우드만 조회하여 캐시에 저장
+    private List<WordCloudResponse> loadWordCloud(int movieSeq) {
+        // 조회 도중 워드 클라우드가 교체되면 인메모리 캐시에 저장하지 않도록 조회 전 버전 확인
+        long version = wordCloudCache.version(movieSeq);
+        // 1. 엔티티 로딩 없이 빈도수 내림차순 상위 12개 조회
+        List<WordCloudResponse> wordClouds = movieRepoUtil.findTopWordClouds(movieSeq, WORD_CLOUD_RESPONSE_SIZE);
+        // 2. 워드 클라우드가 없으면 영화 존재 여부 확인
+        if (wordClouds.isEmpty() && movieRepoUtil.findExistingMovieSeqs(List.of(movieSeq)).isEmpty()) {
+            throw new RestApiException(StatusCode.NOT_FOUND, "해당 영화 정보를 찾을 수 없습니다.");
+        }
+        // 3. 캐시에 저장
+        wordCloudCache.put(movieSeq, version, wordClouds);
+        return wordClouds;
     }
 
     public List<MovieListResponse> getTopRatingMovieList(List<Integer> movieSeqs) {
-        // 1. 리뷰개수가 2000개 넘는 영화 조회
-        List<Movie> movieList = movieRepoUtil.findBySeqIn(movieSeqs);
-        // 2. movie_rating을 기준으로 정렬
-        movieList.sort(Comparator.comparingDouble(Movie::getMovieRating).reversed());
-        // 3. MovieListResponse 리스트 생성 (30개제한)
+        // 1. 리뷰개수가 2000개 넘는 영화 조회 (목록 화면에 필요한 컬럼만 조회)
+        List<MovieListResponse> movieList = movieRepoUtil.findMovieListBySeqIn(movieSeqs);
+        // 2. movie_rating을 기준으로 정렬 후 30개 제한
         return movieList.stream()
+                .sorted(Comparator.comparingDouble(MovieListResponse::getMovieRating).reversed())
                 .limit(30)
-                .map(movie -> new MovieListResponse(movie, movie.getMovieDetail()))
                 .toList();
     }
 
@@ -299,46 +553,107 @@ public class MovieService {
         movieRepoUtil.deleteTopMovieForRedis();
     }
 
-    // redis , mongoDB (키워드 검색결과 ) 초기화
-    private void initSearchResultForRedisAndMongoDB() {
-        movieRepoUtil.deleteAllSearchResultForRedis();
-        movieRepoUtil.deleteAllSearchResultForMongoDB();
+    // 커서 조회 개수 (다음 페이지 존재 여부 확인을 위해 한 건 더 조회)
+    private int cursorLimit(int size) {
+        if (size <= 0) {
+            throw new RestApiException(StatusCode.BAD_REQUEST, "페이지 크기는 1 이상이어야 합니다.");
+        }
+        return size + 1;
+    }
+
+    // size + 1개 조회 결과로 커서 응답 생성 (마지막 영화의 위치를 다음 커서로 사용)
+    private MovieCursorResponse buildCursorResponse(List<MovieListResponse> movieList, int size) {
+        boolean hasNext = movieList.size() > size;
+        List<MovieListResponse> page = hasNext ? movieList.subList(0, size) : movieList;
+        String nextCursor = hasNext ? MovieCursor.from(page.get(size - 1)).encode() : null;
+        return new MovieCursorResponse(page, nextCursor, hasNext);
+    }
+
+    // (영화 제목, 연도) 매핑 키 생성 (DB 비교와 같이 대소문자 구분 없음)
+    private String titleYearKey(String movieTitle, Integer movieYear) {
+        return movieTitle.toLowerCase(Locale.ROOT) + "/" + movieYear;
+    }
+
+    // movieSeqs 순서에 맞춰 영화 목록 정렬
+    private List<Movie> orderByMovieSeqs(List<Movie> movieList, List<Integer> movieSeqs) {
+        Map<Integer, Movie> movieMap = movieList.stream()
+                .collect(Collectors.toMap(Movie::getMovieSeq, Function.identity()));
+        List<Movie> orderedMovieList = new ArrayList<>();
+        for (Integer seq : movieSeqs) {
+            if (movieMap.containsKey(seq)) {
+                orderedMovieList.add(movieMap.get(seq));
+            }
+        }
+        return orderedMovieList;
+    }
+
+    // movieSeqs 순서에 맞춰 영화 목록 응답 정렬
+    private List<MovieListResponse> orderMovieListBySeqs(List<MovieListResponse> movieList, List<Integer> movieSeqs) {
+        Map<Integer, MovieListResponse> movieMap = movieList.stream()
+                .collect(Collectors.toMap(MovieListResponse::getMovieSeq, Function.identity()));
+        List<MovieListResponse> orderedMovieList = new ArrayList<>();
+        for (Integer seq : movieSeqs) {
+            if (movieMap.containsKey(seq)) {
+                orderedMovieList.add(movieMap.get(seq));
+            }
+        }
+        return orderedMovieList;
     }
 
     // Top10 키워드 추출
-    public List<String> findTopKeywords(List<MongoUserAction> userActions) {
-        // 키워드의 빈도를 계산하고 상위 10개를 추출
-        return userActions.stream()
-                .collect(Collectors.groupingBy(MongoUserAction::getKeyword, Collectors.counting())) // 키워드 빈도수 계산
-                .entrySet().stream()
-                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()) // 빈도수 내림차순 정렬
-                .limit(10) // 상위 10개 추출
-                .map(Map.Entry::getKey)
+    public List<String> findTopKeywords() {
+        // MongoDB 집계 파이프라인으로 키워드 빈도수 상위 10개 추출
+        return movieRepoUtil.findTopKeywordsForMongoDB(10).stream()
+                .map(KeywordCount::getKeyword)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
-    // 영화 제목 목록의 영화 번호 추출
+    // 영화 제목 목록의 영화 번호 추출 (한 번의 쿼리로 조회, 같은 제목은 최신 영화 우선)
     public List<Integer> findMovieSeqsByKeywords(List<String> movieTitles) {
+        // 1. 제목 목록에 해당하는 영화 일괄 조회 후 제목별로 가장 최신 영화만 유지
+        Map<String, MovieListResponse> latestMovies = new HashMap<>();
+        for (MovieListResponse movie : movieRepoUtil.findMovieListByTitleIn(movieTitles)) {
+            latestMovies.merge(movie.getMovieTitle().toLowerCase(Locale.ROOT), movie, (a, b) ->
+                    Comparator.comparing(MovieListResponse::getMovieYear)
+                            .thenComparingInt(MovieListResponse::getMovieSeq)
+                            .compare(a, b) >= 0 ? a : b);
+        }
+        // 2. 키워드 순서대로 영화 번호 목록 생성 (영화가 없는 키워드는 제외)
         List<Integer> movieSeqs = new ArrayList<>();
         for (String movieTitle : movieTitles) {
-            // 영화 제목으로 영화 번호 조회
-            Movie movie = movieRepoUtil.findByMovieTitle(movieTitle);
-            // 영화 번호 목록에 추가
+            MovieListResponse movie = latestMovies.get(movieTitle.toLowerCase(Locale.ROOT));
+            if (movie == null) {
+                log.warn("Top10 키워드에 해당하는 영화가 없어 제외합니다 - 키워드: {}", movieTitle);
+                continue;
+            }
             movieSeqs.add(movie.getMovieSeq());
         }
         return movieSeqs;
     }
 
     public RecommendActorResponse getRecommendActor(int userSeq) {
-        // 랜덤으로 해당 유저의 사용자 추천 배우 중 1명 뽑기
-        List<RecommendActor> recommendActors = movieRepoUtil.findRecommendActor(userSeq);
-        if (recommendActors == null || recommendActors.isEmpty()) {
+        // 1. 추천 배우 캐시에서 랜덤으로 1명 조회 (SRANDMEMBER)
+        RecommendActorCache.CachedRecommendActor cached = recommendActorCache.random(userSeq);
+        if (cached == null) {
+            // 2. 캐시가 없으면 같은 사용자에 대한 동시 요청은 한 번만 DB에서 조회하여 캐시에 저장
+            cached = singleFlightLoader.load("recommendActor:" + userSeq, () -> loadRecommendActor(userSeq));
+        }
+        // 3. 추천 배우가 없을 경우
+        if (cached.getRecommendActor() == null) {
             throw new RestApiException(StatusCode.NO_SUCH_ELEMENT, "추천된 배우가 존재하지 않습니다.");
         }
-        RecommendActor recommendActor = recommendActors.get((int) (Math.random() * recommendActors.size()));
-        Movie movie = movieRepoUtil.findById(recommendActor.getMovieSeq());
-        Actor actor = movie.getActor(recommendActor.getActorSeq());
-        return new RecommendActorResponse(actor.getActorName(), movie.getMovieDetail().getMovieTitle());
+        return cached.getRecommendActor();
+    }
+
+    // DB에서 추천 배우 목록을 조회하여 캐시가 없을 때만 저장한 뒤 랜덤으로 1명 반환
+    private RecommendActorCache.CachedRecommendActor loadRecommendActor(int userSeq) {
+        List<RecommendActorResponse> recommendActors = movieRepoUtil.findRecommendActorList(userSeq);
+        recommendActorCache.putIfAbsent(userSeq, recommendActors);
+        if (recommendActors.isEmpty()) {
+            return RecommendActorCache.CachedRecommendActor.EMPTY;
+        }
+        return new RecommendActorCache.CachedRecommendActor(recommendActors.get(ThreadLocalRandom.current().nextInt(recommendActors.size())));
     }
 
     @Transactional
@@ -353,12 +668,27 @@ public class MovieService {
         List<NewMovie> newMovies = movieBuilderUtil.buildNewMovieList(movieSeqList);
         // 2. 개봉 영화 목록 저장
         movieRepoUtil.saveNewMovie(newMovies);
-        // 3. 검색 Redis, MongoDB 초기화
-        initSearchResultForRedisAndMongoDB();
     }
 
 
     public List<MovieListResponse> getNewMovieList() {
+        // 1. 인메모리 캐시 조회
+        List<MovieListResponse> cachedList = homeMovieListCache.get(HomeMovieListCache.NEW_MOVIE_LIST);
+        if (cachedList != null) {
+            return cachedList;
+        }
+        // 2. 동시 요청은 한 번만 로딩한 뒤 인메모리 캐시에 저장
+        return singleFlightLoader.load(HomeMovieListCache.NEW_MOVIE_LIST, () -> {
+            // 로딩 도중 목록이 무효화되면 인메모리 캐시에 저장하지 않도록 로딩 시작 전 버전 확인
+            long cacheVersion = homeMovieListCache.version();
+            List<MovieListResponse> responses = loadNewMovieList();
+            homeMovieListCache.put(HomeMovieListCache.NEW_MOVIE_LIST, cacheVersion, responses);
+            return responses;
+        });
+    }
+
+    // 개봉 영화 목록 로딩 (Redis -> DB)
+    private List<MovieListResponse> loadNewMovieList() {
         // 1. redis에서 개봉 영화 목록 조회
         RedisNewMovie redisNewMovie = movieRepoUtil.findNewMovieForRedis();
         List<Integer> movieSeqs;
@@ -383,19 +713,9 @@ public class MovieService {
             movieRepoUtil.deleteNewMovieForRedis();
             throw new RestApiException(StatusCode.NO_SUCH_ELEMENT, "개봉 영화가 존재하지 않습니다.");
         }
-        // 4. 개봉 영화 목록 조회
-        List<Movie> movieList = movieRepoUtil.findBySeqIn(movieSeqs);
-        // 5. movieSeq를 키로 하는 Map으로 변환 (Movie 객체 매핑)
-        Map<Integer, Movie> movieMap = movieList.stream()
-                .collect(Collectors.toMap(Movie::getMovieSeq, Function.identity()));
-        // 5. movieSeqs 순서에 맞춰 movieMap에서 Movie 객체를 가져와 List 생성
-        List<Movie> orderedMovieList = new ArrayList<>();
-        for (Integer seq : movieSeqs) {
-            if (movieMap.containsKey(seq)) {
-                orderedMovieList.add(movieMap.get(seq));
-            }
-        }
-        // 6. MovieListResponse 리스트 생성
+        // 4. 개봉 영화 목록 조회 후 movieSeqs 순서에 맞춰 정렬
+        List<Movie> orderedMovieList = orderByMovieSeqs(movieRepoUtil.findBySeqIn(movieSeqs), movieSeqs);
+        // 5. MovieListResponse 리스트 생성
         return orderedMovieList.stream()
                 .map(movie -> new MovieListResponse(movie, movie.getMovieDetail()))
                 .toList();
@@ -0,0 +1,242 @@
+package com.flicker.movie.movie.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flicker.movie.movie.domain.entity.MongoUserAction;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * RecentUserActionCache는 사용자별 최근 영화조회/리뷰작성 행동 로그를 최대 recent-size개까지 보관하는 링 캐시입니다.
+ * <p>
+ * Redis(L2)에는 사용자별 리스트에 최신 로그를 LPUSH 후 LTRIM 하여 항상 최근 로그만 남기고,
+ * 인메모리(L1)는 LRU 방식으로 최대 사용자 수를 제한하고 짧은 TTL을 둡니다.
+ * Redis 리스트는 MongoDB에서 처음 조회한 결과로만 생성되며(이후에는 LPUSHX로 추가),
+ * 행동 로그가 추가되면 Redis Pub/Sub으로 무효화 메시지를 발행하여 모든 서버의 L1 캐시에서 해당 사용자를 제거합니다.
+ * <p>
+ * 행동 로그가 추가될 때마다 사용자별 버전(Redis, 인메모리)을 올리고, MongoDB 조회 전에 확인한 버전이 바뀌었으면
+ * 조회 결과로 Redis 리스트를 만들거나 L1에 저장하지 않습니다. (조회 도중 추가된 로그가 빠지는 것을 방지)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RecentUserActionCache implements MessageListener {
+
+    public static final String EVICT_CHANNEL = "UserAction:recent:evict"; // 무효화 메시지 채널
+    private static final String KEY_PREFIX = "UserAction:recent:"; // Redis 키 접두사
+    private static final String VERSION_KEY_PREFIX = "UserAction:recent:version:"; // 사용자별 버전 키 접두사
+    private static final int VERSION_STRIPES = 256; // 사용자 번호별 인메모리 버전 슬롯 수
+    private static final Set<String> CACHED_ACTIONS = Set.of("DETAIL", "REVIEW"); // 캐시 대상 행동
+    // 조회 전 버전이 그대로이고 리스트가 없을 때만 MongoDB 조회 결과로 생성
+    // (KEYS[1]: 리스트, KEYS[2]: 버전, ARGV[1]: TTL(초), ARGV[2]: 조회 전 버전, ARGV[3..]: 최신 순 로그)
+    private static final DefaultRedisScript<Long> BACKFILL_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '0') ~= ARGV[2] then return 0 end " +
+                    "if redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+                    "redis.call('rpush', KEYS[1], unpack(ARGV, 3)) " +
+                    "redis.call('expire', KEYS[1], ARGV[1]) return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // application.properties에서 설정된 사용자별 보관 로그 수
+    @Value("${movie.user-action.recent-size:10}")
+    private int recentSize;
+
+    // application.properties에서 설정된 인메모리 캐시 최대 사용자 수
+    @Value("${movie.user-action.recent-cache-max-size:10000}")
+    private int maxSize;
+
+    // application.properties에서 설정된 사용자 행동 로그 보관 일수 (Redis 리스트 TTL)
+    @Value("${movie.user-action.retention-days:7}")
+    private int retentionDays;
+
+    // application.properties에서 설정된 인메모리 캐시 보관 시간 (초)
+    @Value("${movie.user-action.recent-cache-local-ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    // 사용자 번호 -> 최근 행동 로그 (최신 순, 접근 순서 기준 LRU)
+    private final Map<Integer, CachedUserActions> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, CachedUserActions> eldest) {
+                    return size() > maxSize;
+                }
+            });
+    // 사용자 번호별 인메모리 무효화 버전 (사용자 번호를 슬롯 수로 나눈 나머지 위치에 저장)
+    private final AtomicLongArray localVersions = new AtomicLongArray(VERSION_STRIPES);
+
+    /**
+     * MongoDB에서 최근 행동 로그를 조회하기 전에 현재 버전을 확인하는 메서드입니다.
+     *
+     * @param userSeq 사용자 번호
+     * @return 조회 전 버전 (Redis 버전을 읽지 못하면 Redis 리스트는 만들지 않음)
+     */
+    public LoadVersion version(int userSeq) {
+        long localVersion = localVersions.get(stripe(userSeq));
+        String redisVersion;
+        try {
+            String value = stringRedisTemplate.opsForValue().get(VERSION_KEY_PREFIX + userSeq);
+            redisVersion = value == null ? "0" : value;
+        } catch (Exception e) {
+            log.error("최근 행동 로그 캐시 버전 조회 중 오류 발생 - 사용자 ID: {}, 에러: {}", userSeq, e.getMessage());
+            redisVersion = null;
+        }
+        return new LoadVersion(redisVersion, localVersion);
+    }
+
+    // 캐시된 최근 행동 로그 조회 (인메모리 -> Redis, 없으면 null)
+    public List<MongoUserAction> get(int userSeq) {
+        CachedUserActions cached = cache.get(userSeq);
+        if (cached != null && cached.getExpiresAt() > System.currentTimeMillis()) {
+            return cached.getActions();
+        }
+        long loadedVersion = localVersions.get(stripe(userSeq));
+        try {
+            List<String> values = stringRedisTemplate.opsForList().range(KEY_PREFIX + userSeq, 0, recentSize - 1);
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            List<MongoUserAction> actions = new ArrayList<>(values.size());
+            for (String value : values) {
+                actions.add(objectMapper.readValue(value, MongoUserAction.class));
+            }
+            List<MongoUserAction> immutable = List.copyOf(actions);
+            putLocal(userSeq, loadedVersion, immutable);
+            return immutable;
+        } catch (Exception e) {
+            log.error("최근 행동 로그 캐시 조회 중 오류 발생 - 사용자 ID: {}, 에러: {}", userSeq, e.getMessage());
+            return null;
+        }
+    }
+
+    // MongoDB에서 조회한 최근 행동 로그 저장 (Redis 리스트가 이미 있거나 조회 도중 로그가 추가되었으면 저장하지 않음)
+    public void put(int userSeq, LoadVersion loadVersion, List<MongoUserAction> actions) {
+        List<MongoUserAction> immutable = List.copyOf(actions);
+        putLocal(userSeq, loadVersion.getLocalVersion(), immutable);
+        if (immutable.isEmpty() || loadVersion.getRedisVersion() == null) {
+            return;
+        }
+        try {
+            List<String> args = new ArrayList<>(immutable.size() + 2);
+            args.add(String.valueOf(Duration.ofDays(retentionDays).toSeconds()));
+            args.add(loadVersion.getRedisVersion());
+            for (MongoUserAction action : immutable) {
+                args.add(objectMapper.writeValueAsString(action));
+            }
+            stringRedisTemplate.execute(BACKFILL_SCRIPT, List.of(KEY_PREFIX + userSeq, VERSION_KEY_PREFIX + userSeq), args.toArray());
+        } catch (Exception e) {
+            log.error("최근 행동 로그 캐시 저장 중 오류 발생 - 사용자 ID: {}, 에러: {}", userSeq, e.getMessage());
+        }
+    }
+
+    // 저장된 행동 로그를 사용자별 리스트 앞에 추가하고 모든 서버의 인메모리 캐시 무효화
+    public void pushAll(List<MongoUserAction> mongoUserActions) {
+        // 1. 캐시 대상 행동만 사용자별로 묶기 (오래된 순으로 LPUSH 하여 최신 로그가 앞에 오도록 시간순 정렬)
+        Map<Integer, List<MongoUserAction>> userActions = mongoUserActions.stream()
+                .filter(action -> CACHED_ACTIONS.contains(action.getAction()))
+                .sorted(Comparator.comparing(MongoUserAction::getTimestamp))
+                .collect(Collectors.groupingBy(MongoUserAction::getUserSeq, LinkedHashMap::new, Collectors.toList()));
+        if (userActions.isEmpty()) {
+            return;
+        }
+        try {
+            // 2. 사용자별 버전 증가 후 LPUSHX -> LTRIM -> EXPIRE를 파이프라인으로 한 번에 실행
+            Map<Integer, List<byte[]>> values = new LinkedHashMap<>();
+            for (Map.Entry<Integer, List<MongoUserAction>> entry : userActions.entrySet()) {
+                List<byte[]> serialized = new ArrayList<>(entry.getValue().size());
+                for (MongoUserAction action : entry.getValue()) {
+                    serialized.add(objectMapper.writeValueAsBytes(action));
+                }
+                values.put(entry.getKey(), serialized);
+            }
+            long ttlSeconds = Duration.ofDays(retentionDays).toSeconds();
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<Integer, List<byte[]>> value : values.entrySet()) {
+                    byte[] key = (KEY_PREFIX + value.getKey()).getBytes(StandardCharsets.UTF_8);
+                    byte[] versionKey = (VERSION_KEY_PREFIX + value.getKey()).getBytes(StandardCharsets.UTF_8);
+                    connection.stringCommands().incr(versionKey);
+                    connection.keyCommands().expire(versionKey, ttlSeconds);
+                    for (byte[] action : value.getValue()) {
+                        connection.listCommands().lPushX(key, action);
+                    }
+                    connection.listCommands().lTrim(key, 0, recentSize - 1);
+                    connection.keyCommands().expire(key, ttlSeconds);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("최근 행동 로그 캐시 추가 중 오류 발생 - 사용자 수: {}, 에러: {}", userActions.size(), e.getMessage());
+        }
+        // 3. 모든 서버의 인메모리 캐시에서 해당 사용자 제거
+        userActions.keySet().forEach(this::evictLocal);
+        try {
+            stringRedisTemplate.convertAndSend(EVICT_CHANNEL, userActions.keySet().stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            log.error("최근 행동 로그 캐시 무효화 메시지 발행 중 오류 발생 - 에러: {}", e.getMessage());
+        }
+    }
+
+    // Redis Pub/Sub 무효화 메시지 수신 (쉼표로 구분된 사용자 번호 목록)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String userSeq : body.split(",")) {
+            if (!userSeq.isBlank()) {
+                evictLocal(Integer.parseInt(userSeq.trim()));
+            }
+        }
+    }
+
+    // 조회 도중 무효화가 발생하지 않았을 때만 L1에 저장
+    private void putLocal(int userSeq, long loadedVersion, List<MongoUserAction> actions) {
+        synchronized (cache) {
+            if (localVersions.get(stripe(userSeq)) != loadedVersion) {
+                return;
+            }
+            cache.put(userSeq, new CachedUserActions(actions, System.currentTimeMillis() + localTtlSeconds * 1000));
+        }
+    }
+
+    private void evictLocal(int userSeq) {
+        synchronized (cache) {
+            localVersions.incrementAndGet(stripe(userSeq));
+            cache.remove(userSeq);
+        }
+    }
+
+    private static int stripe(int userSeq) {
+        return Math.floorMod(userSeq, VERSION_STRIPES);
+    }
+
+    // MongoDB 조회 전에 확인한 Redis 버전, 인메모리 버전
+    @Getter
+    @AllArgsConstructor
+    public static class LoadVersion {
+        private final String redisVersion;
+        private final long localVersion;
+    }
+
+    // 최근 행동 로그와 인메모리 만료 시각
+    @Getter
+    @AllArgsConstructor
+    private static class CachedUserActions {
+        private final List<MongoUserAction> actions;
+        private final long expiresAt;
+    }
+}
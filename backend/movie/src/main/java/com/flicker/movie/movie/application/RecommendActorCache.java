@@ -0,0 +1,147 @@
+package com.flicker.movie.movie.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flicker.movie.movie.dto.RecommendActorResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RecommendActorCache는 사용자별 추천 배우를 (배우 이름, 영화 제목) 형태로 미리 만들어 Redis Set에 보관하는 캐시입니다.
+ * <p>
+ * 추천 배우가 교체될 때 커밋 이후 사용자별 Set을 새로 만들어 두므로,
+ * 조회 시에는 SRANDMEMBER 한 번으로 영화, 배우 조회 없이 임의의 추천 배우를 응답합니다.
+ * 추천 배우가 없는 사용자는 빈 문자열 멤버 하나만 저장하여 DB 재조회를 막습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RecommendActorCache {
+
+    private static final String KEY_PREFIX = "RecommendActor:"; // Redis 키 접두사
+    private static final String EMPTY_MEMBER = ""; // 추천 배우가 없음을 나타내는 멤버
+    // 캐시가 없을 때만 SADD -> EXPIRE (그 사이 교체된 추천 배우를 DB에서 먼저 읽은 목록으로 덮어쓰지 않도록 원자적으로 실행)
+    private static final DefaultRedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+                    "redis.call('sadd', KEYS[1], unpack(ARGV, 2)) " +
+                    "redis.call('expire', KEYS[1], ARGV[1]) return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // application.properties에서 설정된 Redis 캐시 보관 시간 (초)
+    @Value("${movie.recommend-actor.cache-ttl-seconds:604800}")
+    private long ttlSeconds;
+
+    /**
+     * 사용자의 추천 배우 중 임의의 1명을 조회하는 메서드입니다.
+     *
+     * @param userSeq 사용자의 ID
+     * @return 캐시가 없으면 null, 추천 배우가 없으면 CachedRecommendActor.EMPTY
+     */
+    public CachedRecommendActor random(int userSeq) {
+        try {
+            String member = stringRedisTemplate.opsForSet().randomMember(KEY_PREFIX + userSeq);
+            if (member == null) {
+                return null;
+            }
+            if (member.equals(EMPTY_MEMBER)) {
+                return CachedRecommendActor.EMPTY;
+            }
+            return new CachedRecommendActor(objectMapper.readValue(member, RecommendActorResponse.class));
+        } catch (Exception e) {
+            log.error("추천 배우 캐시 조회 중 오류 발생 - 사용자 ID: {}, 에러: {}", userSeq, e.getMessage());
+            return null;
+        }
+    }
+
+    // 사용자별 추천 배우 교체 (트랜잭션 중이면 커밋 이후에 실행)
+    public void replaceAll(Map<Integer, List<RecommendActorResponse>> recommendActors) {
+        if (recommendActors.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    writeAll(recommendActors);
+                }
+            });
+            return;
+        }
+        writeAll(recommendActors);
+    }
+
+    // 캐시 미스 시 DB에서 조회한 추천 배우 저장 (이미 캐시가 있으면 교체된 최신 목록이므로 저장하지 않음)
+    public void putIfAbsent(int userSeq, List<RecommendActorResponse> recommendActors) {
+        try {
+            // 1. 보관 시간과 추천 배우 직렬화 (없으면 빈 문자열 멤버)
+            List<String> args = new ArrayList<>(recommendActors.size() + 1);
+            args.add(String.valueOf(ttlSeconds));
+            if (recommendActors.isEmpty()) {
+                args.add(EMPTY_MEMBER);
+            }
+            for (RecommendActorResponse recommendActor : recommendActors) {
+                args.add(objectMapper.writeValueAsString(recommendActor));
+            }
+            // 2. 캐시가 없을 때만 저장
+            stringRedisTemplate.execute(FILL_SCRIPT, List.of(KEY_PREFIX + userSeq), args.toArray());
+        } catch (Exception e) {
+            log.error("추천 배우 캐시 저장 중 오류 발생 - 사용자 ID: {}, 에러: {}", userSeq, e.getMessage());
+        }
+    }
+
+    // 사용자별 DEL -> SADD -> EXPIRE를 파이프라인으로 한 번에 실행
+    private void writeAll(Map<Integer, List<RecommendActorResponse>> recommendActors) {
+        try {
+            // 1. 사용자별 추천 배우 직렬화 (없으면 빈 문자열 멤버)
+            Map<byte[], byte[][]> values = new LinkedHashMap<>();
+            for (Map.Entry<Integer, List<RecommendActorResponse>> entry : recommendActors.entrySet()) {
+                byte[][] members;
+                if (entry.getValue().isEmpty()) {
+                    members = new byte[][]{EMPTY_MEMBER.getBytes(StandardCharsets.UTF_8)};
+                } else {
+                    members = new byte[entry.getValue().size()][];
+                    for (int i = 0; i < members.length; i++) {
+                        members[i] = objectMapper.writeValueAsBytes(entry.getValue().get(i));
+                    }
+                }
+                values.put((KEY_PREFIX + entry.getKey()).getBytes(StandardCharsets.UTF_8), members);
+            }
+            // 2. 파이프라인으로 한 번에 저장
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<byte[], byte[][]> value : values.entrySet()) {
+                    connection.keyCommands().del(value.getKey());
+                    connection.setCommands().sAdd(value.getKey(), value.getValue());
+                    connection.keyCommands().expire(value.getKey(), ttlSeconds);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("추천 배우 캐시 저장 중 오류 발생 - 사용자 수: {}, 에러: {}", recommendActors.size(), e.getMessage());
+        }
+    }
+
+    // 캐시 조회 결과 (recommendActor가 null이면 추천 배우 없음)
+    @Getter
+    @AllArgsConstructor
+    public static class CachedRecommendActor {
+        public static final CachedRecommendActor EMPTY = new CachedRecommendActor(null);
+
+        private final RecommendActorResponse recommendActor;
+    }
+}
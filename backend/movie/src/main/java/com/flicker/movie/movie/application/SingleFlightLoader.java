@@ -0,0 +1,173 @@
+package com.flicker.movie.movie.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlightLoader는 같은 캐시 키에 대한 동시 캐시 미스를 하나의 로딩으로 합치는 유틸리티 클래스입니다.
+ * <p>
+ * 같은 JVM 안에서는 키당 하나의 로더만 실행되고, 나머지 요청은 같은 결과를 기다립니다.
+ * 캐시 조회 함수를 함께 넘기면 Redis 락으로 여러 서버 간에도 로더 실행을 하나로 제한하며,
+ * 락을 얻지 못한 서버는 다른 서버가 캐시를 채울 때까지 캐시를 다시 조회합니다.
+ */
+@Slf4j
+@Component
+public class SingleFlightLoader {
+
+    private static final String LOCK_KEY_PREFIX = "SingleFlight:lock:";
+    private static final long POLL_INTERVAL_MILLIS = 50;
+    // 락을 획득한 요청만 락을 해제하도록 값을 비교 후 삭제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executedCounter; // 직접 로더를 실행한 횟수
+    private final Counter coalescedCounter; // 같은 JVM의 로딩 결과를 공유한 횟수
+    private final Counter remoteCounter; // 다른 서버가 채운 캐시를 사용한 횟수
+
+    // application.properties에서 설정된 Redis 락 사용 여부
+    @Value("${movie.single-flight.redis-lock-enabled:false}")
+    private boolean redisLockEnabled;
+
+    // application.properties에서 설정된 Redis 락 TTL (밀리초)
+    @Value("${movie.single-flight.lock-ttl-millis:5000}")
+    private long lockTtlMillis;
+
+    // application.properties에서 설정된 최대 대기 시간 (밀리초, 초과 시 직접 로딩)
+    @Value("${movie.single-flight.wait-millis:3000}")
+    private long waitMillis;
+
+    public SingleFlightLoader(StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.executedCounter = meterRegistry.counter("movie.single-flight.loads", "result", "executed");
+        this.coalescedCounter = meterRegistry.counter("movie.single-flight.loads", "result", "coalesced");
+        this.remoteCounter = meterRegistry.counter("movie.single-flight.loads", "result", "remote");
+    }
+
+    // 같은 JVM 안에서만 로딩을 합치는 메서드
+    public <T> T load(String key, Supplier<T> loader) {
+        return load(key, null, loader);
+    }
+
+    /**
+     * 같은 키에 대한 로딩을 하나로 합치는 메서드입니다.
+     *
+     * @param key         캐시 키
+     * @param cacheLookup 캐시 조회 함수 (없으면 null 반환, null을 넘기면 Redis 락을 사용하지 않음)
+     * @param loader      원본 데이터를 조회하여 캐시에 저장하고 결과를 반환하는 함수
+     * @return 로딩 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String key, Supplier<T> cacheLookup, Supplier<T> loader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        // 1. 이미 같은 키를 로딩 중이면 결과를 기다림
+        if (existing != null) {
+            try {
+                T result = (T) existing.get(waitMillis, TimeUnit.MILLISECONDS);
+                coalescedCounter.increment();
+                return result;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (TimeoutException e) {
+                log.warn("Single-flight 대기 시간 초과로 직접 로딩합니다 - 키: {}", key);
+                executedCounter.increment();
+                return loader.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+        // 2. 첫 요청이 로딩을 수행하고 결과를 공유
+        try {
+            T result = loadWithLock(key, cacheLookup, loader);
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    // Redis 락을 획득한 서버만 로더를 실행하고, 나머지는 캐시가 채워질 때까지 대기
+    private <T> T loadWithLock(String key, Supplier<T> cacheLookup, Supplier<T> loader) {
+        if (!redisLockEnabled || cacheLookup == null) {
+            executedCounter.increment();
+            return loader.get();
+        }
+        String lockKey = LOCK_KEY_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+        if (tryLock(lockKey, token)) {
+            try {
+                // 락을 기다리는 동안 다른 서버가 캐시를 채웠을 수 있으므로 한 번 더 확인
+                T cached = cacheLookup.get();
+                if (cached != null) {
+                    remoteCounter.increment();
+                    return cached;
+                }
+                executedCounter.increment();
+                return loader.get();
+            } finally {
+                unlock(lockKey, token);
+            }
+        }
+        // 다른 서버가 로딩 중이면 캐시가 채워질 때까지 조회
+        long deadline = System.currentTimeMillis() + waitMillis;
+        while (System.currentTimeMillis() < deadline) {
+            T cached = cacheLookup.get();
+            if (cached != null) {
+                remoteCounter.increment();
+                return cached;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        executedCounter.increment();
+        return loader.get();
+    }
+
+    private boolean tryLock(String lockKey, String token) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(lockKey, token, Duration.ofMillis(lockTtlMillis)));
+        } catch (Exception e) {
+            // Redis 장애 시에는 JVM 단위 합치기만 적용
+            log.error("Single-flight Redis 락 획득 중 오류 발생 - 키: {}, 에러: {}", lockKey, e.getMessage());
+            return true;
+        }
+    }
+
+    private void unlock(String lockKey, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), token);
+        } catch (Exception e) {
+            log.error("Single-flight Redis 락 해제 중 오류 발생 - 키: {}, 에러: {}", lockKey, e.getMessage());
+        }
+    }
+}
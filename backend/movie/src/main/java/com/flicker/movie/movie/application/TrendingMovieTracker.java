@@ -0,0 +1,228 @@
+package com.flicker.movie.movie.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flicker.movie.common.module.exception.RestApiException;
+import com.flicker.movie.common.module.status.StatusCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TrendingMovieTracker는 영화 상세 조회, 리뷰 작성 행동을 실시간으로 집계하여
+ * 최근 1시간, 24시간 동안 가장 많이 조회된 영화 순위를 메모리에서 제공하는 컴포넌트입니다.
+ * <p>
+ * 각 윈도우는 일정 시간 단위의 버킷으로 나뉘며, 버킷마다 Space-Saving 요약을 사용하여
+ * 영화 수와 관계없이 최대 capacity개의 카운터만 유지합니다.
+ * 오래된 버킷은 새 버킷으로 교체되므로 윈도우를 벗어난 행동은 순위에서 자연스럽게 빠집니다.
+ * <p>
+ * 주기적으로 각 서버의 윈도우 요약을 Redis에 스냅샷으로 저장하고,
+ * 모든 서버의 스냅샷을 합산한 순위를 메모리에 보관하여 조회 시 사용합니다.
+ */
+@Slf4j
+@Component
+public class TrendingMovieTracker {
+
+    public static final String WINDOW_1H = "1h";
+    public static final String WINDOW_24H = "24h";
+
+    private static final String SNAPSHOT_KEY_PREFIX = "Trending:snapshot:"; // Redis 스냅샷 키 접두사 (+ 윈도우)
+    private static final int MERGED_TOP_SIZE = 100; // 합산 순위 보관 개수
+    private static final int MAX_RESPONSE_SIZE = 50; // 한 번에 조회할 수 있는 최대 개수
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString(); // 스냅샷을 구분하기 위한 서버 ID
+    private final Map<String, SlidingWindow> windows = new LinkedHashMap<>();
+    // 윈도우 -> 모든 서버의 스냅샷을 합산한 영화 번호 순위
+    private final Map<String, List<Integer>> mergedTop = new ConcurrentHashMap<>();
+
+    // application.properties에서 설정된 스냅샷 주기 (밀리초)
+    @Value("${movie.trending.snapshot-interval-millis:30000}")
+    private long snapshotIntervalMillis;
+
+    public TrendingMovieTracker(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                                @Value("${movie.trending.capacity:200}") int capacity) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        // 1시간 윈도우: 5분 버킷 12개, 24시간 윈도우: 1시간 버킷 24개
+        windows.put(WINDOW_1H, new SlidingWindow(Duration.ofMinutes(5).toMillis(), 12, capacity));
+        windows.put(WINDOW_24H, new SlidingWindow(Duration.ofHours(1).toMillis(), 24, capacity));
+    }
+
+    // 영화 행동 1건 기록 (모든 윈도우의 현재 버킷에 반영)
+    public void record(int movieSeq) {
+        long now = System.currentTimeMillis();
+        for (SlidingWindow window : windows.values()) {
+            window.record(movieSeq, now);
+        }
+    }
+
+    /**
+     * 윈도우 기간 동안 가장 많이 조회된 영화 번호를 순위대로 조회하는 메서드입니다.
+     * 스냅샷 합산 순위가 있으면 사용하고, 없으면 이 서버의 집계만으로 계산합니다.
+     *
+     * @param window 집계 기간 ("1h" 또는 "24h")
+     * @param size   조회할 영화 수
+     * @return 순위대로 정렬된 영화 번호 목록
+     */
+    public List<Integer> top(String window, int size) {
+        SlidingWindow slidingWindow = windows.get(window);
+        if (slidingWindow == null) {
+            throw new RestApiException(StatusCode.BAD_REQUEST, "집계 기간은 1h 또는 24h만 가능합니다.");
+        }
+        int limit = Math.max(0, Math.min(size, MAX_RESPONSE_SIZE));
+        List<Integer> merged = mergedTop.get(window);
+        if (merged != null) {
+            return merged.subList(0, Math.min(limit, merged.size()));
+        }
+        return topOf(slidingWindow.counts(System.currentTimeMillis()), limit);
+    }
+
+    // 이 서버의 윈도우 요약을 Redis에 저장하고, 모든 서버의 스냅샷을 합산하여 순위 갱신
+    @Scheduled(fixedDelayString = "${movie.trending.snapshot-interval-millis:30000}")
+    public void snapshot() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, SlidingWindow> entry : windows.entrySet()) {
+            Map<Integer, Long> localCounts = entry.getValue().counts(now);
+            try {
+                String key = SNAPSHOT_KEY_PREFIX + entry.getKey();
+                // 1. 이 서버의 스냅샷 저장
+                stringRedisTemplate.opsForHash().put(key, nodeId,
+                        objectMapper.writeValueAsString(new NodeSnapshot(now, localCounts)));
+                stringRedisTemplate.expire(key, Duration.ofMillis(snapshotIntervalMillis * 10));
+                // 2. 최근에 갱신된 모든 서버의 스냅샷 합산 (오래 갱신되지 않은 서버는 제외)
+                Map<Integer, Long> mergedCounts = new HashMap<>();
+                for (Map.Entry<Object, Object> node : stringRedisTemplate.opsForHash().entries(key).entrySet()) {
+                    NodeSnapshot snapshot = objectMapper.readValue((String) node.getValue(), NodeSnapshot.class);
+                    if (now - snapshot.getUpdatedAt() > snapshotIntervalMillis * 3) {
+                        stringRedisTemplate.opsForHash().delete(key, node.getKey());
+                        continue;
+                    }
+                    snapshot.getCounts().forEach((movieSeq, count) -> mergedCounts.merge(movieSeq, count, Long::sum));
+                }
+                mergedTop.put(entry.getKey(), topOf(mergedCounts, MERGED_TOP_SIZE));
+            } catch (Exception e) {
+                // Redis 장애 시에는 이 서버의 집계만 사용
+                log.error("트렌딩 스냅샷 처리 중 오류 발생 - 윈도우: {}, 에러: {}", entry.getKey(), e.getMessage());
+                mergedTop.put(entry.getKey(), topOf(localCounts, MERGED_TOP_SIZE));
+            }
+        }
+    }
+
+    // 카운트 내림차순 -> 영화 번호 오름차순으로 상위 limit개 추출
+    private static List<Integer> topOf(Map<Integer, Long> counts, int limit) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<Integer, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // 일정 시간 단위 버킷을 순환하며 사용하는 슬라이딩 윈도우
+    private static class SlidingWindow {
+        private final long bucketMillis;
+        private final SpaceSaving[] buckets;
+        private final long[] bucketIds; // 각 슬롯에 들어있는 버킷 번호 (시각 / bucketMillis)
+        private final int capacity;
+
+        SlidingWindow(long bucketMillis, int bucketCount, int capacity) {
+            this.bucketMillis = bucketMillis;
+            this.buckets = new SpaceSaving[bucketCount];
+            this.bucketIds = new long[bucketCount];
+            this.capacity = capacity;
+            Arrays.fill(bucketIds, -1);
+        }
+
+        void record(int movieSeq, long now) {
+            currentBucket(now).offer(movieSeq);
+        }
+
+        // 윈도우 안에 있는 버킷들의 카운트 합산
+        Map<Integer, Long> counts(long now) {
+            long currentId = now / bucketMillis;
+            Map<Integer, Long> counts = new HashMap<>();
+            for (int i = 0; i < buckets.length; i++) {
+                SpaceSaving bucket;
+                synchronized (this) {
+                    if (bucketIds[i] <= currentId - buckets.length || buckets[i] == null) {
+                        continue;
+                    }
+                    bucket = buckets[i];
+                }
+                bucket.counts().forEach((movieSeq, count) -> counts.merge(movieSeq, count, Long::sum));
+            }
+            return counts;
+        }
+
+        // 현재 시각의 버킷 조회 (슬롯에 오래된 버킷이 있으면 새 버킷으로 교체)
+        private synchronized SpaceSaving currentBucket(long now) {
+            long currentId = now / bucketMillis;
+            int slot = (int) (currentId % buckets.length);
+            if (bucketIds[slot] != currentId) {
+                buckets[slot] = new SpaceSaving(capacity);
+                bucketIds[slot] = currentId;
+            }
+            return buckets[slot];
+        }
+    }
+
+    /**
+     * Space-Saving 빈도 요약입니다.
+     * 최대 capacity개의 카운터만 유지하며, 가득 찬 상태에서 새 영화가 들어오면
+     * 가장 작은 카운터를 대체하고 그 값을 이어받습니다. (상위 영화의 카운트는 과소 추정되지 않음)
+     */
+    private static class SpaceSaving {
+        private final int capacity;
+        private final Map<Integer, Long> counters;
+
+        SpaceSaving(int capacity) {
+            this.capacity = capacity;
+            this.counters = new HashMap<>(capacity * 2);
+        }
+
+        synchronized void offer(int movieSeq) {
+            Long count = counters.get(movieSeq);
+            if (count != null) {
+                counters.put(movieSeq, count + 1);
+                return;
+            }
+            if (counters.size() < capacity) {
+                counters.put(movieSeq, 1L);
+                return;
+            }
+            // 가장 작은 카운터를 찾아 대체 (가득 찬 상태에서 새 영화가 들어올 때만 발생)
+            Map.Entry<Integer, Long> min = null;
+            for (Map.Entry<Integer, Long> entry : counters.entrySet()) {
+                if (min == null || entry.getValue() < min.getValue()) {
+                    min = entry;
+                }
+            }
+            long minCount = min.getValue();
+            counters.remove(min.getKey());
+            counters.put(movieSeq, minCount + 1);
+        }
+
+        synchronized Map<Integer, Long> counts() {
+            return new HashMap<>(counters);
+        }
+    }
+
+    // Redis에 저장되는 서버별 윈도우 요약
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class NodeSnapshot {
+        private long updatedAt;
+        private Map<Integer, Long> counts;
+    }
+}
@@ -0,0 +1,280 @@
+package com.flicker.movie.movie.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flicker.movie.movie.domain.entity.MongoUserAction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserActionLogBuffer는 사용자 행동 로그(검색, 상세 조회)를 요청 처리 흐름과 분리하여
+ * 비동기로 MongoDB에 저장하는 컴포넌트입니다.
+ * <p>
+ * 요청 스레드는 크기가 제한된 큐에 로그를 넣고 바로 반환하며,
+ * 별도의 저장 스레드가 flush 주기마다 또는 batch-size개가 모일 때마다 한 번의 bulkWrite로 저장합니다.
+ * 큐가 가득 찼을 때는 설정된 정책(DROP, BLOCK, SPILL)에 따라 버리거나, 잠시 기다리거나, 디스크에 임시 저장합니다.
+ * 디스크에 임시 저장된 로그를 다시 저장하다 실패하면 남은 로그를 임시 파일로 되돌리고 spill-retry-millis 동안 재처리를 미룹니다.
+ */
+@Slf4j
+@Component
+public class UserActionLogBuffer {
+
+    // 큐가 가득 찼을 때의 처리 정책
+    public enum OverflowPolicy {
+        DROP,  // 로그를 버림
+        BLOCK, // block-timeout-millis 동안 기다린 후에도 자리가 없으면 버림
+        SPILL  // 디스크 파일에 임시 저장 후 큐에 여유가 생기면 다시 저장
+    }
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private final MovieRepoUtil movieRepoUtil;
+    private final RecentUserActionCache recentUserActionCache;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<MongoUserAction> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long blockTimeoutMillis;
+    private final Path spillPath;
+    private final Path drainingPath; // 재처리 중인 임시 저장 파일
+    private final long spillRetryMillis;
+    private final Object spillLock = new Object();
+    private final Counter enqueuedCounter; // 큐에 들어간 로그 수
+    private final Counter droppedCounter; // 버려진 로그 수
+    private final Counter spilledCounter; // 디스크에 임시 저장된 로그 수
+    private final Counter failedCounter; // 저장에 실패한 로그 수
+    private final Timer flushTimer; // bulkWrite 소요 시간
+
+    private Thread flusher;
+    private volatile boolean running = true;
+    private long nextDrainAt = 0; // 임시 저장 파일 재처리 가능 시각 (저장 스레드에서만 사용)
+
+    public UserActionLogBuffer(MovieRepoUtil movieRepoUtil, RecentUserActionCache recentUserActionCache,
+                               ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                               @Value("${movie.user-action-log.capacity:10000}") int capacity,
+                               @Value("${movie.user-action-log.batch-size:500}") int batchSize,
+                               @Value("${movie.user-action-log.flush-interval-millis:200}") long flushIntervalMillis,
+                               @Value("${movie.user-action-log.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+                               @Value("${movie.user-action-log.block-timeout-millis:50}") long blockTimeoutMillis,
+                               @Value("${movie.user-action-log.spill-path:user-action-spill.jsonl}") String spillPath,
+                               @Value("${movie.user-action-log.spill-retry-millis:5000}") long spillRetryMillis) {
+        this.movieRepoUtil = movieRepoUtil;
+        this.recentUserActionCache = recentUserActionCache;
+        this.objectMapper = objectMapper;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
+        this.spillPath = Paths.get(spillPath);
+        this.drainingPath = this.spillPath.resolveSibling(this.spillPath.getFileName() + ".draining");
+        this.spillRetryMillis = spillRetryMillis;
+        Gauge.builder("movie.user-action-log.queue.size", queue, BlockingQueue::size).register(meterRegistry);
+        this.enqueuedCounter = meterRegistry.counter("movie.user-action-log.records", "result", "enqueued");
+        this.droppedCounter = meterRegistry.counter("movie.user-action-log.records", "result", "dropped");
+        this.spilledCounter = meterRegistry.counter("movie.user-action-log.records", "result", "spilled");
+        this.failedCounter = meterRegistry.counter("movie.user-action-log.records", "result", "failed");
+        this.flushTimer = meterRegistry.timer("movie.user-action-log.flush");
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher = new Thread(this::runFlushLoop, "user-action-log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // 종료 시 큐에 남은 로그를 모두 저장
+    @PreDestroy
+    public void stop() {
+        running = false;
+        flusher.interrupt();
+        try {
+            flusher.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("종료 시점에 저장하지 못한 사용자 행동 로그 - 개수: {}", queue.size());
+        }
+    }
+
+    // 사용자 행동 로그 추가 (요청 스레드에서 호출, MongoDB 저장을 기다리지 않음)
+    public void append(MongoUserAction mongoUserAction) {
+        if (queue.offer(mongoUserAction)) {
+            enqueuedCounter.increment();
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (queue.offer(mongoUserAction, blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                        enqueuedCounter.increment();
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                droppedCounter.increment();
+            }
+            case SPILL -> spill(List.of(mongoUserAction));
+            default -> droppedCounter.increment();
+        }
+    }
+
+    // 저장 스레드: flush 주기 또는 batch-size 중 먼저 도달하는 시점에 저장
+    private void runFlushLoop() {
+        List<MongoUserAction> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                // 1. 첫 로그가 들어올 때까지 대기
+                MongoUserAction first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    // 2. flush 주기 동안 최대 batch-size개까지 모은 뒤 저장
+                    batch.add(first);
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+                    while (batch.size() < batchSize) {
+                        queue.drainTo(batch, batchSize - batch.size());
+                        long remaining = deadline - System.nanoTime();
+                        if (batch.size() >= batchSize || remaining <= 0) {
+                            break;
+                        }
+                        MongoUserAction next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                    flush(batch);
+                    batch.clear();
+                }
+                // 3. 큐가 비어 있으면 디스크에 임시 저장된 로그 재처리 (이전 재처리가 실패했으면 재시도 시각까지 대기)
+                if (overflowPolicy == OverflowPolicy.SPILL && queue.isEmpty() && System.currentTimeMillis() >= nextDrainAt) {
+                    drainSpillFile();
+                }
+            } catch (InterruptedException e) {
+                // 종료 요청: 큐에 남은 로그를 모두 저장할 때까지 계속 진행
+            } catch (Exception e) {
+                log.error("사용자 행동 로그 저장 스레드 처리 중 오류 발생 - 에러: {}", e.getMessage());
+            }
+        }
+        if (!batch.isEmpty()) {
+            flush(batch);
+        }
+    }
+
+    // 모인 로그를 한 번의 bulkWrite로 저장 후 최근 행동 로그 캐시에 반영 (실패 시 SPILL 정책이면 디스크에 임시 저장, 저장 여부 반환)
+    private boolean flush(List<MongoUserAction> batch) {
+        long start = System.nanoTime();
+        try {
+            movieRepoUtil.saveUserActionsForMongoDB(batch);
+        } catch (Exception e) {
+            log.error("사용자 행동 로그 일괄 저장 중 오류 발생 - 개수: {}, 에러: {}", batch.size(), e.getMessage());
+            if (overflowPolicy == OverflowPolicy.SPILL) {
+                spill(batch);
+            } else {
+                failedCounter.increment(batch.size());
+            }
+            return false;
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        recentUserActionCache.pushAll(batch);
+        return true;
+    }
+
+    // 디스크 파일에 JSON 한 줄씩 추가
+    private void spill(List<MongoUserAction> mongoUserActions) {
+        synchronized (spillLock) {
+            try (BufferedWriter writer = Files.newBufferedWriter(spillPath, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (MongoUserAction mongoUserAction : mongoUserActions) {
+                    writer.write(objectMapper.writeValueAsString(mongoUserAction));
+                    writer.newLine();
+                }
+                spilledCounter.increment(mongoUserActions.size());
+            } catch (IOException e) {
+                log.error("사용자 행동 로그 디스크 임시 저장 중 오류 발생 - 개수: {}, 에러: {}", mongoUserActions.size(), e.getMessage());
+                droppedCounter.increment(mongoUserActions.size());
+            }
+        }
+    }
+
+    // 디스크에 임시 저장된 로그를 읽어 batch-size 단위로 다시 저장
+    private void drainSpillFile() throws IOException {
+        // 1. 임시 저장 파일을 재처리 파일로 이동 (이전 재처리가 중단되어 남은 재처리 파일이 있으면 덮어쓰지 않고 뒤에 추가)
+        synchronized (spillLock) {
+            if (Files.exists(drainingPath)) {
+                if (Files.exists(spillPath)) {
+                    Files.write(drainingPath, Files.readAllBytes(spillPath), StandardOpenOption.APPEND);
+                    Files.delete(spillPath);
+                }
+            } else if (Files.exists(spillPath)) {
+                Files.move(spillPath, drainingPath, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                return;
+            }
+        }
+        // 2. batch-size 단위로 다시 저장 (실패한 배치는 flush에서 다시 임시 저장됨)
+        List<String> lines = Files.readAllLines(drainingPath, StandardCharsets.UTF_8);
+        List<MongoUserAction> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                batch.add(objectMapper.readValue(line, MongoUserAction.class));
+            } catch (IOException e) {
+                log.warn("임시 저장된 사용자 행동 로그를 읽을 수 없습니다 - 에러: {}", e.getMessage());
+                droppedCounter.increment();
+                continue;
+            }
+            if (batch.size() >= batchSize || i == lines.size() - 1) {
+                if (!flush(batch)) {
+                    // 3. 저장에 실패하면 남은 로그를 임시 저장 파일로 되돌리고 재시도 시각까지 재처리 중단
+                    restoreSpillLines(lines.subList(i + 1, lines.size()));
+                    nextDrainAt = System.currentTimeMillis() + spillRetryMillis;
+                    Files.delete(drainingPath);
+                    return;
+                }
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty() && !flush(batch)) {
+            nextDrainAt = System.currentTimeMillis() + spillRetryMillis;
+        }
+        Files.delete(drainingPath);
+    }
+
+    // 재처리하지 못한 로그를 임시 저장 파일 뒤에 그대로 추가
+    private void restoreSpillLines(List<String> lines) throws IOException {
+        if (lines.isEmpty()) {
+            return;
+        }
+        synchronized (spillLock) {
+            Files.write(spillPath, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+}
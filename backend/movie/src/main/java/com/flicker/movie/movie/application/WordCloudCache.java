@@ -0,0 +1,191 @@
+package com.flicker.movie.movie.application;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flicker.movie.movie.dto.WordCloudResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * WordCloudCache는 영화별 상위 워드 클라우드 응답을 미리 정렬된 형태로 보관하는 캐시입니다.
+ * <p>
+ * 인메모리(L1)는 LRU 방식으로 최대 개수를 제한하고 짧은 TTL을 두며, Redis(L2)는 모든 서버가 공유합니다.
+ * 워드 클라우드가 교체되면 커밋 이후 Redis에 새 응답을 저장하고,
+ * Redis Pub/Sub으로 무효화 메시지를 발행하여 모든 서버의 L1 캐시에서 해당 영화를 제거합니다.
+ * 무효화될 때마다 영화별 버전을 올려, 무효화 이전에 조회한 워드 클라우드가 L1에 다시 저장되지 않도록 합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class WordCloudCache implements MessageListener {
+
+    public static final String EVICT_CHANNEL = "WordCloud:evict"; // 무효화 메시지 채널
+    private static final String KEY_PREFIX = "WordCloud:"; // Redis 키 접두사
+    private static final int VERSION_STRIPES = 256; // 영화 번호별 버전 슬롯 수
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // application.properties에서 설정된 Redis 캐시 보관 시간 (초)
+    @Value("${movie.word-cloud.cache-ttl-seconds:691200}")
+    private long ttlSeconds;
+
+    // application.properties에서 설정된 인메모리 캐시 최대 영화 수
+    @Value("${movie.word-cloud.cache-max-size:10000}")
+    private int maxSize;
+
+    // application.properties에서 설정된 인메모리 캐시 보관 시간 (초)
+    @Value("${movie.word-cloud.local-ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    // 영화 번호 -> 상위 워드 클라우드 응답 (접근 순서 기준 LRU)
+    private final Map<Integer, CachedWordCloud> cache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, CachedWordCloud> eldest) {
+                    return size() > maxSize;
+                }
+            });
+    // 영화 번호별 무효화 버전 (영화 번호를 슬롯 수로 나눈 나머지 위치에 저장)
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    // 워드 클라우드를 조회하기 전에 현재 버전을 확인
+    public long version(int movieSeq) {
+        return versions.get(stripe(movieSeq));
+    }
+
+    // 캐시된 워드 클라우드 조회 (인메모리 -> Redis, 없으면 null)
+    public List<WordCloudResponse> get(int movieSeq) {
+        CachedWordCloud cached = cache.get(movieSeq);
+        if (cached != null && cached.getExpiresAt() > System.currentTimeMillis()) {
+            return cached.getWordClouds();
+        }
+        long loadedVersion = version(movieSeq);
+        try {
+            String json = stringRedisTemplate.opsForValue().get(KEY_PREFIX + movieSeq);
+            if (json == null) {
+                return null;
+            }
+            List<WordCloudResponse> wordClouds = List.copyOf(objectMapper.readValue(json, new TypeReference<List<WordCloudResponse>>() {
+            }));
+            putLocal(movieSeq, loadedVersion, wordClouds);
+            return wordClouds;
+        } catch (Exception e) {
+            log.error("워드 클라우드 캐시 조회 중 오류 발생 - 영화 ID: {}, 에러: {}", movieSeq, e.getMessage());
+            return null;
+        }
+    }
+
+    // DB에서 조회한 워드 클라우드 저장 (이미 새 응답이 저장되어 있으면 Redis는 덮어쓰지 않고, 조회 도중 무효화되었으면 L1에 저장하지 않음)
+    public void put(int movieSeq, long loadedVersion, List<WordCloudResponse> wordClouds) {
+        List<WordCloudResponse> immutable = List.copyOf(wordClouds);
+        putLocal(movieSeq, loadedVersion, immutable);
+        try {
+            stringRedisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + movieSeq,
+                    objectMapper.writeValueAsString(immutable), Duration.ofSeconds(ttlSeconds));
+        } catch (Exception e) {
+            log.error("워드 클라우드 캐시 저장 중 오류 발생 - 영화 ID: {}, 에러: {}", movieSeq, e.getMessage());
+        }
+    }
+
+    // 교체된 워드 클라우드를 Redis에 일괄 저장하고 모든 서버의 인메모리 캐시 무효화 (트랜잭션 중이면 커밋 이후에 실행)
+    public void putAll(Map<Integer, List<WordCloudResponse>> wordClouds) {
+        if (wordClouds.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    writeAll(wordClouds);
+                }
+            });
+            return;
+        }
+        writeAll(wordClouds);
+    }
+
+    // Redis Pub/Sub 무효화 메시지 수신 (쉼표로 구분된 영화 번호 목록)
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        for (String movieSeq : body.split(",")) {
+            if (!movieSeq.isBlank()) {
+                evictLocal(Integer.parseInt(movieSeq.trim()));
+            }
+        }
+    }
+
+    // 조회 도중 무효화가 발생하지 않았을 때만 L1에 저장
+    private void putLocal(int movieSeq, long loadedVersion, List<WordCloudResponse> wordClouds) {
+        synchronized (cache) {
+            if (version(movieSeq) != loadedVersion) {
+                return;
+            }
+            cache.put(movieSeq, new CachedWordCloud(wordClouds, System.currentTimeMillis() + localTtlSeconds * 1000));
+        }
+    }
+
+    private void evictLocal(int movieSeq) {
+        synchronized (cache) {
+            versions.incrementAndGet(stripe(movieSeq));
+            cache.remove(movieSeq);
+        }
+    }
+
+    private static int stripe(int movieSeq) {
+        return Math.floorMod(movieSeq, VERSION_STRIPES);
+    }
+
+    private void writeAll(Map<Integer, List<WordCloudResponse>> wordClouds) {
+        try {
+            // 1. 영화별 응답을 직렬화한 뒤 파이프라인으로 한 번에 저장
+            Map<byte[], byte[]> values = new HashMap<>();
+            for (Map.Entry<Integer, List<WordCloudResponse>> entry : wordClouds.entrySet()) {
+                values.put((KEY_PREFIX + entry.getKey()).getBytes(StandardCharsets.UTF_8),
+                        objectMapper.writeValueAsBytes(entry.getValue()));
+            }
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<byte[], byte[]> value : values.entrySet()) {
+                    connection.stringCommands().setEx(value.getKey(), ttlSeconds, value.getValue());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("워드 클라우드 캐시 일괄 저장 중 오류 발생 - 영화 수: {}, 에러: {}", wordClouds.size(), e.getMessage());
+        }
+        // 2. 모든 서버의 인메모리 캐시에서 해당 영화 제거
+        wordClouds.keySet().forEach(this::evictLocal);
+        try {
+            stringRedisTemplate.convertAndSend(EVICT_CHANNEL, wordClouds.keySet().stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(",")));
+        } catch (Exception e) {
+            log.error("워드 클라우드 캐시 무효화 메시지 발행 중 오류 발생 - 에러: {}", e.getMessage());
+        }
+    }
+
+    // 워드 클라우드 응답과 인메모리 만료 시각
+    @Getter
+    @AllArgsConstructor
+    private static class CachedWordCloud {
+        private final List<WordCloudResponse> wordClouds;
+        private final long expiresAt;
+    }
+}
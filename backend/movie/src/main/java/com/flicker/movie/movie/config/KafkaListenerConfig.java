@@ -0,0 +1,56 @@
+package com.flicker.movie.movie.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.FixedBackOff;
+
+@Configuration
+public class KafkaListenerConfig {
+
+    // 배치 리스너 재시도 간격 (밀리초)
+    private static final long RETRY_INTERVAL_MILLIS = 2000L;
+    // 배치 리스너 최대 재시도 횟수 (최초 시도 포함 5회)
+    private static final long MAX_RETRY_ATTEMPTS = 4L;
+
+    // application.properties에서 설정된 리스너 컨테이너 동시 실행 수 (토픽 파티션 수 이하로 설정)
+    @Value("${movie.kafka.listener.concurrency:3}")
+    private int concurrency;
+
+    // 처리할 수 없는 레코드를 "{토픽}.DLT" 토픽의 같은 파티션으로 전송하는 Recoverer
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<Object, Object> kafkaTemplate) {
+        return new DeadLetterPublishingRecoverer(kafkaTemplate);
+    }
+
+    // 한 번의 poll로 받은 레코드를 한꺼번에 처리하는 배치 리스너 컨테이너 팩토리
+    // 리스너가 Acknowledgment로 직접 오프셋을 커밋하며, 재시도 후에도 실패한 레코드는 DLT로 전송
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> kafkaConsumerFactory,
+            DeadLetterPublishingRecoverer deadLetterPublishingRecoverer,
+            MeterRegistry meterRegistry) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, kafkaConsumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler((record, exception) -> {
+            meterRegistry.counter("movie.kafka.dead-letter", "topic", record.topic(), "reason", "failed").increment();
+            deadLetterPublishingRecoverer.accept(record, exception);
+        }, new FixedBackOff(RETRY_INTERVAL_MILLIS, MAX_RETRY_ATTEMPTS));
+        errorHandler.setRetryListeners((record, exception, deliveryAttempt) ->
+                meterRegistry.counter("movie.kafka.retries", "topic", record.topic()).increment());
+        factory.setCommonErrorHandler(errorHandler);
+        return factory;
+    }
+}
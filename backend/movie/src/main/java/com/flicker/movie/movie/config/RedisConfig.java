@@ -1,11 +1,18 @@
 package com.flicker.movie.movie.config;
 
+import com.flicker.movie.movie.application.HomeMovieListCache;
+import com.flicker.movie.movie.application.MovieFacetIndex;
+import com.flicker.movie.movie.application.MovieSearchIndex;
+import com.flicker.movie.movie.application.RecentUserActionCache;
+import com.flicker.movie.movie.application.WordCloudCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 
 @Configuration
@@ -38,4 +45,22 @@ public class RedisConfig {
         // 생성된 RedisTemplate 객체 반환
         return template;
     }
+
+    // 홈 화면 영화 목록, 워드 클라우드, 최근 행동 로그 캐시 무효화 메시지와 검색, 패싯 인덱스 재색인 메시지를 구독하는 리스너 컨테이너 빈을 생성하는 메서드
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                       HomeMovieListCache homeMovieListCache,
+                                                                       WordCloudCache wordCloudCache,
+                                                                       RecentUserActionCache recentUserActionCache,
+                                                                       MovieSearchIndex movieSearchIndex,
+                                                                       MovieFacetIndex movieFacetIndex) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(homeMovieListCache, new ChannelTopic(HomeMovieListCache.EVICT_CHANNEL));
+        container.addMessageListener(wordCloudCache, new ChannelTopic(WordCloudCache.EVICT_CHANNEL));
+        container.addMessageListener(recentUserActionCache, new ChannelTopic(RecentUserActionCache.EVICT_CHANNEL));
+        container.addMessageListener(movieSearchIndex, new ChannelTopic(MovieSearchIndex.REINDEX_CHANNEL));
+        container.addMessageListener(movieFacetIndex, new ChannelTopic(MovieFacetIndex.REINDEX_CHANNEL));
+        return container;
+    }
 }
\ No newline at end of file
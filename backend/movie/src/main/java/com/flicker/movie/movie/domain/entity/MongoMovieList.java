@@ -4,9 +4,11 @@ import com.flicker.movie.movie.domain.vo.MongoMovie;
 import lombok.Builder;
 import lombok.ToString;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
@@ -15,7 +17,12 @@ import java.util.List;
 public class MongoMovieList {
 
     @Id
-    private String mongoKey;  // MongoDB 문서의 고유 키
+    private String mongoKey;  // MongoDB 문서의 고유 키 (Redis 검색 결과 키와 동일)
+
+    private long generation;  // 검색 결과 저장 시점의 검색 캐시 세대
 
     private List<MongoMovie> mongoMovies;  // 여러 영화 정보를 담을 리스트
+
+    @Indexed(expireAfterSeconds = 1296000) // 15일 후 자동 삭제 ( Redis 검색 결과 TTL과 동일 )
+    private LocalDateTime createdAt;  // 생성 시간
 }
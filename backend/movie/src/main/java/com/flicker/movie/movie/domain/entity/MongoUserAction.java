@@ -1,25 +1,21 @@
 package com.flicker.movie.movie.domain.entity;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.ToString;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.mongodb.core.index.Indexed;
-import org.springframework.data.mongodb.core.mapping.Document;
+import lombok.NoArgsConstructor;
 
 
 import java.time.LocalDateTime;
 
+// 사용자 행동 로그 한 건 (MongoUserActionBucket의 actions 배열에 포함되어 저장)
 @Getter
 @Builder
-@Document(collection = "user_action")  // MongoDB 컬렉션 이름
+@NoArgsConstructor
+@AllArgsConstructor
 public class MongoUserAction {
 
-    @Id
-    private String id;
-
-    @Indexed
     private int userSeq;
 
     private String keyword;
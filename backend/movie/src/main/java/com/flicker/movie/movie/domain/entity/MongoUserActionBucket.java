@@ -0,0 +1,42 @@
+package com.flicker.movie.movie.domain.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 사용자별, 일별 행동 로그 버킷 (하루 동안의 행동 로그를 하나의 문서에 저장하고 expireAt이 지나면 TTL 인덱스로 자동 삭제)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "user_action_bucket")  // MongoDB 컬렉션 이름
+@CompoundIndex(name = "idx_user_seq_day", def = "{'userSeq': 1, 'day': -1}")
+public class MongoUserActionBucket {
+
+    @Id
+    private String id; // "{userSeq}:{day}"
+
+    private int userSeq;
+
+    @Indexed
+    private LocalDate day;
+
+    @Indexed(expireAfter = "0s")
+    private LocalDateTime expireAt; // 버킷 삭제 시각 (day + 보관 일수 + 1일)
+
+    private List<MongoUserAction> actions;
+
+    // 사용자 번호와 날짜로 버킷 ID 생성
+    public static String bucketId(int userSeq, LocalDate day) {
+        return userSeq + ":" + day;
+    }
+}
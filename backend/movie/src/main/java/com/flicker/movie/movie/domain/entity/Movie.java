@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
+@Table(indexes = @Index(name = "idx_movie_del_yn_year_desc_seq", columnList = "DEL_YN, movie_year DESC, movie_seq ASC")) // 목록 커서 조회용 인덱스 (제작 연도 내림차순, 영화 번호 오름차순 정렬과 같은 방향)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
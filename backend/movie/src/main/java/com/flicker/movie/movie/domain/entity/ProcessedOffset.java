@@ -0,0 +1,26 @@
+package com.flicker.movie.movie.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// Kafka 컨슈머 그룹, 토픽, 파티션별로 마지막으로 처리한 오프셋 (중복 처리 방지용)
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "processed_offset")
+public class ProcessedOffset {
+
+    @Id
+    @Column(name = "offset_key", length = 255)
+    private String offsetKey; // "{groupId}:{topic}:{partition}"
+
+    @Column(name = "last_offset", nullable = false)
+    private long lastOffset;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
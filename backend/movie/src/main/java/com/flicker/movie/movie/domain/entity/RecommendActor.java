@@ -8,6 +8,7 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Table(indexes = @Index(name = "idx_recommend_actor_user_seq", columnList = "user_seq")) // 사용자별 추천 배우 일괄 삭제, 조회용 인덱스
 public class RecommendActor {
 
     // 자동증가
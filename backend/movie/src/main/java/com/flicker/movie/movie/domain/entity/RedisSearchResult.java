@@ -1,25 +1,21 @@
 package com.flicker.movie.movie.domain.entity;
 
 
-import org.springframework.data.annotation.Id;
+import com.flicker.movie.movie.domain.vo.MongoMovie;
 import lombok.*;
-import org.springframework.data.redis.core.RedisHash;
-import org.springframework.data.redis.core.TimeToLive;
 
+import java.util.List;
 
+
+// Redis에 JSON 문자열 하나로 저장되는 검색 결과 (키 조회 한 번으로 영화 목록까지 반환)
 @Getter
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@RedisHash("SearchResult")
 public class RedisSearchResult {
 
-    @Id
-    private String keyword; // 레디스 key 값
-
-    private String mongoKey; // MongoDB의 _id 값
+    private long generation; // 검색 결과 저장 시점의 검색 캐시 세대 (현재 세대와 다르면 만료된 결과로 간주)
 
-    @TimeToLive
-    private Long expiration; // TTL 값을 동적으로 설정
+    private List<MongoMovie> mongoMovies; // 검색 결과 영화 목록 (목록 화면에 필요한 필드만 포함)
 }
@@ -1,11 +1,15 @@
 package com.flicker.movie.movie.domain.vo;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 @Getter
 @Builder
+@NoArgsConstructor // JSON 역직렬화를 위한 기본 생성자
+@AllArgsConstructor
 public class MongoMovie {
     private int movieSeq;
     private String movieTitle;
@@ -0,0 +1,42 @@
+package com.flicker.movie.movie.dto;
+
+import com.flicker.movie.common.module.exception.RestApiException;
+import com.flicker.movie.common.module.status.StatusCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// 커서 기반 페이지네이션의 위치 (마지막으로 조회한 영화의 제작 연도, 영화 번호)
+@Getter
+@AllArgsConstructor
+public class MovieCursor {
+    private int movieYear;
+
+    private int movieSeq;
+
+    // 클라이언트에 전달할 불투명한 커서 문자열 생성
+    public String encode() {
+        String raw = movieYear + ":" + movieSeq;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 문자열 해석 (없으면 첫 페이지를 의미하는 null 반환)
+    public static MovieCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":");
+            return new MovieCursor(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        } catch (Exception e) {
+            throw new RestApiException(StatusCode.BAD_REQUEST, "잘못된 커서 값입니다.");
+        }
+    }
+
+    public static MovieCursor from(MovieListResponse movie) {
+        return new MovieCursor(movie.getMovieYear(), movie.getMovieSeq());
+    }
+}
@@ -0,0 +1,17 @@
+package com.flicker.movie.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+// 커서 기반 영화 목록 응답 (COUNT 없이 다음 페이지 존재 여부만 포함)
+@Data
+@AllArgsConstructor
+public class MovieCursorResponse {
+    private List<MovieListResponse> movieList;
+
+    private String nextCursor; // 다음 페이지 조회 시 전달할 커서 (마지막 페이지면 null)
+
+    private boolean hasNext;
+}
@@ -0,0 +1,19 @@
+package com.flicker.movie.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+// 필터 조건에 해당하는 영화 수와 장르, 국가, 연도별 영화 수
+@Data
+@AllArgsConstructor
+public class MovieFacetCountResponse {
+    private int totalCount;
+
+    private Map<String, Integer> genreCounts;
+
+    private Map<String, Integer> countryCounts;
+
+    private Map<Integer, Integer> yearCounts;
+}
@@ -0,0 +1,19 @@
+package com.flicker.movie.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+// 패싯 인덱스 구성을 위한 영화 문서 (장르, 국가, 제작 연도만 포함)
+@Data
+@Builder
+@AllArgsConstructor
+public class MovieFacetDocument {
+    private int movieSeq;
+
+    private String genre;
+
+    private String country;
+
+    private int movieYear;
+}
@@ -0,0 +1,15 @@
+package com.flicker.movie.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+// 장르, 국가, 연도 복합 필터 영화 목록 응답
+@Data
+@AllArgsConstructor
+public class MovieFilterResponse {
+    private List<MovieListResponse> movieList;
+
+    private MovieFacetCountResponse facetCounts;
+}
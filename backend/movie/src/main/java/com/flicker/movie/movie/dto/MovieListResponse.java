@@ -23,6 +23,19 @@ public class MovieListResponse {
 
     private String runningTime;
 
+    // QueryDSL 프로젝션용 생성자 (목록 조회 시 필요한 컬럼만 조회)
+    public MovieListResponse(int movieSeq, String movieTitle, String moviePosterUrl, Integer movieYear,
+                             String backgroundUrl, double movieRating, String audienceRating, String runningTime) {
+        this.movieSeq = movieSeq;
+        this.movieTitle = movieTitle;
+        this.moviePosterUrl = moviePosterUrl;
+        this.movieYear = movieYear;
+        this.backgroundUrl = backgroundUrl;
+        this.movieRating = movieRating;
+        this.audienceRating = audienceRating;
+        this.runningTime = runningTime;
+    }
+
     public MovieListResponse(Movie movie, MovieDetail movieDetail) {
         this.movieSeq = movie.getMovieSeq();
         this.movieTitle = movieDetail.getMovieTitle();
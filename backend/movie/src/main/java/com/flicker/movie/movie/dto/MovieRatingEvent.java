@@ -4,7 +4,7 @@ import lombok.Data;
 
 @Data
 public class MovieRatingEvent {
-    private int movieSeq;
+    private Integer movieSeq;
 
-    private double movieRating;
+    private Double movieRating;
 }
@@ -0,0 +1,25 @@
+package com.flicker.movie.movie.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+// 검색 인덱스 구성을 위한 영화 문서 (제목, 줄거리, 장르, 배우 이름만 포함)
+@Data
+@Builder
+@AllArgsConstructor
+public class MovieSearchDocument {
+    private int movieSeq;
+
+    private String movieTitle;
+
+    private String moviePlot;
+
+    private String genre;
+
+    private int movieYear;
+
+    private List<String> actorNames;
+}
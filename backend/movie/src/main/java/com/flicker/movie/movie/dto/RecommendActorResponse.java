@@ -2,8 +2,10 @@ package com.flicker.movie.movie.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
 public class RecommendActorResponse {
     private String actorName;
@@ -2,9 +2,13 @@ package com.flicker.movie.movie.dto;
 
 
 import com.flicker.movie.movie.domain.entity.WordCloud;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class WordCloudResponse {
     private String keyword;
     private int count;
@@ -1,21 +1,43 @@
 package com.flicker.movie.movie.infrastructure;
 
 import com.flicker.movie.movie.domain.entity.MongoUserAction;
-import org.springframework.data.domain.Pageable;
+import com.flicker.movie.movie.domain.entity.MongoUserActionBucket;
+import com.flicker.movie.movie.dto.KeywordCount;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
-import org.springframework.data.mongodb.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface MongoUserActionRepository extends MongoRepository<MongoUserAction, String> {
-    // 사용자 번호를 기반으로 사용자 행동 로그를 찾는 메서드 (페이징 처리), 최신 순으로 정렬
-    List<MongoUserAction> findByUserSeqAndActionInOrderByTimestampDesc(int userSeq, List<String> action ,Pageable pageable);
-    // 최근 24시간 내의 모든 사용자 행동 로그 중 type이 "DETAIL", "REVIEW" 인 것만 찾는 메서드
-    List<MongoUserAction> findByTimestampAfterAndActionInOrderByTimestampDesc(LocalDateTime timestamp, List<String> action);
+public interface MongoUserActionRepository extends MongoRepository<MongoUserActionBucket, String>, MongoUserActionRepositoryCustom {
+    // 사용자의 최근 bucketLimit일 버킷에서 action이 일치하는 행동 로그를 최신 순으로 limit개 조회하는 메서드 (userSeq, day 복합 인덱스 사용)
+    @Aggregation(pipeline = {
+            "{ $match: { userSeq: ?0 } }",
+            "{ $sort: { day: -1 } }",
+            "{ $limit: ?2 }",
+            "{ $unwind: '$actions' }",
+            "{ $match: { 'actions.action': { $in: ?1 } } }",
+            "{ $sort: { 'actions.timestamp': -1 } }",
+            "{ $limit: ?3 }",
+            "{ $replaceRoot: { newRoot: '$actions' } }"
+    })
+    List<MongoUserAction> findRecentActions(int userSeq, List<String> action, int bucketLimit, int limit);
 
-    void deleteByTimestampBefore(LocalDateTime sevenDaysAgo);
+    // day 이후 버킷의 행동 로그 중 timestamp 이후, action이 일치하는 로그를 키워드별로 집계하여 빈도수 상위 limit개를 조회하는 메서드
+    @Aggregation(pipeline = {
+            "{ $match: { day: { $gte: ?0 } } }",
+            "{ $unwind: '$actions' }",
+            "{ $match: { 'actions.timestamp': { $gt: ?1 }, 'actions.action': { $in: ?2 } } }",
+            "{ $group: { _id: '$actions.keyword', count: { $sum: 1 } } }",
+            "{ $sort: { count: -1, _id: 1 } }",
+            "{ $limit: ?3 }",
+            "{ $project: { _id: 0, keyword: '$_id', count: 1 } }"
+    })
+    List<KeywordCount> aggregateTopKeywords(LocalDate day, LocalDateTime timestamp, List<String> action, int limit);
+
+    // day 이전 버킷 삭제 (TTL 인덱스가 삭제하지 못한 버킷 정리용)
+    void deleteByDayBefore(LocalDate day);
 }
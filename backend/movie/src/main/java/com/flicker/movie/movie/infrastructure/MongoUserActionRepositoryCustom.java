@@ -0,0 +1,10 @@
+package com.flicker.movie.movie.infrastructure;
+
+import com.flicker.movie.movie.domain.entity.MongoUserAction;
+
+import java.util.List;
+
+public interface MongoUserActionRepositoryCustom {
+    // 사용자 행동 로그를 사용자별, 일별 버킷에 한 번의 bulkWrite로 추가 (버킷이 없으면 생성)
+    void appendToBuckets(List<MongoUserAction> mongoUserActions, int retentionDays, int maxActionsPerBucket);
+}
@@ -0,0 +1,53 @@
+package com.flicker.movie.movie.infrastructure;
+
+import com.flicker.movie.movie.domain.entity.MongoUserAction;
+import com.flicker.movie.movie.domain.entity.MongoUserActionBucket;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class MongoUserActionRepositoryCustomImpl implements MongoUserActionRepositoryCustom {
+
+    // MongoTemplate 주입 ( 버킷 upsert를 bulkWrite로 묶어서 실행 )
+    private final MongoTemplate mongoTemplate;
+
+    // 사용자 행동 로그를 버킷별로 묶어 $push 하는 메서드 (버킷당 최근 maxActionsPerBucket개만 유지, 0이면 제한 없음)
+    @Override
+    public void appendToBuckets(List<MongoUserAction> mongoUserActions, int retentionDays, int maxActionsPerBucket) {
+        // 1. 사용자 번호, 날짜별로 행동 로그 묶기
+        Map<String, List<MongoUserAction>> bucketActions = new LinkedHashMap<>();
+        for (MongoUserAction mongoUserAction : mongoUserActions) {
+            String bucketId = MongoUserActionBucket.bucketId(mongoUserAction.getUserSeq(), mongoUserAction.getTimestamp().toLocalDate());
+            bucketActions.computeIfAbsent(bucketId, k -> new ArrayList<>()).add(mongoUserAction);
+        }
+        // 2. 버킷별 upsert를 하나의 bulkWrite로 실행
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, MongoUserActionBucket.class);
+        for (Map.Entry<String, List<MongoUserAction>> entry : bucketActions.entrySet()) {
+            MongoUserAction first = entry.getValue().get(0);
+            LocalDate day = first.getTimestamp().toLocalDate();
+            Update update = new Update()
+                    .setOnInsert("userSeq", first.getUserSeq())
+                    .setOnInsert("day", day)
+                    .setOnInsert("expireAt", day.plusDays(retentionDays + 1L).atStartOfDay());
+            Update.PushOperatorBuilder push = update.push("actions");
+            if (maxActionsPerBucket > 0) {
+                push.slice(-maxActionsPerBucket);
+            }
+            push.each(entry.getValue().toArray());
+            bulkOperations.upsert(Query.query(Criteria.where("_id").is(entry.getKey())), update);
+        }
+        bulkOperations.execute();
+    }
+}
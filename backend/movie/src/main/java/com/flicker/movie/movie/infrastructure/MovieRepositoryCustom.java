@@ -1,11 +1,87 @@
 package com.flicker.movie.movie.infrastructure;
 
 import com.flicker.movie.movie.domain.entity.Movie;
+import com.flicker.movie.movie.domain.entity.WordCloud;
+import com.flicker.movie.movie.dto.MovieCursor;
+import com.flicker.movie.movie.dto.MovieFacetDocument;
+import com.flicker.movie.movie.dto.MovieListResponse;
+import com.flicker.movie.movie.dto.MovieSearchDocument;
+import com.flicker.movie.movie.dto.WordCloudResponse;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface MovieRepositoryCustom {
     // 영화 제목, 줄거리, 배우, 장르를 기준으로 키워드를 포함하는 영화 목록 조회
     List<Movie> findByKeywordInTitlePlotActorGenre(String keyword, String delYN, Pageable pageable);
+
+    // 검색 인덱스 구성을 위해 영화의 제목, 줄거리, 장르, 배우 이름만 조회
+    List<MovieSearchDocument> findAllForSearchIndex(String delYN);
+
+    // 영화 한 건 재색인을 위한 검색 문서 조회 (삭제되었거나 없으면 빈 목록)
+    List<MovieSearchDocument> findForSearchIndex(int movieSeq, String delYN);
+
+    // 아래 목록 조회 메서드는 엔티티 대신 MovieListResponse에 필요한 컬럼만 조회 (줄거리, 배우, 워드클라우드 제외)
+
+    // 영화 전체 목록 조회 (영화 제작 연도 내림차순, 영화 번호 오름차순)
+    List<MovieListResponse> findMovieListAll(String delYN, Pageable pageable);
+
+    // 장르별 영화 목록 조회 (영화 제작 연도 내림차순, 영화 번호 오름차순)
+    List<MovieListResponse> findMovieListByGenre(String genre, String delYN, Pageable pageable);
+
+    // 해당 배우가 출연한 영화 목록 조회 (영화 제작 연도 내림차순, 영화 번호 내림차순)
+    List<MovieListResponse> findMovieListByActor(String actorName, String delYN, Pageable pageable);
+
+    // 국가별 영화 목록 조회 (영화 제작 연도 내림차순, 영화 번호 오름차순)
+    List<MovieListResponse> findMovieListByCountry(String country, String delYN, Pageable pageable);
+
+    // 연도별 영화 목록 조회 (영화 번호 오름차순)
+    List<MovieListResponse> findMovieListByYear(int year, String delYN, Pageable pageable);
+
+    // 패싯 인덱스 구성을 위한 영화 장르, 국가, 제작 연도 조회
+    List<MovieFacetDocument> findAllForFacetIndex(String delYN);
+
+    // 영화 한 건 재색인을 위한 패싯 문서 조회 (삭제되었거나 없으면 빈 목록)
+    List<MovieFacetDocument> findForFacetIndex(int movieSeq, String delYN);
+
+    // 커서 이후의 전체 영화 목록 조회 (cursor가 null이면 첫 페이지)
+    List<MovieListResponse> findMovieListAllByCursor(MovieCursor cursor, String delYN, int limit);
+
+    // 커서 이후의 장르별 영화 목록 조회
+    List<MovieListResponse> findMovieListByGenreByCursor(String genre, MovieCursor cursor, String delYN, int limit);
+
+    // 커서 이후의 배우별 영화 목록 조회
+    List<MovieListResponse> findMovieListByActorByCursor(String actorName, MovieCursor cursor, String delYN, int limit);
+
+    // 커서 이후의 국가별 영화 목록 조회
+    List<MovieListResponse> findMovieListByCountryByCursor(String country, MovieCursor cursor, String delYN, int limit);
+
+    // 커서 이후의 연도별 영화 목록 조회
+    List<MovieListResponse> findMovieListByYearByCursor(int year, MovieCursor cursor, String delYN, int limit);
+
+    // 영화 평점 일괄 수정 (영화 번호 -> 평점, JDBC 배치 UPDATE)
+    void batchUpdateMovieRating(Map<Integer, Double> movieRatings);
+
+    // 영화 번호 목록 중 실제로 존재하는 영화 번호 조회
+    List<Integer> findExistingMovieSeqs(Collection<Integer> movieSeqs);
+
+    // 영화 번호 목록에 해당하는 영화별 주연 배우 번호, 이름 조회 (영화, 배우 엔티티 로딩 없이 조회)
+    Map<Integer, Map<Integer, String>> findLeadActorNamesByMovieSeqIn(Collection<Integer> movieSeqs);
+
+    // 영화 번호 목록에 해당하는 워드 클라우드를 하나의 DELETE 문으로 삭제
+    void deleteWordCloudsByMovieSeqIn(Collection<Integer> movieSeqs);
+
+    // 영화의 워드 클라우드를 빈도수 내림차순으로 limit개 조회
+    List<WordCloudResponse> findTopWordClouds(int movieSeq, int limit);
+
+    // 워드 클라우드 일괄 저장 (영화 번호 -> 워드 클라우드 목록, JDBC 배치 INSERT)
+    void batchInsertWordClouds(Map<Integer, List<WordCloud>> wordClouds);
+
+    // 영화 고유 식별자 목록을 기준으로 영화 목록 조회
+    List<MovieListResponse> findMovieListBySeqIn(List<Integer> movieSeqs, String delYN);
+
+    // 영화 제목 목록에 포함되는 영화 목록 조회 (제목, 연도 일괄 조회용)
+    List<MovieListResponse> findMovieListByTitleIn(Collection<String> movieTitles, String delYN);
 }
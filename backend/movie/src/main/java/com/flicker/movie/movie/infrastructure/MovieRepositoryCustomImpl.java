@@ -1,22 +1,48 @@
 package com.flicker.movie.movie.infrastructure;
 
 import com.flicker.movie.movie.domain.entity.Movie;
+import com.flicker.movie.movie.domain.entity.WordCloud;
+import com.flicker.movie.movie.dto.MovieCursor;
+import com.flicker.movie.movie.dto.MovieFacetDocument;
+import com.flicker.movie.movie.dto.MovieListResponse;
+import com.flicker.movie.movie.dto.MovieSearchDocument;
+import com.flicker.movie.movie.dto.WordCloudResponse;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 import com.querydsl.core.types.dsl.BooleanExpression;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static com.flicker.movie.movie.domain.entity.QActor.actor;
 import static com.flicker.movie.movie.domain.entity.QMovie.movie;
+import static com.flicker.movie.movie.domain.entity.QWordCloud.wordCloud;
 
 
 @Repository
 @RequiredArgsConstructor
 public class MovieRepositoryCustomImpl implements MovieRepositoryCustom {
+    // JDBC 배치 INSERT 한 번에 전송할 최대 행 수
+    private static final int INSERT_BATCH_SIZE = 1000;
+
     // JPAQueryFactory 주입 ( QueryDSL 사용 )
     private final JPAQueryFactory queryFactory;
+    // JdbcTemplate 주입 ( 엔티티 로딩 없는 일괄 수정용 )
+    private final JdbcTemplate jdbcTemplate;
 
     // 키워드가 제목, 줄거리, 장르 또는 배우 이름에 포함된 영화 목록을 조회하는 메서드
     @Override
@@ -44,4 +70,286 @@ public class MovieRepositoryCustomImpl implements MovieRepositoryCustom {
                 .or(movie.movieDetail.genre.like(keywordPattern))
                 .or(actor.actorName.like(keywordPattern));
     }
+
+    // 검색 인덱스 구성을 위해 영화 기본 정보와 배우 이름을 각각 한 번의 쿼리로 조회하는 메서드
+    @Override
+    public List<MovieSearchDocument> findAllForSearchIndex(String delYN) {
+        return fetchSearchDocuments(movie.delYN.eq(delYN));
+    }
+
+    // 영화 한 건을 재색인하기 위해 영화 기본 정보와 배우 이름을 조회하는 메서드
+    @Override
+    public List<MovieSearchDocument> findForSearchIndex(int movieSeq, String delYN) {
+        return fetchSearchDocuments(movie.movieSeq.eq(movieSeq).and(movie.delYN.eq(delYN)));
+    }
+
+    // 조건에 맞는 영화의 검색 문서 조회 (영화 기본 정보 1회 + 배우 이름 1회)
+    private List<MovieSearchDocument> fetchSearchDocuments(BooleanExpression condition) {
+        // 1. 영화 기본 정보 조회 (연관 엔티티 로딩 없이 필요한 컬럼만 조회)
+        List<Tuple> movieTuples = queryFactory
+                .select(movie.movieSeq, movie.movieDetail.movieTitle, movie.movieDetail.moviePlot,
+                        movie.movieDetail.genre, movie.movieDetail.movieYear)
+                .from(movie)
+                .where(condition)
+                .fetch();
+        Map<Integer, MovieSearchDocument> documents = new HashMap<>();
+        for (Tuple tuple : movieTuples) {
+            Integer movieSeq = tuple.get(movie.movieSeq);
+            documents.put(movieSeq, MovieSearchDocument.builder()
+                    .movieSeq(movieSeq)
+                    .movieTitle(tuple.get(movie.movieDetail.movieTitle))
+                    .moviePlot(tuple.get(movie.movieDetail.moviePlot))
+                    .genre(tuple.get(movie.movieDetail.genre))
+                    .movieYear(tuple.get(movie.movieDetail.movieYear))
+                    .actorNames(new ArrayList<>())
+                    .build());
+        }
+        // 2. 배우 이름 조회 후 영화별로 묶기
+        List<Tuple> actorTuples = queryFactory
+                .select(movie.movieSeq, actor.actorName)
+                .from(actor)
+                .join(actor.movie, movie)
+                .where(condition)
+                .fetch();
+        for (Tuple tuple : actorTuples) {
+            MovieSearchDocument document = documents.get(tuple.get(movie.movieSeq));
+            if (document != null) {
+                document.getActorNames().add(tuple.get(actor.actorName));
+            }
+        }
+        return new ArrayList<>(documents.values());
+    }
+
+    // 패싯 인덱스 구성을 위해 영화 장르, 국가, 제작 연도만 한 번의 쿼리로 조회하는 메서드
+    @Override
+    public List<MovieFacetDocument> findAllForFacetIndex(String delYN) {
+        return fetchFacetDocuments(movie.delYN.eq(delYN));
+    }
+
+    // 영화 한 건을 재색인하기 위해 영화 장르, 국가, 제작 연도를 조회하는 메서드
+    @Override
+    public List<MovieFacetDocument> findForFacetIndex(int movieSeq, String delYN) {
+        return fetchFacetDocuments(movie.movieSeq.eq(movieSeq).and(movie.delYN.eq(delYN)));
+    }
+
+    // 조건에 맞는 영화의 패싯 문서 조회
+    private List<MovieFacetDocument> fetchFacetDocuments(BooleanExpression condition) {
+        return queryFactory
+                .select(Projections.constructor(MovieFacetDocument.class,
+                        movie.movieSeq,
+                        movie.movieDetail.genre,
+                        movie.movieDetail.country,
+                        movie.movieDetail.movieYear))
+                .from(movie)
+                .where(condition)
+                .fetch();
+    }
+
+    @Override
+    public List<MovieListResponse> findMovieListAll(String delYN, Pageable pageable) {
+        return fetchMovieList(movie.delYN.eq(delYN), pageable,
+                movie.movieDetail.movieYear.desc(), movie.movieSeq.asc());
+    }
+
+    @Override
+    public List<MovieListResponse> findMovieListByGenre(String genre, String delYN, Pageable pageable) {
+        return fetchMovieList(movie.delYN.eq(delYN).and(movie.movieDetail.genre.contains(genre)), pageable,
+                movie.movieDetail.movieYear.desc(), movie.movieSeq.asc());
+    }
+
+    @Override
+    public List<MovieListResponse> findMovieListByActor(String actorName, String delYN, Pageable pageable) {
+        return fetchMovieList(movie.delYN.eq(delYN).and(actorNameEq(actorName)), pageable,
+                movie.movieDetail.movieYear.desc(), movie.movieSeq.desc());
+    }
+
+    @Override
+    public List<MovieListResponse> findMovieListByCountry(String country, String delYN, Pageable pageable) {
+        return fetchMovieList(movie.delYN.eq(delYN).and(movie.movieDetail.country.contains(country)), pageable,
+                movie.movieDetail.movieYear.desc(), movie.movieSeq.asc());
+    }
+
+    @Override
+    public List<MovieListResponse> findMovieListByYear(int year, String delYN, Pageable pageable) {
+        return fetchMovieList(movie.delYN.eq(delYN).and(movie.movieDetail.movieYear.eq(year)), pageable,
+                movie.movieSeq.asc());
+    }
+
+    @Override
+    public List<MovieListResponse> findMovieListAllByCursor(MovieCursor cursor, String delYN, int limit) {
+        return fetchMovieListByCursor(movie.delYN.eq(delYN).and(afterCursor(cursor, true)), limit,
+                movie.movieDetail.movieYear.desc(), movie.movieSeq.asc());
+    }
+
+    @Override
+    public List<MovieListResponse> findMovieListByGenreByCursor(String genre, MovieCursor cursor, String delYN, int limit) {
+        return fetchMovieListByCursor(movie.delYN.eq(delYN).and(movie.movieDetail.genre.contains(genre)).and(afterCursor(cursor, true)), limit,
+                movie.movieDetail.movieYear.desc(), movie.movieSeq.asc());
+    }
+
+    @Override
+    public List<MovieListResponse> findMovieListByActorByCursor(String actorName, MovieCursor cursor, String delYN, int limit) {
+        return fetchMovieListByCursor(movie.delYN.eq(delYN).and(actorNameEq(actorName)).and(afterCursor(cursor, false)), limit,
+                movie.movieDetail.movieYear.desc(), movie.movieSeq.desc());
+    }
+
+    @Override
+    public List<MovieListResponse> findMovieListByCountryByCursor(String country, MovieCursor cursor, String delYN, int limit) {
+        return fetchMovieListByCursor(movie.delYN.eq(delYN).and(movie.movieDetail.country.contains(country)).and(afterCursor(cursor, true)), limit,
+                movie.movieDetail.movieYear.desc(), movie.movieSeq.asc());
+    }
+
+    @Override
+    public List<MovieListResponse> findMovieListByYearByCursor(int year, MovieCursor cursor, String delYN, int limit) {
+        // 연도가 고정되어 있으므로 커서 조건은 영화 번호 비교만 의미를 가짐
+        return fetchMovieListByCursor(movie.delYN.eq(delYN).and(movie.movieDetail.movieYear.eq(year)).and(afterCursor(cursor, true)), limit,
+                movie.movieSeq.asc());
+    }
+
+    // 영화 평점을 엔티티 로딩 없이 하나의 JDBC 배치로 수정하는 메서드
+    @Override
+    public void batchUpdateMovieRating(Map<Integer, Double> movieRatings) {
+        List<Object[]> batchArgs = new ArrayList<>(movieRatings.size());
+        for (Map.Entry<Integer, Double> entry : movieRatings.entrySet()) {
+            batchArgs.add(new Object[]{entry.getValue(), entry.getKey()});
+        }
+        jdbcTemplate.batchUpdate("UPDATE movie SET movie_rating = ? WHERE movie_seq = ?", batchArgs);
+    }
+
+    @Override
+    public List<Integer> findExistingMovieSeqs(Collection<Integer> movieSeqs) {
+        return queryFactory
+                .select(movie.movieSeq)
+                .from(movie)
+                .where(movie.movieSeq.in(movieSeqs))
+                .fetch();
+    }
+
+    // 역할에 "주연"이 포함된 배우 번호, 이름만 영화별로 묶어서 조회하는 메서드
+    @Override
+    public Map<Integer, Map<Integer, String>> findLeadActorNamesByMovieSeqIn(Collection<Integer> movieSeqs) {
+        List<Tuple> rows = queryFactory
+                .select(actor.movie.movieSeq, actor.actorSeq, actor.actorName)
+                .from(actor)
+                .where(actor.movie.movieSeq.in(movieSeqs).and(actor.role.contains("주연")))
+                .orderBy(actor.actorSeq.asc())
+                .fetch();
+        Map<Integer, Map<Integer, String>> leadActors = new HashMap<>();
+        for (Tuple row : rows) {
+            leadActors.computeIfAbsent(row.get(actor.movie.movieSeq), k -> new LinkedHashMap<>())
+                    .put(row.get(actor.actorSeq), row.get(actor.actorName));
+        }
+        return leadActors;
+    }
+
+    // 영화별로 한 건씩 삭제하지 않고 하나의 DELETE 문으로 삭제하는 메서드
+    @Override
+    public void deleteWordCloudsByMovieSeqIn(Collection<Integer> movieSeqs) {
+        String placeholders = String.join(", ", Collections.nCopies(movieSeqs.size(), "?"));
+        jdbcTemplate.update("DELETE FROM word_cloud WHERE movie_seq IN (" + placeholders + ")", movieSeqs.toArray());
+    }
+
+    // 영화 엔티티 로딩 없이 상위 워드 클라우드만 DB에서 정렬하여 조회하는 메서드
+    @Override
+    public List<WordCloudResponse> findTopWordClouds(int movieSeq, int limit) {
+        return queryFactory
+                .select(Projections.constructor(WordCloudResponse.class, wordCloud.keyword, wordCloud.count))
+                .from(wordCloud)
+                .where(wordCloud.movie.movieSeq.eq(movieSeq))
+                .orderBy(wordCloud.count.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 워드 클라우드를 INSERT_BATCH_SIZE 단위의 JDBC 배치로 저장하는 메서드
+    @Override
+    public void batchInsertWordClouds(Map<Integer, List<WordCloud>> wordClouds) {
+        List<Object[]> rows = new ArrayList<>();
+        for (Map.Entry<Integer, List<WordCloud>> entry : wordClouds.entrySet()) {
+            for (WordCloud wordCloud : entry.getValue()) {
+                rows.add(new Object[]{wordCloud.getKeyword(), wordCloud.getCount(), Timestamp.valueOf(wordCloud.getCreatedAt()), entry.getKey()});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO word_cloud (keyword, count, created_at, movie_seq) VALUES (?, ?, ?, ?)",
+                rows, INSERT_BATCH_SIZE, (ps, row) -> {
+                    ps.setString(1, (String) row[0]);
+                    ps.setInt(2, (Integer) row[1]);
+                    ps.setTimestamp(3, (Timestamp) row[2]);
+                    ps.setInt(4, (Integer) row[3]);
+                });
+    }
+
+    @Override
+    public List<MovieListResponse> findMovieListBySeqIn(List<Integer> movieSeqs, String delYN) {
+        return queryFactory
+                .select(movieListProjection())
+                .from(movie)
+                .where(movie.delYN.eq(delYN).and(movie.movieSeq.in(movieSeqs)))
+                .fetch();
+    }
+
+    @Override
+    public List<MovieListResponse> findMovieListByTitleIn(Collection<String> movieTitles, String delYN) {
+        return queryFactory
+                .select(movieListProjection())
+                .from(movie)
+                .where(movie.delYN.eq(delYN).and(movie.movieDetail.movieTitle.in(movieTitles)))
+                .fetch();
+    }
+
+    // 조건, 정렬, 페이지에 맞는 MovieListResponse 목록을 조회하는 메서드 (COUNT 쿼리 없음)
+    private List<MovieListResponse> fetchMovieList(BooleanExpression condition, Pageable pageable, OrderSpecifier<?>... orders) {
+        return queryFactory
+                .select(movieListProjection())
+                .from(movie)
+                .where(condition)
+                .orderBy(orders)
+                .offset(pageable.getOffset()) // 시작 위치
+                .limit(pageable.getPageSize()) // 페이지 크기
+                .fetch();
+    }
+
+    // 커서 이후의 MovieListResponse 목록을 조회하는 메서드 (OFFSET 없이 인덱스 탐색으로 시작 위치 결정)
+    private List<MovieListResponse> fetchMovieListByCursor(BooleanExpression condition, int limit, OrderSpecifier<?>... orders) {
+        return queryFactory
+                .select(movieListProjection())
+                .from(movie)
+                .where(condition)
+                .orderBy(orders)
+                .limit(limit)
+                .fetch();
+    }
+
+    // (제작 연도 내림차순, 영화 번호 오름차순/내림차순) 정렬 기준으로 커서 이후의 행만 조회하는 조건
+    private BooleanExpression afterCursor(MovieCursor cursor, boolean movieSeqAsc) {
+        if (cursor == null) {
+            return null; // 첫 페이지는 조건 없음
+        }
+        BooleanExpression sameYearAfter = movieSeqAsc
+                ? movie.movieSeq.gt(cursor.getMovieSeq())
+                : movie.movieSeq.lt(cursor.getMovieSeq());
+        return movie.movieDetail.movieYear.lt(cursor.getMovieYear())
+                .or(movie.movieDetail.movieYear.eq(cursor.getMovieYear()).and(sameYearAfter));
+    }
+
+    // 배우 조인 대신 서브쿼리를 사용하여 영화 한 건당 한 행만 조회
+    private BooleanExpression actorNameEq(String actorName) {
+        return movie.movieSeq.in(JPAExpressions
+                .select(actor.movie.movieSeq)
+                .from(actor)
+                .where(actor.actorName.eq(actorName)));
+    }
+
+    // MovieListResponse 생성에 필요한 컬럼만 선택하는 프로젝션
+    private ConstructorExpression<MovieListResponse> movieListProjection() {
+        return Projections.constructor(MovieListResponse.class,
+                movie.movieSeq,
+                movie.movieDetail.movieTitle,
+                movie.movieDetail.moviePosterUrl,
+                movie.movieDetail.movieYear,
+                movie.movieDetail.backgroundUrl,
+                movie.movieRating,
+                movie.movieDetail.audienceRating,
+                movie.movieDetail.runningTime);
+    }
 }
@@ -0,0 +1,9 @@
+package com.flicker.movie.movie.infrastructure;
+
+import com.flicker.movie.movie.domain.entity.ProcessedOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ProcessedOffsetRepository extends JpaRepository<ProcessedOffset, String>, ProcessedOffsetRepositoryCustom {
+}
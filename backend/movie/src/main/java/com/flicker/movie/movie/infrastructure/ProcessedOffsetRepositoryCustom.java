@@ -0,0 +1,12 @@
+package com.flicker.movie.movie.infrastructure;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ProcessedOffsetRepositoryCustom {
+    // 파티션별 마지막 처리 오프셋을 행 잠금과 함께 조회 (같은 파티션을 동시에 처리하는 컨슈머는 커밋까지 대기)
+    Map<String, Long> findLastOffsetsForUpdate(Collection<String> offsetKeys);
+
+    // 파티션별 마지막 처리 오프셋 저장 (기존 값보다 큰 경우에만 갱신)
+    void upsertLastOffsets(Map<String, Long> lastOffsets);
+}
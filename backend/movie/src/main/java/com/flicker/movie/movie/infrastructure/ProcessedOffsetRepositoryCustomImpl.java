@@ -0,0 +1,42 @@
+package com.flicker.movie.movie.infrastructure;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ProcessedOffsetRepositoryCustomImpl implements ProcessedOffsetRepositoryCustom {
+
+    // JdbcTemplate 주입 ( 행 잠금 조회, upsert용 )
+    private final JdbcTemplate jdbcTemplate;
+
+    // 하나의 SELECT ... FOR UPDATE로 파티션별 마지막 처리 오프셋을 조회하는 메서드
+    @Override
+    public Map<String, Long> findLastOffsetsForUpdate(Collection<String> offsetKeys) {
+        String placeholders = String.join(", ", Collections.nCopies(offsetKeys.size(), "?"));
+        Map<String, Long> lastOffsets = new HashMap<>();
+        jdbcTemplate.query("SELECT offset_key, last_offset FROM processed_offset WHERE offset_key IN (" + placeholders + ") FOR UPDATE",
+                rs -> {
+                    lastOffsets.put(rs.getString("offset_key"), rs.getLong("last_offset"));
+                }, offsetKeys.toArray());
+        return lastOffsets;
+    }
+
+    // 파티션별 마지막 처리 오프셋을 JDBC 배치로 upsert 하는 메서드
+    @Override
+    public void upsertLastOffsets(Map<String, Long> lastOffsets) {
+        jdbcTemplate.batchUpdate("INSERT INTO processed_offset (offset_key, last_offset, updated_at) VALUES (?, ?, NOW()) " +
+                        "ON DUPLICATE KEY UPDATE last_offset = GREATEST(last_offset, VALUES(last_offset)), updated_at = NOW()",
+                new ArrayList<>(lastOffsets.entrySet()), lastOffsets.size(), (ps, entry) -> {
+                    ps.setString(1, entry.getKey());
+                    ps.setLong(2, entry.getValue());
+                });
+    }
+}
@@ -0,0 +1,18 @@
+package com.flicker.movie.movie.infrastructure;
+
+import com.flicker.movie.movie.domain.entity.RecommendActor;
+import com.flicker.movie.movie.dto.RecommendActorResponse;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface RecommendActorRepositoryCustom {
+    // 사용자의 추천 배우를 배우 이름, 영화 제목 형태로 조회 (영화, 배우 엔티티 로딩 없이 조회)
+    List<RecommendActorResponse> findRecommendActorList(int userSeq);
+
+    // 사용자 번호 목록에 해당하는 추천 배우를 하나의 DELETE 문으로 삭제
+    void deleteByUserSeqIn(Collection<Integer> userSeqs);
+
+    // 추천 배우 목록을 JDBC 배치로 저장
+    void batchInsert(List<RecommendActor> recommendActors);
+}
@@ -0,0 +1,59 @@
+package com.flicker.movie.movie.infrastructure;
+
+import com.flicker.movie.movie.domain.entity.RecommendActor;
+import com.flicker.movie.movie.dto.RecommendActorResponse;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static com.flicker.movie.movie.domain.entity.QActor.actor;
+import static com.flicker.movie.movie.domain.entity.QMovie.movie;
+import static com.flicker.movie.movie.domain.entity.QRecommendActor.recommendActor;
+
+@Repository
+@RequiredArgsConstructor
+public class RecommendActorRepositoryCustomImpl implements RecommendActorRepositoryCustom {
+    // JDBC 배치 INSERT 한 번에 전송할 최대 행 수
+    private static final int INSERT_BATCH_SIZE = 1000;
+
+    // JPAQueryFactory 주입 ( QueryDSL 사용 )
+    private final JPAQueryFactory queryFactory;
+    // JdbcTemplate 주입 ( 엔티티 로딩 없는 일괄 삭제, 저장용 )
+    private final JdbcTemplate jdbcTemplate;
+
+    // 추천 배우, 배우, 영화를 조인하여 배우 이름과 영화 제목만 조회하는 메서드
+    @Override
+    public List<RecommendActorResponse> findRecommendActorList(int userSeq) {
+        return queryFactory
+                .select(Projections.constructor(RecommendActorResponse.class, actor.actorName, movie.movieDetail.movieTitle))
+                .from(recommendActor)
+                .join(actor).on(actor.actorSeq.eq(recommendActor.actorSeq))
+                .join(actor.movie, movie)
+                .where(recommendActor.userSeq.eq(userSeq))
+                .fetch();
+    }
+
+    // 추천 배우를 한 건씩 조회 후 삭제하지 않고 하나의 DELETE 문으로 삭제하는 메서드
+    @Override
+    public void deleteByUserSeqIn(Collection<Integer> userSeqs) {
+        String placeholders = String.join(", ", Collections.nCopies(userSeqs.size(), "?"));
+        jdbcTemplate.update("DELETE FROM recommend_actor WHERE user_seq IN (" + placeholders + ")", userSeqs.toArray());
+    }
+
+    // 추천 배우를 INSERT_BATCH_SIZE 단위의 JDBC 배치로 저장하는 메서드
+    @Override
+    public void batchInsert(List<RecommendActor> recommendActors) {
+        jdbcTemplate.batchUpdate("INSERT INTO recommend_actor (user_seq, actor_seq, movie_seq) VALUES (?, ?, ?)",
+                recommendActors, INSERT_BATCH_SIZE, (ps, recommendActor) -> {
+                    ps.setInt(1, recommendActor.getUserSeq());
+                    ps.setInt(2, recommendActor.getActorSeq());
+                    ps.setInt(3, recommendActor.getMovieSeq());
+                });
+    }
+}
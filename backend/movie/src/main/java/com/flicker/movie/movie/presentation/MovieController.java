@@ -25,12 +25,15 @@ import java.util.List;
  * getAllMovieList() 메서드는 모든 영화 리스트를 조회한다.
  * getMovieListByGenre() 메서드는 장르별 영화 리스트를 조회한다.
  * getMovieListByActor() 메서드는 배우별 영화 리스트를 조회한다.
+ * get...ByCursor() 메서드는 커서 기반으로 영화 리스트를 조회한다. (무한 스크롤용)
+ * getMovieListByFilter() 메서드는 장르, 국가, 연도 복합 필터 영화 리스트와 패싯별 영화 수를 조회한다.
  * getMovieListByKeyword() 메서드는 키워드를 포함하는 영화 리스트를 조회한다.
  * getMovieDetail() 메서드는 영화 상세 정보를 조회한다.
  * getMovieListByMovieSeqList() 메서드는 영화 ID 리스트로 영화 리스트를 조회한다.
  * getRecommendationList() 메서드는 추천된 영화 리스트를 조회한다.
  * getUserActionList() 메서드는 사용자 행동 로그를 조회한다.
  * getTopMovieList() 메서드는 Top10 영화 리스트를 조회한다.
+ * getTrendingMovieList() 메서드는 최근 1시간/24시간 실시간 트렌딩 영화 리스트를 조회한다.
  */
 @RequiredArgsConstructor
 @RestController
@@ -126,6 +129,49 @@ public class MovieController {
         return ResponseDto.response(StatusCode.SUCCESS, response);
     }
 
+    // 전체 영화 목록 커서 조회 (무한 스크롤용)
+    @GetMapping("/list/cursor/{size}")
+    public ResponseEntity<ResponseDto> getAllMovieListByCursor(@PathVariable int size, @RequestParam(required = false) String cursor) {
+        MovieCursorResponse response = movieService.getAllMovieListByCursor(cursor, size);
+        return ResponseDto.response(StatusCode.SUCCESS, response);
+    }
+
+    // 장르별 영화 목록 커서 조회
+    @GetMapping("/list/genre/{genre}/cursor/{size}")
+    public ResponseEntity<ResponseDto> getMovieListByGenreByCursor(@PathVariable String genre, @PathVariable int size, @RequestParam(required = false) String cursor) {
+        MovieCursorResponse response = movieService.getMovieListByGenreByCursor(genre, cursor, size);
+        return ResponseDto.response(StatusCode.SUCCESS, response);
+    }
+
+    // 국가별 영화 목록 커서 조회
+    @GetMapping("/list/country/{country}/cursor/{size}")
+    public ResponseEntity<ResponseDto> getMovieListByCountryByCursor(@PathVariable String country, @PathVariable int size, @RequestParam(required = false) String cursor) {
+        MovieCursorResponse response = movieService.getMovieListByCountryByCursor(country, cursor, size);
+        return ResponseDto.response(StatusCode.SUCCESS, response);
+    }
+
+    // 연도별 영화 목록 커서 조회
+    @GetMapping("/list/year/{year}/cursor/{size}")
+    public ResponseEntity<ResponseDto> getMovieListByYearByCursor(@PathVariable int year, @PathVariable int size, @RequestParam(required = false) String cursor) {
+        MovieCursorResponse response = movieService.getMovieListByYearByCursor(year, cursor, size);
+        return ResponseDto.response(StatusCode.SUCCESS, response);
+    }
+
+    // 배우별 영화 목록 커서 조회
+    @GetMapping("/list/actor/{actorName}/cursor/{size}")
+    public ResponseEntity<ResponseDto> getMovieListByActorByCursor(@PathVariable String actorName, @PathVariable int size, @RequestParam(required = false) String cursor) {
+        MovieCursorResponse response = movieService.getMovieListByActorByCursor(actorName, cursor, size);
+        return ResponseDto.response(StatusCode.SUCCESS, response);
+    }
+
+    // 장르, 국가, 연도 복합 필터 영화 목록 및 패싯별 영화 수 조회
+    @GetMapping("/list/filter/{page}/{size}")
+    public ResponseEntity<ResponseDto> getMovieListByFilter(@RequestParam(required = false) String genre, @RequestParam(required = false) String country,
+                                                            @RequestParam(required = false) Integer year, @PathVariable int page, @PathVariable int size) {
+        MovieFilterResponse response = movieService.getMovieListByFilter(genre, country, year, page, size);
+        return ResponseDto.response(StatusCode.SUCCESS, response);
+    }
+
     // 검색 영화 목록 조회
     @GetMapping("/list/search/{keyword}/{userSeq}/{page}/{size}")
     public ResponseEntity<ResponseDto> getMovieListByKeyword(@PathVariable String keyword, @PathVariable int userSeq, @PathVariable int page, @PathVariable int size) {
@@ -168,6 +214,13 @@ public class MovieController {
         return ResponseDto.response(StatusCode.SUCCESS, response);
     }
 
+    // 실시간 트렌딩 영화 목록 조회 (window: 1h, 24h)
+    @GetMapping("/list/trending")
+    public ResponseEntity<ResponseDto> getTrendingMovieList(@RequestParam(defaultValue = "1h") String window, @RequestParam(defaultValue = "10") int size) {
+        List<MovieListResponse> response = movieService.getTrendingMovieList(window, size);
+        return ResponseDto.response(StatusCode.SUCCESS, response);
+    }
+
     // 영화 워드클라우드 조회
     @GetMapping("/wordCloud/{movieSeq}")
     public ResponseEntity<ResponseDto> getWordCloud(@PathVariable int movieSeq) {